@@ -57,11 +57,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registration.interceptors(stompHandler);
     }
 
-    // 메시지 보낼 때 용량 제한
+    // 메시지 보낼 때 용량 제한 (이미지는 POST /messages/{chatId}/images 로 업로드하고 키만 전송)
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
-        registry.setMessageSizeLimit(20 * 1024 * 1024); // 메시지 크기 제한: 20MB
-        registry.setSendBufferSizeLimit(20 * 1024 * 1024); // 버퍼 크기 제한: 20MB
+        registry.setMessageSizeLimit(16 * 1024); // 메시지 크기 제한: 16KB
+        registry.setSendBufferSizeLimit(512 * 1024); // 버퍼 크기 제한: 512KB
         registry.setSendTimeLimit(20000); // 메시지 보낼 시간 제한: 20초
     }
 
@@ -1,19 +1,32 @@
 package com.beautymeongdang.domain.chat.controller;
 
+import com.beautymeongdang.domain.chat.dto.CreateChatImageResponseDto;
 import com.beautymeongdang.domain.chat.dto.CreateChatMessageRequestDto;
 import com.beautymeongdang.domain.chat.dto.CreateChatMessageResponseDto;
 import com.beautymeongdang.domain.chat.dto.DeleteChatMessageResponseDto;
 import com.beautymeongdang.domain.chat.dto.GetChatMessageListResponseDto;
+import com.beautymeongdang.domain.chat.dto.GetChatReplayResponseDto;
+import com.beautymeongdang.domain.chat.dto.ReadChatMessageRequestDto;
+import com.beautymeongdang.domain.chat.dto.TypingChatRequestDto;
 import com.beautymeongdang.domain.chat.pubsub.RedisPublisher;
 import com.beautymeongdang.domain.chat.service.ChatMessageService;
+import com.beautymeongdang.domain.chat.service.ChatRoomLog;
 import com.beautymeongdang.global.common.dto.ApiResponse;
+import com.beautymeongdang.global.oauth2.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @RestController
@@ -23,6 +36,7 @@ public class ChatMessageController {
 
     private final ChatMessageService chatMessageService;
     private final RedisPublisher redisPublisher;
+    private final ChatRoomLog chatRoomLog;
     private final SimpMessageSendingOperations messagingTemplate;
 
 
@@ -44,10 +58,67 @@ public class ChatMessageController {
     }
 
 
-    // 채팅 조회
+    /**
+     *  메시지 읽음 처리 (세션 회원 기준으로 messageId까지 읽음)
+     */
+    @MessageMapping("/chat/read")
+    public void readMessages(@Payload ReadChatMessageRequestDto requestDto, SimpMessageHeaderAccessor accessor) {
+        Long userId = Long.valueOf((String) accessor.getSessionAttributes().get("UserId"));
+        Boolean customerYn = Boolean.valueOf((String) accessor.getSessionAttributes().get("CustomerYn"));
+        chatMessageService.readMessages(requestDto.getChatId(), userId, customerYn, requestDto.getMessageId());
+    }
+
+
+    /**
+     *  입력 중 표시 (채팅방에 저장하지 않는 TYPING 프레임으로 전달)
+     */
+    @MessageMapping("/chat/typing")
+    public void typing(@Payload TypingChatRequestDto requestDto, SimpMessageHeaderAccessor accessor) {
+        Long userId = Long.valueOf((String) accessor.getSessionAttributes().get("UserId"));
+        Boolean customerYn = Boolean.valueOf((String) accessor.getSessionAttributes().get("CustomerYn"));
+        chatMessageService.typing(requestDto.getChatId(), userId, customerYn, requestDto.isTyping());
+    }
+
+
+    /**
+     *  상대방 접속 상태 조회 (구독한 세션에만 PRESENCE 프레임 전달, 이후 변경은 채팅방 구독으로 수신)
+     */
+    @SubscribeMapping("/chat/room/{chatId}/presence")
+    public CreateChatMessageResponseDto getPartnerPresence(@DestinationVariable("chatId") Long chatId,
+                                                           SimpMessageHeaderAccessor accessor) {
+        Long userId = Long.valueOf((String) accessor.getSessionAttributes().get("UserId"));
+        Boolean customerYn = Boolean.valueOf((String) accessor.getSessionAttributes().get("CustomerYn"));
+        return chatMessageService.getPartnerPresence(chatId, userId, customerYn);
+    }
+
+
+    /**
+     *  재연결 시 놓친 메시지 조회 (LastSequence 헤더 이후 메시지를 구독한 세션에만 전달)
+     */
+    @SubscribeMapping("/chat/room/{chatId}/replay")
+    public GetChatReplayResponseDto replayMessages(@DestinationVariable("chatId") Long chatId,
+                                                   @Header(name = "LastSequence", required = false) String lastSequence) {
+        return chatRoomLog.readAfter(chatId, lastSequence);
+    }
+
+
+    // 채팅 이미지 업로드 (로그인한 채팅방 참여자만, 메시지 전송 시 응답의 imageKey만 전달)
+    @PostMapping(value = "/{chatId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<CreateChatImageResponseDto>> uploadChatImage(
+            @PathVariable("chatId") Long chatId,
+            @RequestPart("image") MultipartFile image,
+            @AuthenticationPrincipal CustomOAuth2User user) {
+        Long userId = user == null ? null : user.getUserId();
+        return ApiResponse.ok(201, chatMessageService.uploadChatImage(chatId, userId, image), "Upload Chat Image Success");
+    }
+
+    // 채팅 조회 (beforeMessageId 없으면 최신 메시지부터, 스크롤 시 가장 오래된 messageId로 이전 메시지 조회)
     @GetMapping("/{chatId}")
-    public ResponseEntity<ApiResponse<GetChatMessageListResponseDto>> getChatMessageList(@PathVariable("chatId") Long chatId) {
-        return ApiResponse.ok(200, chatMessageService.getChatMessageList(chatId), "Get Message success");
+    public ResponseEntity<ApiResponse<GetChatMessageListResponseDto>> getChatMessageList(
+            @PathVariable("chatId") Long chatId,
+            @RequestParam(required = false) Long beforeMessageId,
+            @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(200, chatMessageService.getChatMessageList(chatId, beforeMessageId, limit), "Get Message success");
     }
 
     // 채팅 논리적 삭제
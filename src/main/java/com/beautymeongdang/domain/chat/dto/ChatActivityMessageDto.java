@@ -0,0 +1,33 @@
+package com.beautymeongdang.domain.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 채팅 활동 실시간 메시지 (/sub/chat/activity/{userId})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatActivityMessageDto {
+    public static final String UNREAD = "UNREAD";
+    public static final String READ = "READ";
+
+    private String type;
+    private Long userId;
+    private Long chatId;
+    // UNREAD: 안 읽은 메시지 수와 마지막 메시지 ID
+    private Long unreadCount;
+    private Long lastMessageId;
+    // READ: 상대방이 읽은 마지막 메시지 ID
+    private Long readUpToMessageId;
+
+    public static ChatActivityMessageDto unread(Long userId, Long chatId, long unreadCount, Long lastMessageId) {
+        return new ChatActivityMessageDto(UNREAD, userId, chatId, unreadCount, lastMessageId, null);
+    }
+
+    public static ChatActivityMessageDto read(Long userId, Long chatId, Long readUpToMessageId) {
+        return new ChatActivityMessageDto(READ, userId, chatId, null, null, readUpToMessageId);
+    }
+}
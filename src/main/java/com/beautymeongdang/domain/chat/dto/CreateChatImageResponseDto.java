@@ -0,0 +1,17 @@
+package com.beautymeongdang.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateChatImageResponseDto {
+    private Long chatId;
+    // 메시지 전송 시 CreateChatMessageRequestDto.imageKey로 전달
+    private String imageKey;
+    private String imageUrl;
+}
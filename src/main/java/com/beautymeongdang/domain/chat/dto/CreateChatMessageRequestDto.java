@@ -16,5 +16,6 @@ public class CreateChatMessageRequestDto {
     private String content;
     private MessageType messageType;
     private Boolean customerYn;
-    private String base64Image;
+    // POST /messages/{chatId}/images 로 업로드한 이미지 키
+    private String imageKey;
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.beautymeongdang.domain.chat.dto;
 
 import com.beautymeongdang.domain.chat.entity.Chat;
 import com.beautymeongdang.domain.chat.entity.ChatMessage.MessageType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class CreateChatMessageResponseDto {
+    private Long messageId;
     private Long chatId;
     private Long senderId;
     private String senderNickname;
@@ -23,6 +25,19 @@ public class CreateChatMessageResponseDto {
     private Boolean customerYn;
     private String imageUrl;
     private LocalDateTime createdAt;
+    // 채팅방 메시지 순번 (Redis Stream ID, 재연결 시 LastSequence로 전달)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String sequence;
+
+    // PRESENCE: 채팅방 접속 여부, TYPING: 입력 중 여부
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean online;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean typing;
+
+    public void assignSequence(String sequence) {
+        this.sequence = sequence;
+    }
 
 
     public static CreateChatResponseDto from(Chat chat) {
@@ -16,6 +16,8 @@ public class GetChatMessageListResponseDto {
     private GroomerInfo groomerInfo;
     private CustomerInfo customerInfo;
     private List<GetChatMessageResponseDto> messages;
+    // 이전 메시지 존재 여부 (다음 요청 시 messages의 첫 messageId를 beforeMessageId로 전달)
+    private boolean hasNext;
 
     @Getter
     @Builder
@@ -0,0 +1,31 @@
+package com.beautymeongdang.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetChatReplayResponseDto {
+    private Long chatId;
+    private List<CreateChatMessageResponseDto> messages;
+    // false면 놓친 메시지를 모두 돌려주지 못한 것이므로 /messages/{chatId}로 최신 메시지를 다시 조회
+    private boolean complete;
+    // 다음 재연결 시 보낼 순번
+    private String lastSequence;
+
+    public static GetChatReplayResponseDto incomplete(Long chatId, String lastSequence) {
+        return GetChatReplayResponseDto.builder()
+                .chatId(chatId)
+                .messages(Collections.emptyList())
+                .complete(false)
+                .lastSequence(lastSequence)
+                .build();
+    }
+}
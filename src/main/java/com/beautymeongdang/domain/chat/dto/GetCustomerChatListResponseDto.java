@@ -1,5 +1,7 @@
 package com.beautymeongdang.domain.chat.dto;
 
+import com.beautymeongdang.domain.chat.entity.ChatMessage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,12 +19,20 @@ public class GetCustomerChatListResponseDto {
     private String ShopAddress;
     private String lastMessage;
     private LocalDateTime lastMessageTime;
+    private long unreadCount;
+    private Long matchedMessageId;
+    private String matchedMessage;
+
+    // 목록을 조회한 고객의 회원 ID (안 읽은 메시지 수 조회용, 응답에는 포함하지 않음)
+    @JsonIgnore
+    private Long viewerUserId;
 
     @Builder
     public GetCustomerChatListResponseDto(Long chatId, Long groomerId, String nickname,
                                           String profileImage, String shopName,
                                           String sidoName, String sigunguName,
-                                          String lastMessageContent, LocalDateTime lastMessageCreatedAt) {
+                                          String lastMessageContent, LocalDateTime lastMessageCreatedAt,
+                                          Long viewerUserId) {
         this.roomId = chatId;
         this.groomerId = groomerId;
         this.groomerName = nickname;
@@ -31,5 +41,19 @@ public class GetCustomerChatListResponseDto {
         this.ShopAddress = sidoName + " " + sigunguName;
         this.lastMessage = lastMessageContent;
         this.lastMessageTime = lastMessageCreatedAt;
+        this.viewerUserId = viewerUserId;
+    }
+
+    public void applyUnreadCount(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    // 검색어가 포함된 가장 최근 메시지 (채팅방 이름으로만 일치하면 비어 있음)
+    public void applyMatchedMessage(ChatMessage message) {
+        if (message == null) {
+            return;
+        }
+        this.matchedMessageId = message.getMessageId();
+        this.matchedMessage = message.getContent();
     }
 }
@@ -1,5 +1,7 @@
 package com.beautymeongdang.domain.chat.dto;
 
+import com.beautymeongdang.domain.chat.entity.ChatMessage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,15 +17,36 @@ public class GetGroomerChatListResponseDto {
     private String profileImage;
     private String lastMessage;
     private LocalDateTime lastMessageTime;
+    private long unreadCount;
+    private Long matchedMessageId;
+    private String matchedMessage;
+
+    // 목록을 조회한 미용사의 회원 ID (안 읽은 메시지 수 조회용, 응답에는 포함하지 않음)
+    @JsonIgnore
+    private Long viewerUserId;
 
     @Builder
     public GetGroomerChatListResponseDto(Long chatId, Long customerId, String userName, String profileImage,
-                                         String content, LocalDateTime createdAt) {
+                                         String content, LocalDateTime createdAt, Long viewerUserId) {
         this.roomId = chatId;
         this.customerId = customerId;
         this.customerName = userName;
         this.profileImage = profileImage;
         this.lastMessage = content;
         this.lastMessageTime = createdAt;
+        this.viewerUserId = viewerUserId;
+    }
+
+    public void applyUnreadCount(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    // 검색어가 포함된 가장 최근 메시지 (채팅방 이름으로만 일치하면 비어 있음)
+    public void applyMatchedMessage(ChatMessage message) {
+        if (message == null) {
+            return;
+        }
+        this.matchedMessageId = message.getMessageId();
+        this.matchedMessage = message.getContent();
     }
 }
@@ -0,0 +1,14 @@
+package com.beautymeongdang.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadChatMessageRequestDto {
+    private Long chatId;
+    // 이 메시지까지 읽음
+    private Long messageId;
+}
@@ -0,0 +1,14 @@
+package com.beautymeongdang.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingChatRequestDto {
+    private Long chatId;
+    // true: 입력 중, false: 입력 종료
+    private boolean typing;
+}
@@ -6,7 +6,13 @@ import com.beautymeongdang.global.common.entity.DeletableBaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_chat_customer_last_message_at", columnList = "customer_id, is_deleted, last_message_at"),
+        @Index(name = "idx_chat_groomer_last_message_at", columnList = "groomer_id, is_deleted, last_message_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -31,6 +37,16 @@ public class Chat extends DeletableBaseTimeEntity {
     @Column(nullable = false)
     private Boolean groomerExitedYn = false;
 
+    // 채팅방 목록 표시용 마지막 메시지 (삭제되지 않은 메시지 기준)
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
+    private Long lastMessageId;
+
+    @Column(length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    private LocalDateTime lastMessageAt;
+
     public void customerExited() {
         this.customerExitedYn= true;
     }
@@ -38,4 +54,18 @@ public class Chat extends DeletableBaseTimeEntity {
     public void groomerExited() {
         this.groomerExitedYn= true;
     }
+
+    public void updateLastMessage(ChatMessage message) {
+        this.lastMessageId = message.getMessageId();
+        this.lastMessagePreview = toPreview(message.getContent());
+        this.lastMessageAt = message.getCreatedAt();
+    }
+
+    // 글자(코드 포인트) 단위로 자름 (이모지 등 서로게이트 쌍이 잘리지 않도록)
+    public static String toPreview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= LAST_MESSAGE_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, LAST_MESSAGE_PREVIEW_LENGTH));
+    }
 }
@@ -10,6 +10,7 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class ChatMessage extends DeletableBaseTimeEntity {
+    public static final int CONTENT_MAX_LENGTH = 255;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,13 +19,21 @@ public class ChatMessage extends DeletableBaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chat_id",nullable = false)
     private Chat chatId;
+    @Column(length = CONTENT_MAX_LENGTH)
     private String content;
     private Boolean customerYn;
 
     public enum MessageType {
         ENTER,  // 채팅방 입장
         TALK,   // 일반 메시지
-        QUIT    // 채팅방 나가기
+        QUIT,   // 채팅방 나가기
+        PRESENCE, // 접속 상태 (저장하지 않음)
+        TYPING;   // 입력 중 표시 (저장하지 않음)
+
+        // 클라이언트가 보내 저장하는 유형인지 (PRESENCE/TYPING은 서버에서만 발행)
+        public boolean isPersistable() {
+            return this == ENTER || this == TALK || this == QUIT;
+        }
     }
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,42 @@
+package com.beautymeongdang.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 채팅 검색용 n-gram 역색인
+ * 채팅방 단위로 저장하고, 메시지 ID가 없는 토큰은 채팅방 이름(닉네임/매장명) 토큰이다.
+ * 한 글자 검색은 n-gram의 첫째/둘째 글자 컬럼을 일치 조건으로 찾는다.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_chat_search_token_chat_gram", columnList = "chat_id, gram, message_id"),
+        @Index(name = "idx_chat_search_token_chat_first", columnList = "chat_id, first_char, message_id"),
+        @Index(name = "idx_chat_search_token_chat_second", columnList = "chat_id, second_char, message_id"),
+        @Index(name = "idx_chat_search_token_message", columnList = "message_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ChatSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long tokenId;
+
+    @Column(nullable = false)
+    private Long chatId;
+
+    private Long messageId;
+
+    @Column(nullable = false, length = 8)
+    private String gram;
+
+    @Column(length = 2)
+    private String firstChar;
+
+    // 한 글자 단어의 토큰은 없음
+    @Column(length = 2)
+    private String secondChar;
+}
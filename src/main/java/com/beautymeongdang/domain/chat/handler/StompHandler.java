@@ -1,7 +1,11 @@
 package com.beautymeongdang.domain.chat.handler;
 
 
+import com.beautymeongdang.domain.chat.pubsub.ChatRoomSubscriptionManager;
+import com.beautymeongdang.domain.chat.service.ChatPresence;
 import com.beautymeongdang.domain.chat.service.ChatService;
+import com.beautymeongdang.domain.chat.service.ChatUnreadCounter;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeed;
 import com.beautymeongdang.global.jwt.JWTUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +27,21 @@ public class StompHandler implements ChannelInterceptor {
 
     private final JWTUtil jwtUtil;
     private final ObjectProvider<ChatService> chatServiceProvider;
+    private final ObjectProvider<ChatRoomSubscriptionManager> chatRoomSubscriptionManagerProvider;
+    private final ObjectProvider<ChatPresence> chatPresenceProvider;
 
     private ChatService getChatService() {
         return chatServiceProvider.getObject();
     }
 
+    private ChatRoomSubscriptionManager getChatRoomSubscriptionManager() {
+        return chatRoomSubscriptionManagerProvider.getObject();
+    }
+
+    private ChatPresence getChatPresence() {
+        return chatPresenceProvider.getObject();
+    }
+
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -95,8 +109,36 @@ public class StompHandler implements ChannelInterceptor {
                 throw new RuntimeException("잘못된 구독 요청입니다");
             }
 
+            // 견적 요청 피드 구독: 미용사만 가능
+            if (destination.startsWith(QuoteRequestFeed.DESTINATION_PREFIX)) {
+                String customerYnStr = (String) accessor.getSessionAttributes().get("CustomerYn");
+                if (customerYnStr == null || Boolean.parseBoolean(customerYnStr)) {
+                    log.error("[구독 실패] 견적 요청 피드는 미용사만 구독할 수 있습니다. sessionId: {}", accessor.getSessionId());
+                    throw new RuntimeException("견적 요청 피드 구독 권한이 없습니다");
+                }
+
+                log.info("[구독 성공] sessionId: {}, destination: {}", accessor.getSessionId(), destination);
+                return message;
+            }
+
+            // 채팅 활동(안 읽은 수/읽음 확인) 구독: 본인 것만 가능
+            if (destination.startsWith(ChatUnreadCounter.DESTINATION_PREFIX)) {
+                String userId = (String) accessor.getSessionAttributes().get("UserId");
+                if (userId == null || !destination.equals(ChatUnreadCounter.DESTINATION_PREFIX + userId)) {
+                    log.error("[구독 실패] 다른 회원의 채팅 활동은 구독할 수 없습니다. sessionId: {}", accessor.getSessionId());
+                    throw new RuntimeException("채팅 활동 구독 권한이 없습니다");
+                }
+
+                log.info("[구독 성공] sessionId: {}, destination: {}", accessor.getSessionId(), destination);
+                return message;
+            }
+
+            // 재연결 시 놓친 메시지 조회(/replay), 상대방 접속 상태 조회(/presence): 채팅방 구독과 같은 권한 검증
+            boolean replay = destination.startsWith("/pub/chat/room/")
+                    && (destination.endsWith("/replay") || destination.endsWith("/presence"));
+
             String[] splits = destination.split("/");
-            if (splits.length != 5) {
+            if (splits.length != (replay ? 6 : 5)) {
                 log.error("[구독 실패] 잘못된 구독 경로입니다. destination: {}", destination);
                 throw new RuntimeException("잘못된 구독 경로입니다");
             }
@@ -126,6 +168,12 @@ public class StompHandler implements ChannelInterceptor {
                 throw new RuntimeException("채팅방 접근 권한이 없습니다");
             }
 
+            // 이 서버에서 해당 채팅방 Redis 채널 구독, 접속 상태 등록
+            if (!replay) {
+                getChatRoomSubscriptionManager().join(accessor.getSessionId(), accessor.getSubscriptionId(), chatId);
+                getChatPresence().enter(accessor.getSessionId(), accessor.getSubscriptionId(), chatId,
+                        Long.parseLong(userId), Boolean.valueOf(customerYnStr));
+            }
 
             log.info("[구독 성공] sessionId: {}, destination: {}, userId: {}",
                     accessor.getSessionId(), destination, userId);
@@ -0,0 +1,34 @@
+package com.beautymeongdang.domain.chat.pubsub;
+
+import com.beautymeongdang.domain.chat.dto.ChatActivityMessageDto;
+import com.beautymeongdang.domain.chat.service.ChatUnreadCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+// 안 읽은 메시지 수/읽음 확인을 회원별 구독자에게 전달
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChatActivitySubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            ChatActivityMessageDto activity = objectMapper.readValue(body, ChatActivityMessageDto.class);
+            messagingTemplate.convertAndSend(ChatUnreadCounter.DESTINATION_PREFIX + activity.getUserId(), activity);
+        } catch (Exception e) {
+            log.error("채팅 활동 메시지 처리 실패 - error: {}, raw message: {}", e.getMessage(), body, e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.beautymeongdang.domain.chat.pubsub;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 STOMP 구독자가 있는 채팅방의 Redis 채널만 구독한다.
+ * 채팅방의 첫 로컬 구독 시 채널을 구독하고, 마지막 구독이 해제되면 채널 구독도 해제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionManager {
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final MessageListenerAdapter listenerAdapter;
+
+    // 채팅방별 로컬 구독 (sessionId:subscriptionId)
+    private final Map<Long, Set<String>> roomSubscriptions = new ConcurrentHashMap<>();
+
+    // 세션별 구독 (subscriptionId -> chatId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    // 채팅방 구독 등록
+    public void join(String sessionId, String subscriptionId, Long chatId) {
+        Long previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .putIfAbsent(subscriptionId, chatId);
+        if (previous != null) {
+            return;
+        }
+
+        String subscriptionKey = subscriptionKey(sessionId, subscriptionId);
+        roomSubscriptions.compute(chatId, (id, subscriptions) -> {
+            if (subscriptions == null) {
+                subscriptions = new HashSet<>();
+                redisMessageListener.addMessageListener(listenerAdapter, RedisPublisher.roomTopic(id));
+                log.info("채팅방 Redis 채널 구독 - chatId: {}", id);
+            }
+            subscriptions.add(subscriptionKey);
+            return subscriptions;
+        });
+    }
+
+    // 채팅방 구독 해제
+    public void leave(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+
+        Long chatId = subscriptions.remove(subscriptionId);
+        if (chatId != null) {
+            release(chatId, subscriptionKey(sessionId, subscriptionId));
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            leave(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    // 연결 종료 시 세션의 모든 채팅방 구독 해제
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+
+        subscriptions.forEach((subscriptionId, chatId) ->
+                release(chatId, subscriptionKey(event.getSessionId(), subscriptionId)));
+    }
+
+    private void release(Long chatId, String subscriptionKey) {
+        roomSubscriptions.computeIfPresent(chatId, (id, subscriptions) -> {
+            subscriptions.remove(subscriptionKey);
+            if (!subscriptions.isEmpty()) {
+                return subscriptions;
+            }
+            redisMessageListener.removeMessageListener(listenerAdapter, RedisPublisher.roomTopic(id));
+            log.info("채팅방 Redis 채널 구독 해제 - chatId: {}", id);
+            return null;
+        });
+    }
+
+    private String subscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+}
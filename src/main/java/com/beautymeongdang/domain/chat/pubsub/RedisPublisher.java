@@ -1,30 +1,55 @@
 package com.beautymeongdang.domain.chat.pubsub;
 
 import com.beautymeongdang.domain.chat.dto.CreateChatMessageResponseDto;
+import com.beautymeongdang.domain.chat.service.ChatQuitMessageEvent;
+import com.beautymeongdang.domain.chat.service.ChatRoomLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-// Redis로 메시지 발행
+// Redis로 메시지 발행 (채팅방 로그에 기록 후 채팅방 채널로 발행)
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RedisPublisher {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic channelTopic;
+    // 채팅방별 채널 (chatroom:{chatId})
+    public static final String ROOM_CHANNEL_PREFIX = "chatroom:";
+
+    private final ChatRoomLog chatRoomLog;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public static ChannelTopic roomTopic(Long chatId) {
+        return new ChannelTopic(ROOM_CHANNEL_PREFIX + chatId);
+    }
+
+    // 채팅방 로그에 남기지 않는 프레임 (접속 상태, 입력 중 표시)
+    public void publishTransient(CreateChatMessageResponseDto message) {
+        try {
+            stringRedisTemplate.convertAndSend(roomTopic(message.getChatId()).getTopic(),
+                    objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("Redis 프레임 발행 실패 - chatId: {}, messageType: {}, error: {}",
+                    message.getChatId(), message.getMessageType(), e.getMessage(), e);
+        }
+    }
 
     public void publish(CreateChatMessageResponseDto message) {
         try {
             log.info("Redis 메시지 발행 시작 - chatId: {}, senderId: {}",
                     message.getChatId(), message.getSenderId());
 
-            redisTemplate.convertAndSend(channelTopic.getTopic(), message);
+            String sequence = chatRoomLog.append(message);
 
-            log.info("Redis 메시지 발행 완료 - chatId: {}, messageType: {}, content: {}",
+            log.info("Redis 메시지 발행 완료 - chatId: {}, sequence: {}, messageType: {}, content: {}",
                     message.getChatId(),
+                    sequence,
                     message.getMessageType(),
                     message.getContent());
         } catch (Exception e) {
@@ -32,4 +57,10 @@ public class RedisPublisher {
                     message.getChatId(), e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    // 퇴장 메시지는 나가기가 커밋된 뒤 발행 (롤백되면 발행하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatQuitMessageEvent(ChatQuitMessageEvent event) {
+        publish(event.getMessage());
+    }
+}
@@ -3,13 +3,16 @@ package com.beautymeongdang.domain.chat.repository;
 import com.beautymeongdang.domain.chat.dto.GetChatMessageResponseDto;
 import com.beautymeongdang.domain.chat.entity.Chat;
 import com.beautymeongdang.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
@@ -17,16 +20,85 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // 미용사 프로필 논리적 삭제
     List<ChatMessage> findAllByChatId(Chat chat);
 
-    // 채팅 조회
+    // 채팅 조회 - 최신 메시지부터 (첫 페이지)
     @Query("SELECT new com.beautymeongdang.domain.chat.dto.GetChatMessageResponseDto(" +
             "cm.messageId, cm.customerYn, cm.content, cm.createdAt, cmi.imageUrl) " +
-            "FROM Chat c " +
-            "JOIN ChatMessage cm ON cm.chatId.chatId = c.chatId " +
+            "FROM ChatMessage cm " +
             "LEFT JOIN ChatMessageImage cmi ON cmi.messageId.messageId = cm.messageId " +
-            "WHERE c.chatId = :chatId " +
+            "WHERE cm.chatId.chatId = :chatId " +
             "AND cm.isDeleted = false " +
-            "ORDER BY cm.createdAt ASC")
-    List<GetChatMessageResponseDto> findChatMessagesWithImages(@Param("chatId") Long chatId);
+            "ORDER BY cm.messageId DESC")
+    List<GetChatMessageResponseDto> findLatestChatMessagesWithImages(@Param("chatId") Long chatId, Limit limit);
+
+    // 채팅 조회 - beforeMessageId 이전 메시지 (이전 페이지)
+    @Query("SELECT new com.beautymeongdang.domain.chat.dto.GetChatMessageResponseDto(" +
+            "cm.messageId, cm.customerYn, cm.content, cm.createdAt, cmi.imageUrl) " +
+            "FROM ChatMessage cm " +
+            "LEFT JOIN ChatMessageImage cmi ON cmi.messageId.messageId = cm.messageId " +
+            "WHERE cm.chatId.chatId = :chatId " +
+            "AND cm.isDeleted = false " +
+            "AND cm.messageId < :beforeMessageId " +
+            "ORDER BY cm.messageId DESC")
+    List<GetChatMessageResponseDto> findChatMessagesWithImagesBefore(@Param("chatId") Long chatId,
+                                                                     @Param("beforeMessageId") Long beforeMessageId,
+                                                                     Limit limit);
+
+    // 채팅방의 삭제되지 않은 마지막 메시지
+    Optional<ChatMessage> findFirstByChatIdAndIsDeletedFalseOrderByMessageIdDesc(Chat chat);
+
+    // 마지막 메시지 정보가 비어 있는 채팅방들의 마지막 메시지
+    @Query("""
+    SELECT cm
+    FROM ChatMessage cm
+    JOIN FETCH cm.chatId c
+    WHERE c.lastMessageId IS NULL
+      AND cm.messageId = (
+          SELECT MAX(cm2.messageId)
+          FROM ChatMessage cm2
+          WHERE cm2.chatId = c AND cm2.isDeleted = false
+      )
+    """)
+    List<ChatMessage> findLastMessagesOfChatsWithoutLastMessage();
+
+    // 읽은 메시지 이후 상한(upToMessageId)까지 상대방이 보낸 메시지 수 (안 읽은 수는 일반 메시지만 셈)
+    @Query("""
+    SELECT COUNT(cm)
+    FROM ChatMessage cm
+    WHERE cm.chatId.chatId = :chatId
+      AND cm.messageId > :messageId
+      AND cm.messageId <= :upToMessageId
+      AND cm.customerYn = :senderCustomerYn
+      AND cm.messageType = :messageType
+      AND cm.isDeleted = false
+    """)
+    long countMessagesBetween(@Param("chatId") Long chatId,
+                              @Param("messageId") Long messageId,
+                              @Param("upToMessageId") Long upToMessageId,
+                              @Param("senderCustomerYn") Boolean senderCustomerYn,
+                              @Param("messageType") ChatMessage.MessageType messageType);
+
+    // 위와 같고 저장 대기 중이었던 메시지 제외 (지연 저장 모드에서 대기 중인 메시지는 따로 셈)
+    @Query("""
+    SELECT COUNT(cm)
+    FROM ChatMessage cm
+    WHERE cm.chatId.chatId = :chatId
+      AND cm.messageId > :messageId
+      AND cm.messageId <= :upToMessageId
+      AND cm.messageId NOT IN :excludedMessageIds
+      AND cm.customerYn = :senderCustomerYn
+      AND cm.messageType = :messageType
+      AND cm.isDeleted = false
+    """)
+    long countMessagesBetweenExcluding(@Param("chatId") Long chatId,
+                                       @Param("messageId") Long messageId,
+                                       @Param("upToMessageId") Long upToMessageId,
+                                       @Param("excludedMessageIds") Collection<Long> excludedMessageIds,
+                                       @Param("senderCustomerYn") Boolean senderCustomerYn,
+                                       @Param("messageType") ChatMessage.MessageType messageType);
+
+    // 메시지 ID 발급 기준값 (지연 저장 모드)
+    @Query("SELECT COALESCE(MAX(cm.messageId), 0) FROM ChatMessage cm")
+    Long findMaxMessageId();
 
     // 채팅 물리적 삭제 스케줄러
     @Query("""
@@ -37,4 +109,16 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     """)
     List<ChatMessage> findDeletedMessagesBeforeDate(@Param("deleteDay") LocalDateTime deleteDay);
 
+    // 검색 색인 초기 구축용 메시지 (메시지 ID, 채팅방 ID, 내용)
+    @Query("""
+    SELECT m.messageId, m.chatId.chatId, m.content
+    FROM ChatMessage m
+    WHERE m.messageId > :afterMessageId
+      AND m.isDeleted = false
+      AND m.messageType = :messageType
+    ORDER BY m.messageId
+    """)
+    List<Object[]> findSearchableMessagesAfter(@Param("afterMessageId") Long afterMessageId,
+                                               @Param("messageType") ChatMessage.MessageType messageType,
+                                               Limit limit);
 }
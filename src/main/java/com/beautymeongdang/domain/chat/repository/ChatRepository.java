@@ -6,7 +6,9 @@ import com.beautymeongdang.domain.chat.entity.Chat;
 import com.beautymeongdang.domain.user.entity.Customer;
 import com.beautymeongdang.domain.user.entity.Groomer;
 import com.beautymeongdang.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,6 +26,18 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     // 미용사 프로필 논리적 삭제
     List<Chat> findAllByGroomerId(Groomer groomer);
 
+    // 채팅방과 참여자(고객/미용사 회원) 함께 조회
+    @Query("""
+    SELECT c
+    FROM Chat c
+    JOIN FETCH c.customerId cu
+    JOIN FETCH cu.userId
+    JOIN FETCH c.groomerId g
+    JOIN FETCH g.userId
+    WHERE c.chatId = :chatId
+    """)
+    Optional<Chat> findWithParticipantsById(@Param("chatId") Long chatId);
+
     // customer와 groomer 간의 기존 채팅방을 찾는 메서드
     @Query("SELECT c FROM Chat c WHERE c.customerId = :customer AND c.groomerId = :groomer AND c.isDeleted = false")
     Optional<Chat> findByCustomerIdAndGroomerIdAndNotDeleted(
@@ -42,8 +56,9 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
         s.shopName,
         si.sidoName,
         sig.sigunguName,
-        cm.content,
-        cm.createdAt
+        c.lastMessagePreview,
+        c.lastMessageAt,
+        cu.userId.userId
     )
     FROM Chat c
     JOIN c.customerId cu
@@ -52,18 +67,12 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     JOIN Shop s ON s.groomerId.groomerId = g.groomerId
     JOIN s.sigunguId sig
     JOIN sig.sidoId si
-    LEFT JOIN ChatMessage cm ON cm.chatId = c
-        AND cm.messageId = (
-            SELECT MAX(cm2.messageId)
-            FROM ChatMessage cm2
-            WHERE cm2.chatId = c AND cm2.isDeleted = false
-        )
     WHERE c.isDeleted = false AND cu.customerId = :customerId
-    ORDER BY cm.createdAt DESC
+    ORDER BY c.lastMessageAt DESC, c.chatId DESC
     """)
     List<GetCustomerChatListResponseDto> getCustomerChatList(@Param("customerId") Long customerId);
 
-    // 고객 채팅방 목록 검색 조회
+    // 고객 채팅방 목록 검색 조회 (검색 색인에서 찾은 채팅방)
     @Query("""
     SELECT new com.beautymeongdang.domain.chat.dto.GetCustomerChatListResponseDto(
         c.chatId,
@@ -73,8 +82,9 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
         s.shopName,
         si.sidoName,
         sig.sigunguName,
-        cm.content,
-        cm.createdAt
+        c.lastMessagePreview,
+        c.lastMessageAt,
+        cu.userId.userId
     )
     FROM Chat c
     JOIN c.customerId cu
@@ -83,21 +93,12 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     JOIN Shop s ON s.groomerId.groomerId = g.groomerId
     JOIN s.sigunguId sig
     JOIN sig.sidoId si
-    LEFT JOIN ChatMessage cm ON cm.chatId = c
-        AND cm.messageId = (
-            SELECT MAX(cm2.messageId)
-            FROM ChatMessage cm2
-            WHERE cm2.chatId = c AND cm2.isDeleted = false
-        )
     WHERE c.isDeleted = false
     AND cu.customerId = :customerId
-    AND (
-           u.nickname LIKE CONCAT('%', :searchKeyword, '%')
-           OR s.shopName LIKE CONCAT('%', :searchKeyword, '%')
-    )
-    ORDER BY cm.createdAt DESC
+    AND c.chatId IN :chatIds
+    ORDER BY c.lastMessageAt DESC, c.chatId DESC
     """)
-    List<GetCustomerChatListResponseDto> getCustomerChatListBySearchKeyword(@Param("customerId") Long customerId, @Param("searchKeyword") String searchKeyword);
+    List<GetCustomerChatListResponseDto> getCustomerChatListByChatIds(@Param("customerId") Long customerId, @Param("chatIds") List<Long> chatIds);
 
     // 미용사 채팅방 목록 조회
     @Query("""
@@ -106,53 +107,77 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
             cu.customerId,
             u.userName,
             u.profileImage,
-            cm.content,
-            cm.createdAt
+            c.lastMessagePreview,
+            c.lastMessageAt,
+            g.userId.userId
         )
         FROM Chat c
         JOIN c.customerId cu
         JOIN cu.userId u
         JOIN c.groomerId g
-        LEFT JOIN ChatMessage cm ON cm.chatId = c
-            AND cm.messageId = (
-                SELECT MAX(cm2.messageId)
-                FROM ChatMessage cm2
-                WHERE cm2.chatId = c AND cm2.isDeleted = false
-            )
         WHERE c.isDeleted = false
           AND g.groomerId = :groomerId
-        ORDER BY cm.createdAt DESC
+        ORDER BY c.lastMessageAt DESC, c.chatId DESC
     """)
     List<GetGroomerChatListResponseDto> getGroomerChatList(@Param("groomerId") Long groomerId);
 
-    // 미용사 채팅방 목록 검색 조회
+    // 미용사 채팅방 목록 검색 조회 (검색 색인에서 찾은 채팅방)
     @Query("""
         SELECT new com.beautymeongdang.domain.chat.dto.GetGroomerChatListResponseDto(
             c.chatId,
             cu.customerId,
             u.userName,
             u.profileImage,
-            cm.content,
-            cm.createdAt
+            c.lastMessagePreview,
+            c.lastMessageAt,
+            g.userId.userId
         )
         FROM Chat c
         JOIN c.customerId cu
         JOIN cu.userId u
         JOIN c.groomerId g
-        LEFT JOIN ChatMessage cm ON cm.chatId = c
-            AND cm.messageId = (
-                SELECT MAX(cm2.messageId)
-                FROM ChatMessage cm2
-                WHERE cm2.chatId = c AND cm2.isDeleted = false
-            )
         WHERE c.isDeleted = false
           AND g.groomerId = :groomerId
-          AND (
-                u.userName LIKE CONCAT('%', :searchKeyword, '%')
-           )
-        ORDER BY cm.createdAt DESC
+          AND c.chatId IN :chatIds
+        ORDER BY c.lastMessageAt DESC, c.chatId DESC
+    """)
+    List<GetGroomerChatListResponseDto> getGroomerChatListByChatIds(@Param("groomerId") Long groomerId, @Param("chatIds") List<Long> chatIds);
+
+    // 고객이 참여 중인 채팅방 ID (검색 범위, 나간 채팅방 제외)
+    @Query("SELECT c.chatId FROM Chat c WHERE c.customerId.customerId = :customerId AND c.isDeleted = false AND c.customerExitedYn = false")
+    List<Long> findActiveChatIdsByCustomerId(@Param("customerId") Long customerId);
+
+    // 미용사가 참여 중인 채팅방 ID (검색 범위, 나간 채팅방 제외)
+    @Query("SELECT c.chatId FROM Chat c WHERE c.groomerId.groomerId = :groomerId AND c.isDeleted = false AND c.groomerExitedYn = false")
+    List<Long> findActiveChatIdsByGroomerId(@Param("groomerId") Long groomerId);
+
+    // 회원이 고객 또는 미용사로 참여 중인 채팅방 ID
+    @Query("""
+    SELECT c.chatId
+    FROM Chat c
+    JOIN c.customerId cu
+    JOIN c.groomerId g
+    WHERE c.isDeleted = false
+      AND (cu.userId.userId = :userId OR g.userId.userId = :userId)
     """)
-    List<GetGroomerChatListResponseDto> getGroomerChatListBySearchKeyword(@Param("groomerId") Long groomerId, @Param("searchKeyword") String searchKeyword);
+    List<Long> findActiveChatIdsByUserId(@Param("userId") Long userId);
+
+    // 검색 색인 초기 구축용 채팅방 ID (ID 순)
+    @Query("SELECT c.chatId FROM Chat c WHERE c.chatId > :afterChatId AND c.isDeleted = false ORDER BY c.chatId")
+    List<Long> findActiveChatIdsAfter(@Param("afterChatId") Long afterChatId, Limit limit);
+
+    // 채팅방 이름 검색 대상 (채팅방 ID, 미용사 닉네임, 매장명, 고객 이름)
+    @Query("""
+    SELECT c.chatId, gu.nickname, s.shopName, cuu.userName
+    FROM Chat c
+    JOIN c.customerId cu
+    JOIN cu.userId cuu
+    JOIN c.groomerId g
+    JOIN g.userId gu
+    LEFT JOIN Shop s ON s.groomerId.groomerId = g.groomerId
+    WHERE c.chatId IN :chatIds
+    """)
+    List<Object[]> findRoomNames(@Param("chatIds") List<Long> chatIds);
 
     // 채팅 조회 - 미용사
     @Query("SELECT u " +
@@ -180,6 +205,37 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     """)
     List<Chat> findAllByDeletedAndUpdatedAt(@Param("deleteDay") LocalDateTime deleteDay);
 
+    // 마지막 메시지 갱신 (동시에 전송된 메시지가 더 최신이면 덮어쓰지 않음)
+    @Modifying
+    @Query("""
+    UPDATE Chat c
+    SET c.lastMessageId = :messageId,
+        c.lastMessagePreview = :preview,
+        c.lastMessageAt = :messageAt
+    WHERE c.chatId = :chatId
+      AND (c.lastMessageId IS NULL OR c.lastMessageId < :messageId)
+    """)
+    int updateLastMessage(@Param("chatId") Long chatId,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("messageAt") LocalDateTime messageAt);
+
+    // 삭제된 메시지가 아직 마지막 메시지일 때만 직전 메시지로 교체 (그 사이 전송된 메시지는 덮어쓰지 않음)
+    @Modifying
+    @Query("""
+    UPDATE Chat c
+    SET c.lastMessageId = :messageId,
+        c.lastMessagePreview = :preview,
+        c.lastMessageAt = :messageAt
+    WHERE c.chatId = :chatId
+      AND c.lastMessageId = :deletedMessageId
+    """)
+    int replaceDeletedLastMessage(@Param("chatId") Long chatId,
+                                  @Param("deletedMessageId") Long deletedMessageId,
+                                  @Param("messageId") Long messageId,
+                                  @Param("preview") String preview,
+                                  @Param("messageAt") LocalDateTime messageAt);
+
 
 
 }
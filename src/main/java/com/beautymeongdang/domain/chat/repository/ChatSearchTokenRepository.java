@@ -0,0 +1,94 @@
+package com.beautymeongdang.domain.chat.repository;
+
+import com.beautymeongdang.domain.chat.entity.ChatSearchToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatSearchTokenRepository extends JpaRepository<ChatSearchToken, Long> {
+
+    // 검색어의 n-gram을 모두 포함한 채팅방 이름
+    @Query("""
+    SELECT t.chatId
+    FROM ChatSearchToken t
+    WHERE t.chatId IN :chatIds
+      AND t.messageId IS NULL
+      AND t.gram IN :grams
+    GROUP BY t.chatId
+    HAVING COUNT(DISTINCT t.gram) = :gramCount
+    """)
+    List<Long> findRoomMatches(@Param("chatIds") List<Long> chatIds,
+                               @Param("grams") List<String> grams,
+                               @Param("gramCount") long gramCount);
+
+    // 검색어의 n-gram을 모두 포함한 메시지 (최신 메시지부터)
+    @Query("""
+    SELECT t.messageId
+    FROM ChatSearchToken t
+    WHERE t.chatId IN :chatIds
+      AND t.messageId IS NOT NULL
+      AND t.gram IN :grams
+    GROUP BY t.messageId
+    HAVING COUNT(DISTINCT t.gram) = :gramCount
+    ORDER BY t.messageId DESC
+    """)
+    List<Long> findMessageMatches(@Param("chatIds") List<Long> chatIds,
+                                  @Param("grams") List<String> grams,
+                                  @Param("gramCount") long gramCount,
+                                  Limit limit);
+
+    // 한 글자 검색어로 시작하는 n-gram을 가진 채팅방 이름
+    @Query("""
+    SELECT DISTINCT t.chatId
+    FROM ChatSearchToken t
+    WHERE t.chatId IN :chatIds
+      AND t.messageId IS NULL
+      AND t.firstChar = :character
+    """)
+    List<Long> findRoomMatchesByFirstChar(@Param("chatIds") List<Long> chatIds,
+                                          @Param("character") String character);
+
+    // 두 번째 글자가 한 글자 검색어인 n-gram을 가진 채팅방 이름 (단어의 마지막 글자)
+    @Query("""
+    SELECT DISTINCT t.chatId
+    FROM ChatSearchToken t
+    WHERE t.chatId IN :chatIds
+      AND t.messageId IS NULL
+      AND t.secondChar = :character
+    """)
+    List<Long> findRoomMatchesBySecondChar(@Param("chatIds") List<Long> chatIds,
+                                           @Param("character") String character);
+
+    // 한 글자 검색어로 시작하는 n-gram을 가진 메시지 (최신 메시지부터)
+    @Query("""
+    SELECT DISTINCT t.messageId
+    FROM ChatSearchToken t
+    WHERE t.chatId IN :chatIds
+      AND t.messageId IS NOT NULL
+      AND t.firstChar = :character
+    ORDER BY t.messageId DESC
+    """)
+    List<Long> findMessageMatchesByFirstChar(@Param("chatIds") List<Long> chatIds,
+                                             @Param("character") String character,
+                                             Limit limit);
+
+    // 두 번째 글자가 한 글자 검색어인 n-gram을 가진 메시지 (최신 메시지부터)
+    @Query("""
+    SELECT DISTINCT t.messageId
+    FROM ChatSearchToken t
+    WHERE t.chatId IN :chatIds
+      AND t.messageId IS NOT NULL
+      AND t.secondChar = :character
+    ORDER BY t.messageId DESC
+    """)
+    List<Long> findMessageMatchesBySecondChar(@Param("chatIds") List<Long> chatIds,
+                                              @Param("character") String character,
+                                              Limit limit);
+
+    boolean existsByChatIdIsNotNull();
+}
@@ -0,0 +1,17 @@
+package com.beautymeongdang.domain.chat.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+@Getter
+public class ChatDeletedEvent extends ApplicationEvent {
+    private final List<Long> chatIds;
+
+    // 채팅방 논리 삭제 (양쪽 모두 퇴장, 회원 탈퇴)
+    public ChatDeletedEvent(Object source, List<Long> chatIds) {
+        super(source);
+        this.chatIds = chatIds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.beautymeongdang.domain.chat.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ChatMessageSentEvent extends ApplicationEvent {
+    private final Long receiverUserId;
+    private final Long chatId;
+    private final Long messageId;
+
+    // 상대방에게 일반 메시지 전송 (커밋 후 안 읽은 수 증가)
+    public ChatMessageSentEvent(Object source, Long receiverUserId, Long chatId, Long messageId) {
+        super(source);
+        this.receiverUserId = receiverUserId;
+        this.chatId = chatId;
+        this.messageId = messageId;
+    }
+}
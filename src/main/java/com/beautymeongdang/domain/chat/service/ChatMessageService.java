@@ -1,20 +1,37 @@
 package com.beautymeongdang.domain.chat.service;
 
+import com.beautymeongdang.domain.chat.dto.CreateChatImageResponseDto;
 import com.beautymeongdang.domain.chat.dto.CreateChatMessageRequestDto;
 import com.beautymeongdang.domain.chat.dto.CreateChatMessageResponseDto;
 import com.beautymeongdang.domain.chat.dto.DeleteChatMessageResponseDto;
 import com.beautymeongdang.domain.chat.dto.GetChatMessageListResponseDto;
+import org.springframework.web.multipart.MultipartFile;
 
 
 public interface ChatMessageService {
 
+    // 채팅 이미지 업로드
+    CreateChatImageResponseDto uploadChatImage(Long chatId, Long userId, MultipartFile image);
+
     // 메시지 전송
     CreateChatMessageResponseDto sendMessage(CreateChatMessageRequestDto messageRequestDto);
 
-    // 채팅 조회
-    GetChatMessageListResponseDto getChatMessageList(Long chatId);
+    // 메시지 읽음 처리 (messageId까지 읽음)
+    void readMessages(Long chatId, Long userId, Boolean customerYn, Long messageId);
+
+    // 입력 중 표시
+    void typing(Long chatId, Long userId, Boolean customerYn, boolean typing);
+
+    // 상대방 접속 상태
+    CreateChatMessageResponseDto getPartnerPresence(Long chatId, Long userId, Boolean customerYn);
+
+    // 채팅 조회 (beforeMessageId 이전 메시지 limit건, 없으면 최신 메시지부터)
+    GetChatMessageListResponseDto getChatMessageList(Long chatId, Long beforeMessageId, Integer limit);
 
     // 채팅 논리적 삭제
     DeleteChatMessageResponseDto deleteChatMessage(Long messageId);
 
+    // 마지막 메시지 정보가 비어 있는 채팅방 채우기
+    void fillMissingLastMessages();
+
 }
\ No newline at end of file
@@ -0,0 +1,482 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.entity.Chat;
+import com.beautymeongdang.domain.chat.entity.ChatMessage.MessageType;
+import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 지연 저장 (chat.message.write-behind.enabled=true 일 때만 등록)
+ * 메시지 ID를 Redis에서 먼저 발급해 바로 발행하고, 메시지는 Redis Stream(QUEUE_KEY)에 넣어 둔다.
+ * 백그라운드 스레드가 소비자 그룹으로 여러 건을 읽어 multi-row INSERT로 저장한 뒤 ACK하므로,
+ * 저장 전에 서버가 내려가도 메시지는 스트림에 남고 일정 시간 ACK되지 않은 항목은 다른 서버(또는 재시작한 서버)가 가져가 저장한다.
+ * 저장 대기 중인 메시지는 채팅방별 ZSET과 ID 집합에도 기록해 삭제/안 읽은 수 계산에서 확인할 수 있다.
+ * 묶음 저장이 계속 실패하면 한 건씩 저장하고, 그래도 실패한 메시지만 Redis 리스트(DEAD_LETTER_KEY)에 남긴다.
+ * (보관 건수는 chat.message.dead-letter 지표로 노출)
+ * 메시지 ID를 직접 지정해 저장하므로 모든 서버가 같은 모드로 동작해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.message.write-behind.enabled", havingValue = "true")
+public class ChatMessageWriter {
+    private static final String ID_KEY = "chat:message:id";
+    public static final String QUEUE_KEY = "chat:message:queue";
+    public static final String DEAD_LETTER_KEY = "chat:message:dead-letter";
+    // 저장 대기 중인 메시지 ID (SET), 채팅방별 저장 대기 메시지 (ZSET, score = 메시지 ID, member = ID:고객여부:유형)
+    private static final String PENDING_IDS_KEY = "chat:message:pending:ids";
+    private static final String PENDING_CHAT_KEY_PREFIX = "chat:message:pending:";
+    private static final String GROUP = "chat-message-writer";
+    private static final String MESSAGE_FIELD = "message";
+
+    private static final int BATCH_SIZE = 500;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final int MAX_ATTEMPTS = 3;
+    // 이 시간 동안 ACK되지 않은 메시지는 처리하던 서버가 중단된 것으로 보고 가져감
+    private static final Duration CLAIM_IDLE = Duration.ofSeconds(30);
+    private static final long CLAIM_INTERVAL_MILLIS = 10_000;
+    private static final long AWAIT_POLL_MILLIS = 50;
+
+    // 발급 기준값을 DB의 최대 메시지 ID 이상으로 맞춤 (여러 서버가 동시에 시작해도 줄어들지 않도록)
+    private static final DefaultRedisScript<Long> SEED_ID = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) return tonumber(ARGV[1]) end " +
+            "return current",
+            Long.class);
+
+    // 소비자 그룹 생성 (이미 있으면 무시)
+    private static final DefaultRedisScript<Long> CREATE_GROUP = new DefaultRedisScript<>(
+            "pcall(redis.call, 'XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM') " +
+            "return 1",
+            Long.class);
+
+    // 스트림 추가와 저장 대기 기록을 함께 처리 (KEYS: 스트림, 대기 ID 집합, 채팅방 대기 ZSET / ARGV: 메시지, ID, member)
+    private static final DefaultRedisScript<String> ENQUEUE = new DefaultRedisScript<>(
+            "local id = redis.call('XADD', KEYS[1], '*', '" + MESSAGE_FIELD + "', ARGV[1]) " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[3], ARGV[2], ARGV[3]) " +
+            "return id",
+            String.class);
+
+    // 저장(또는 보관)이 끝난 메시지 ACK 후 스트림과 저장 대기 기록에서 삭제
+    // (KEYS: 스트림, 대기 ID 집합, 메시지별 채팅방 대기 ZSET / ARGV: 그룹, 메시지별 스트림 ID, ID, member)
+    private static final DefaultRedisScript<Long> ACK = new DefaultRedisScript<>(
+            "for i = 3, #KEYS do " +
+            "  local base = (i - 3) * 3 + 1 " +
+            "  redis.call('XACK', KEYS[1], ARGV[1], ARGV[base + 1]) " +
+            "  redis.call('XDEL', KEYS[1], ARGV[base + 1]) " +
+            "  redis.call('SREM', KEYS[2], ARGV[base + 2]) " +
+            "  redis.call('ZREM', KEYS[i], ARGV[base + 3]) " +
+            "end " +
+            "return #KEYS - 2",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatSearchIndex chatSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String consumerName = "writer-" + UUID.randomUUID();
+    private final Thread worker = new Thread(this::run, "chat-message-writer");
+    private volatile boolean running = true;
+
+    public record PendingMessage(Long messageId, Long chatId, String content, Boolean customerYn,
+                                 MessageType messageType, String imageUrl, LocalDateTime createdAt) {
+        private String pendingMember() {
+            return messageId + ":" + customerYn + ":" + messageType.name();
+        }
+    }
+
+    // 저장 대기 중인 메시지 (안 읽은 수 계산용)
+    public record PendingRef(Long messageId, Boolean customerYn, MessageType messageType) {
+        private static PendingRef from(String member) {
+            String[] parts = member.split(":");
+            return new PendingRef(Long.valueOf(parts[0]), Boolean.valueOf(parts[1]), MessageType.valueOf(parts[2]));
+        }
+    }
+
+    // 저장하지 못한 메시지와 마지막 오류
+    public record DeadLetter(PendingMessage message, String error, LocalDateTime failedAt) {
+    }
+
+    // 스트림에서 읽은 메시지 (변환에 실패하면 message = null)
+    record QueuedMessage(RecordId recordId, PendingMessage message) {
+    }
+
+    public ChatMessageWriter(StringRedisTemplate stringRedisTemplate,
+                             ChatMessageRepository chatMessageRepository,
+                             JdbcTemplate jdbcTemplate,
+                             ChatSearchIndex chatSearchIndex,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatMessageRepository = chatMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatSearchIndex = chatSearchIndex;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("chat.message.dead-letter", this, ChatMessageWriter::deadLetterCount)
+                .description("저장하지 못해 보관 중인 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        Long seeded = stringRedisTemplate.execute(SEED_ID, List.of(ID_KEY),
+                String.valueOf(chatMessageRepository.findMaxMessageId()));
+        stringRedisTemplate.execute(CREATE_GROUP, List.of(QUEUE_KEY), GROUP);
+        log.info("채팅 메시지 지연 저장 시작 - 발급 기준 ID: {}, consumer: {}", seeded, consumerName);
+        worker.start();
+    }
+
+    // 메시지 ID 발급
+    public Long nextMessageId() {
+        return stringRedisTemplate.opsForValue().increment(ID_KEY);
+    }
+
+    // 저장 대기열(스트림)에 추가 (Redis에 넣지 못하면 직접 저장)
+    public void enqueue(PendingMessage message) {
+        try {
+            stringRedisTemplate.execute(ENQUEUE,
+                    List.of(QUEUE_KEY, PENDING_IDS_KEY, pendingChatKey(message.chatId())),
+                    objectMapper.writeValueAsString(message), String.valueOf(message.messageId()), message.pendingMember());
+            return;
+        } catch (Exception e) {
+            log.warn("채팅 메시지 저장 대기열 추가 실패 - 직접 저장, messageId: {}, error: {}",
+                    message.messageId(), e.getMessage());
+        }
+        persist(List.of(message));
+    }
+
+    // 저장 대기 중인 메시지인지
+    public boolean isPending(Long messageId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(PENDING_IDS_KEY, String.valueOf(messageId)));
+    }
+
+    // 저장 대기 중이면 저장될 때까지 대기 (timeout 안에 저장되었거나 대기 중이 아니면 true)
+    public boolean awaitPersisted(Long messageId, Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (isPending(messageId)) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(AWAIT_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 채팅방의 afterMessageId 초과 upToMessageId 이하 저장 대기 메시지
+    public List<PendingRef> findPending(Long chatId, Long afterMessageId, Long upToMessageId) {
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(pendingChatKey(chatId),
+                afterMessageId + 1, upToMessageId);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(PendingRef::from).toList();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 저장하지 못한 메시지는 스트림에 남아 다른 서버나 재시작한 서버가 저장
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+        log.info("채팅 메시지 지연 저장 종료");
+    }
+
+    private void run() {
+        long lastClaimAt = 0;
+        while (running) {
+            try {
+                if (System.currentTimeMillis() - lastClaimAt >= CLAIM_INTERVAL_MILLIS) {
+                    lastClaimAt = System.currentTimeMillis();
+                    process(claimStale());
+                }
+
+                List<QueuedMessage> batch = readNew();
+                if (batch.isEmpty()) {
+                    Thread.sleep(POLL_INTERVAL_MILLIS);
+                    continue;
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("채팅 메시지 저장 대기열 처리 실패 - error: {}", e.getMessage(), e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<QueuedMessage> readNew() {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(BATCH_SIZE),
+                StreamOffset.create(QUEUE_KEY, ReadOffset.lastConsumed()));
+        return toQueuedMessages(records);
+    }
+
+    // 오래 ACK되지 않은 메시지 가져오기 (처리하던 서버 중단)
+    private List<QueuedMessage> claimStale() {
+        PendingMessages pending = stringRedisTemplate.opsForStream().pending(QUEUE_KEY, GROUP, Range.unbounded(), BATCH_SIZE);
+        if (pending == null || pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RecordId[] staleIds = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_IDLE) >= 0)
+                .map(org.springframework.data.redis.connection.stream.PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) {
+            return Collections.emptyList();
+        }
+
+        log.warn("ACK되지 않은 채팅 메시지 가져오기 - {}건", staleIds.length);
+        return toQueuedMessages(stringRedisTemplate.opsForStream().claim(QUEUE_KEY, GROUP, consumerName, CLAIM_IDLE, staleIds));
+    }
+
+    private List<QueuedMessage> toQueuedMessages(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<QueuedMessage> messages = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object body = record.getValue().get(MESSAGE_FIELD);
+            try {
+                messages.add(new QueuedMessage(record.getId(), objectMapper.readValue((String) body, PendingMessage.class)));
+            } catch (Exception e) {
+                log.error("채팅 메시지 변환 실패 - id: {}, body: {}, error: {}", record.getId(), body, e.getMessage(), e);
+                messages.add(new QueuedMessage(record.getId(), null));
+            }
+        }
+        return messages;
+    }
+
+    // 저장한 뒤 저장(또는 보관)이 끝난 메시지만 ACK (보관도 실패한 메시지는 남겨 두었다가 다시 가져감)
+    void process(List<QueuedMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<PendingMessage> messages = batch.stream()
+                .map(QueuedMessage::message)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<Long> done = new HashSet<>();
+        persist(messages).forEach(message -> done.add(message.messageId()));
+
+        List<QueuedMessage> acked = batch.stream()
+                .filter(queued -> queued.message() == null || done.contains(queued.message().messageId()))
+                .toList();
+        ack(acked);
+    }
+
+    private void ack(List<QueuedMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(messages.size() + 2);
+        keys.add(QUEUE_KEY);
+        keys.add(PENDING_IDS_KEY);
+        List<String> args = new ArrayList<>(messages.size() * 3 + 1);
+        args.add(GROUP);
+        for (QueuedMessage queued : messages) {
+            PendingMessage message = queued.message();
+            // 변환에 실패한 메시지는 스트림에서만 삭제
+            keys.add(message == null ? PENDING_CHAT_KEY_PREFIX + "unknown" : pendingChatKey(message.chatId()));
+            args.add(queued.recordId().getValue());
+            args.add(message == null ? "" : String.valueOf(message.messageId()));
+            args.add(message == null ? "" : message.pendingMember());
+        }
+        stringRedisTemplate.execute(ACK, keys, args.toArray());
+    }
+
+    // 묶음 저장을 재시도하고, 계속 실패하면 한 건씩 저장해 실패한 메시지만 따로 보관 (저장 또는 보관된 메시지 반환)
+    List<PendingMessage> persist(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        Exception lastError = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                write(batch);
+                return batch;
+            } catch (Exception e) {
+                lastError = e;
+                log.error("채팅 메시지 일괄 저장 실패 - attempt: {}, size: {}, error: {}",
+                        attempt, batch.size(), e.getMessage(), e);
+            }
+        }
+
+        if (batch.size() == 1) {
+            return deadLetter(batch.get(0), lastError) ? batch : Collections.emptyList();
+        }
+
+        List<PendingMessage> done = new ArrayList<>(batch.size());
+        for (PendingMessage message : batch) {
+            try {
+                write(List.of(message));
+                done.add(message);
+            } catch (Exception e) {
+                if (deadLetter(message, e)) {
+                    done.add(message);
+                }
+            }
+        }
+        return done;
+    }
+
+    private boolean deadLetter(PendingMessage message, Exception error) {
+        try {
+            String value = objectMapper.writeValueAsString(new DeadLetter(message,
+                    error != null ? error.getMessage() : null, LocalDateTime.now()));
+            stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, value);
+            log.error("채팅 메시지 저장 실패 - 보관 목록에 추가, messageId: {}, error: {}",
+                    message.messageId(), error != null ? error.getMessage() : null);
+            return true;
+        } catch (Exception e) {
+            // 보관도 실패하면 ACK하지 않아 다시 가져가도록 둠
+            log.error("채팅 메시지 보관 실패 - message: {}, error: {}", message, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private double deadLetterCount() {
+        try {
+            Long size = stringRedisTemplate.opsForList().size(DEAD_LETTER_KEY);
+            return size == null ? 0 : size;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String pendingChatKey(Long chatId) {
+        return PENDING_CHAT_KEY_PREFIX + chatId;
+    }
+
+    // 메시지, 이미지, 채팅방 마지막 메시지, 검색 색인을 한 트랜잭션으로 저장
+    // (다시 가져온 메시지 중 이미 저장된 메시지는 건너뜀)
+    private void write(List<PendingMessage> messages) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PendingMessage> batch = excludeSaved(messages);
+            if (batch.isEmpty()) {
+                return;
+            }
+            insertMessages(batch);
+            insertImages(batch);
+            updateLastMessages(batch);
+            chatSearchIndex.indexDocuments(batch.stream()
+                    .filter(message -> message.messageType() == MessageType.TALK)
+                    .map(message -> new ChatSearchIndex.Document(message.chatId(), message.messageId(), message.content()))
+                    .toList());
+        });
+    }
+
+    private List<PendingMessage> excludeSaved(List<PendingMessage> batch) {
+        String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        Set<Long> saved = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT message_id FROM chat_message WHERE message_id IN (" + placeholders + ")",
+                Long.class, batch.stream().map(PendingMessage::messageId).toArray()));
+        if (saved.isEmpty()) {
+            return batch;
+        }
+        return batch.stream()
+                .filter(message -> !saved.contains(message.messageId()))
+                .toList();
+    }
+
+    private void insertMessages(List<PendingMessage> batch) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO chat_message (message_id, chat_id, content, customer_yn, message_type, is_deleted, created_at, updated_at) VALUES ");
+        List<Object> args = new ArrayList<>(batch.size() * 8);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, false, ?, ?)");
+            args.addAll(Arrays.asList(message.messageId(), message.chatId(), message.content(), message.customerYn(),
+                    message.messageType().name(), message.createdAt(), message.createdAt()));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private void insertImages(List<PendingMessage> batch) {
+        List<PendingMessage> withImages = batch.stream()
+                .filter(message -> message.imageUrl() != null)
+                .toList();
+        if (withImages.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO chat_message_image (message_id, image_url, created_at, updated_at) VALUES ");
+        List<Object> args = new ArrayList<>(withImages.size() * 4);
+        for (int i = 0; i < withImages.size(); i++) {
+            PendingMessage message = withImages.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?)");
+            args.addAll(Arrays.asList(message.messageId(), message.imageUrl(), message.createdAt(), message.createdAt()));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // 채팅방별 가장 최근 메시지로 마지막 메시지 갱신 (더 최신 메시지가 이미 반영되어 있으면 유지)
+    private void updateLastMessages(List<PendingMessage> batch) {
+        Map<Long, PendingMessage> latestByChat = new HashMap<>();
+        for (PendingMessage message : batch) {
+            latestByChat.merge(message.chatId(), message,
+                    (current, candidate) -> candidate.messageId() > current.messageId() ? candidate : current);
+        }
+
+        List<Object[]> args = latestByChat.values().stream()
+                .map(message -> new Object[]{message.messageId(), Chat.toPreview(message.content()),
+                        message.createdAt(), message.chatId(), message.messageId()})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "UPDATE chat SET last_message_id = ?, last_message_preview = ?, last_message_at = ? " +
+                "WHERE chat_id = ? AND (last_message_id IS NULL OR last_message_id < ?)",
+                args);
+    }
+}
@@ -0,0 +1,208 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.dto.CreateChatMessageResponseDto;
+import com.beautymeongdang.domain.chat.entity.ChatMessage.MessageType;
+import com.beautymeongdang.domain.chat.pubsub.RedisPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 접속 상태와 입력 중 표시 (Redis만 사용, DB/채팅 메시지 테이블에는 저장하지 않음)
+ * 채팅방 구독마다 chat:presence:{chatId}:{userId} ZSET에 만료 시각을 score로 기록하고
+ * ChatPresenceScheduledService가 이 서버의 구독을 주기적으로 갱신한다. 서버가 내려가면 TTL이 지나 자동으로 빠진다.
+ * 접속/퇴장은 회원의 첫 구독/마지막 구독 해제 시에만, 입력 중 표시는 상태가 바뀔 때만 채팅방 채널로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresence {
+    private static final String PRESENCE_KEY_PREFIX = "chat:presence:";
+    private static final String TYPING_KEY_PREFIX = "chat:typing:";
+    private static final String TYPING_RATE_KEY_PREFIX = "chat:typing:rate:";
+
+    private static final Duration PRESENCE_TTL = Duration.ofSeconds(30);
+
+    // 입력 중 상태 유지 시간 (이 시간 안에 다시 입력 중 알림이 오지 않으면 종료로 간주)
+    private static final Duration TYPING_TTL = Duration.ofSeconds(5);
+    // 입력 시작 알림 최소 간격
+    private static final Duration TYPING_RATE = Duration.ofSeconds(1);
+
+    // 만료된 구독 정리 후 추가, 회원이 처음 접속한 경우 1
+    private static final DefaultRedisScript<Long> ENTER = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2]) " +
+            "local before = redis.call('ZCARD', KEYS[1]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "if before == 0 then return 1 end " +
+            "return 0",
+            Long.class);
+
+    // 구독 제거 후 남은 구독이 없으면 1
+    private static final DefaultRedisScript<Long> LEAVE = new DefaultRedisScript<>(
+            "local removed = redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2]) " +
+            "if removed == 1 and redis.call('ZCARD', KEYS[1]) == 0 then redis.call('DEL', KEYS[1]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    // 입력 중 상태 변경 시(또는 유지 시간의 절반이 지나 갱신할 때) 1
+    private static final DefaultRedisScript<Long> TYPING = new DefaultRedisScript<>(
+            "local active = redis.call('GET', KEYS[1]) == '1' " +
+            "if ARGV[1] == '1' then " +
+            "  if active then " +
+            "    local remaining = redis.call('PTTL', KEYS[1]) " +
+            "    redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "    if remaining * 2 < tonumber(ARGV[2]) then return 1 end " +
+            "    return 0 " +
+            "  end " +
+            "  if not redis.call('SET', KEYS[2], '1', 'PX', ARGV[3], 'NX') then return 0 end " +
+            "  redis.call('SET', KEYS[1], '1', 'PX', ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "if not active then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPublisher redisPublisher;
+
+    private record LocalPresence(Long chatId, Long userId, Boolean customerYn) {
+    }
+
+    // 이 서버의 채팅방 구독 (sessionId -> subscriptionId -> 구독 정보)
+    private final Map<String, Map<String, LocalPresence>> sessions = new ConcurrentHashMap<>();
+
+    // 채팅방 입장 (구독)
+    public void enter(String sessionId, String subscriptionId, Long chatId, Long userId, Boolean customerYn) {
+        LocalPresence presence = new LocalPresence(chatId, userId, customerYn);
+        sessions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>()).put(subscriptionId, presence);
+
+        long now = System.currentTimeMillis();
+        Long entered = stringRedisTemplate.execute(ENTER, List.of(presenceKey(chatId, userId)),
+                member(sessionId, subscriptionId), String.valueOf(now),
+                String.valueOf(now + PRESENCE_TTL.toMillis()), String.valueOf(PRESENCE_TTL.toMillis()));
+        if (entered != null && entered == 1) {
+            redisPublisher.publishTransient(presenceFrame(presence, true));
+        }
+    }
+
+    // 채팅방 퇴장 (구독 해제)
+    public void leave(String sessionId, String subscriptionId) {
+        Map<String, LocalPresence> subscriptions = sessions.get(sessionId);
+        LocalPresence presence = subscriptions == null ? null : subscriptions.remove(subscriptionId);
+        if (presence != null) {
+            release(sessionId, subscriptionId, presence);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            leave(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, LocalPresence> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, presence) -> release(event.getSessionId(), subscriptionId, presence));
+        }
+    }
+
+    // 이 서버의 모든 구독 만료 시각 갱신
+    public void heartbeat() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        long expireAt = System.currentTimeMillis() + PRESENCE_TTL.toMillis();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            sessions.forEach((sessionId, subscriptions) -> subscriptions.forEach((subscriptionId, presence) -> {
+                String key = presenceKey(presence.chatId(), presence.userId());
+                stringConnection.zAdd(key, expireAt, member(sessionId, subscriptionId));
+                stringConnection.pExpire(key, PRESENCE_TTL.toMillis());
+            }));
+            return null;
+        });
+    }
+
+    // 채팅방 접속 여부
+    public boolean isOnline(Long chatId, Long userId) {
+        Long count = stringRedisTemplate.opsForZSet()
+                .count(presenceKey(chatId, userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count != null && count > 0;
+    }
+
+    // 입력 중 표시 (상태가 바뀔 때만 발행, 입력 시작은 TYPING_RATE 간격으로 제한)
+    public void typing(Long chatId, Long userId, Boolean customerYn, boolean typing) {
+        Long changed = stringRedisTemplate.execute(TYPING,
+                List.of(TYPING_KEY_PREFIX + chatId + ":" + userId, TYPING_RATE_KEY_PREFIX + chatId + ":" + userId),
+                typing ? "1" : "0", String.valueOf(TYPING_TTL.toMillis()), String.valueOf(TYPING_RATE.toMillis()));
+        if (changed != null && changed == 1) {
+            redisPublisher.publishTransient(CreateChatMessageResponseDto.builder()
+                    .chatId(chatId)
+                    .senderId(userId)
+                    .customerYn(customerYn)
+                    .messageType(MessageType.TYPING)
+                    .typing(typing)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    // 접속 상태 프레임
+    public CreateChatMessageResponseDto presenceFrame(Long chatId, Long userId, Boolean customerYn, boolean online) {
+        return presenceFrame(new LocalPresence(chatId, userId, customerYn), online);
+    }
+
+    private CreateChatMessageResponseDto presenceFrame(LocalPresence presence, boolean online) {
+        return CreateChatMessageResponseDto.builder()
+                .chatId(presence.chatId())
+                .senderId(presence.userId())
+                .customerYn(presence.customerYn())
+                .messageType(MessageType.PRESENCE)
+                .online(online)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void release(String sessionId, String subscriptionId, LocalPresence presence) {
+        try {
+            Long left = stringRedisTemplate.execute(LEAVE, List.of(presenceKey(presence.chatId(), presence.userId())),
+                    member(sessionId, subscriptionId), String.valueOf(System.currentTimeMillis()));
+            if (left != null && left == 1) {
+                redisPublisher.publishTransient(presenceFrame(presence, false));
+            }
+        } catch (Exception e) {
+            log.error("채팅방 퇴장 처리 실패 - chatId: {}, userId: {}, error: {}",
+                    presence.chatId(), presence.userId(), e.getMessage(), e);
+        }
+    }
+
+    private String presenceKey(Long chatId, Long userId) {
+        return PRESENCE_KEY_PREFIX + chatId + ":" + userId;
+    }
+
+    private String member(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.dto.CreateChatMessageResponseDto;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ChatQuitMessageEvent extends ApplicationEvent {
+    private final CreateChatMessageResponseDto message;
+
+    // 채팅방 나가기 (커밋 후 퇴장 메시지 발행)
+    public ChatQuitMessageEvent(Object source, CreateChatMessageResponseDto message) {
+        super(source);
+        this.message = message;
+    }
+}
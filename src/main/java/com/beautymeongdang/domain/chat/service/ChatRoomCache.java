@@ -0,0 +1,131 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.entity.Chat;
+import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.user.entity.User;
+import com.beautymeongdang.domain.user.repository.UserRepository;
+import com.beautymeongdang.global.exception.handler.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방 참여자/퇴장 여부와 참여자 표시 정보 캐시 (Redis)
+ * 메시지 전송과 채팅방 구독 시 DB 조회 없이 권한 검증과 발신자 정보 조회를 처리한다.
+ * 퇴장/삭제/프로필 변경 트랜잭션이 커밋되면 ChatRoomCacheEvictEvent로 해당 키를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomCache {
+    private static final String ROOM_KEY_PREFIX = "chat:room:";
+    private static final String PARTICIPANT_KEY_PREFIX = "chat:participant:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatRepository chatRepository;
+    private final UserRepository userRepository;
+
+    public record ChatRoomInfo(Long chatId, Long customerUserId, Long groomerUserId,
+                               boolean customerExited, boolean groomerExited) {
+        public Long memberUserId(boolean customerYn) {
+            return customerYn ? customerUserId : groomerUserId;
+        }
+
+        public boolean exited(boolean customerYn) {
+            return customerYn ? customerExited : groomerExited;
+        }
+    }
+
+    public record Participant(Long userId, String nickname, String profileImage) {
+    }
+
+    // 채팅방 참여자/퇴장 여부
+    public ChatRoomInfo getRoom(Long chatId) {
+        ChatRoomInfo cached = read(roomKey(chatId), ChatRoomInfo.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        Chat chat = chatRepository.findWithParticipantsById(chatId)
+                .orElseThrow(() -> NotFoundException.entityNotFound("채팅방"));
+        User customer = chat.getCustomerId().getUserId();
+        User groomer = chat.getGroomerId().getUserId();
+
+        ChatRoomInfo room = new ChatRoomInfo(chat.getChatId(), customer.getUserId(), groomer.getUserId(),
+                chat.getCustomerExitedYn(), chat.getGroomerExitedYn());
+        write(roomKey(chatId), room);
+        // 같은 조회로 가져온 참여자 정보도 함께 저장
+        write(participantKey(customer.getUserId()), toParticipant(customer));
+        write(participantKey(groomer.getUserId()), toParticipant(groomer));
+        return room;
+    }
+
+    // 참여자 닉네임/프로필 이미지
+    public Participant getParticipant(Long userId) {
+        Participant cached = read(participantKey(userId), Participant.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        Participant participant = toParticipant(userRepository.findById(userId)
+                .orElseThrow(() -> NotFoundException.entityNotFound("회원")));
+        write(participantKey(userId), participant);
+        return participant;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatRoomCacheEvictEvent(ChatRoomCacheEvictEvent event) {
+        List<String> keys = new ArrayList<>();
+        event.getChatIds().forEach(chatId -> keys.add(roomKey(chatId)));
+        event.getUserIds().forEach(userId -> keys.add(participantKey(userId)));
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.error("채팅방 캐시 삭제 실패 - keys: {}, error: {}", keys, e.getMessage(), e);
+        }
+    }
+
+    private Participant toParticipant(User user) {
+        return new Participant(user.getUserId(), user.getNickname(), user.getProfileImage());
+    }
+
+    private <T> T read(String key, Class<T> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("채팅방 캐시 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, Object value) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), TTL);
+        } catch (Exception e) {
+            log.warn("채팅방 캐시 저장 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private String roomKey(Long chatId) {
+        return ROOM_KEY_PREFIX + chatId;
+    }
+
+    private String participantKey(Long userId) {
+        return PARTICIPANT_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.beautymeongdang.domain.chat.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+@Getter
+public class ChatRoomCacheEvictEvent extends ApplicationEvent {
+    private final List<Long> chatIds;
+    private final List<Long> userIds;
+
+    private ChatRoomCacheEvictEvent(Object source, List<Long> chatIds, List<Long> userIds) {
+        super(source);
+        this.chatIds = chatIds;
+        this.userIds = userIds;
+    }
+
+    // 채팅방 퇴장/삭제
+    public static ChatRoomCacheEvictEvent ofChats(Object source, List<Long> chatIds) {
+        return new ChatRoomCacheEvictEvent(source, chatIds, List.of());
+    }
+
+    // 회원 닉네임/프로필 이미지 변경
+    public static ChatRoomCacheEvictEvent ofUser(Object source, Long userId) {
+        return new ChatRoomCacheEvictEvent(source, List.of(), List.of(userId));
+    }
+}
@@ -0,0 +1,141 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.dto.CreateChatMessageResponseDto;
+import com.beautymeongdang.domain.chat.dto.GetChatReplayResponseDto;
+import com.beautymeongdang.domain.chat.pubsub.RedisPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채팅방별 메시지 로그 (Redis Stream, chat:stream:{chatId})
+ * 스트림 ID를 메시지 순번(sequence)으로 사용하고, 재연결한 클라이언트는
+ * 마지막으로 받은 순번 이후의 메시지만 다시 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLog {
+    private static final String KEY_PREFIX = "chat:stream:";
+
+    // 채팅방별 최근 메시지 보관 개수 (근사치 trim)
+    private static final int MAX_LENGTH = 1000;
+
+    // 마지막 메시지 이후 보관 기간
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    // 재연결 시 한 번에 다시 보내는 최대 메시지 수
+    private static final int REPLAY_LIMIT = 200;
+
+    private static final String MESSAGE_FIELD = "message";
+
+    // 스트림 추가와 채널 발행을 함께 처리 (같은 채팅방 메시지의 순번과 발행 순서가 어긋나지 않도록)
+    private static final DefaultRedisScript<String> APPEND = new DefaultRedisScript<>(
+            "local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', '" + MESSAGE_FIELD + "', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('PUBLISH', ARGV[4], '{\"sequence\":\"' .. id .. '\",' .. string.sub(ARGV[3], 2)) " +
+            "return id",
+            String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 메시지를 로그에 추가하고 채팅방 채널로 발행, 부여된 순번 반환
+    public String append(CreateChatMessageResponseDto message) throws JsonProcessingException {
+        String sequence = stringRedisTemplate.execute(APPEND,
+                List.of(key(message.getChatId())),
+                String.valueOf(MAX_LENGTH),
+                String.valueOf(RETENTION.toSeconds()),
+                objectMapper.writeValueAsString(message),
+                RedisPublisher.roomTopic(message.getChatId()).getTopic());
+        message.assignSequence(sequence);
+        return sequence;
+    }
+
+    // lastSequence 이후 메시지 조회 (놓친 메시지를 모두 돌려줄 수 없으면 complete = false)
+    public GetChatReplayResponseDto readAfter(Long chatId, String lastSequence) {
+        RecordId last = parse(lastSequence);
+        if (last == null || !covers(chatId, last)) {
+            return GetChatReplayResponseDto.incomplete(chatId, lastSequence);
+        }
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().range(
+                key(chatId),
+                Range.rightUnbounded(Range.Bound.exclusive(last.getValue())),
+                Limit.limit().count(REPLAY_LIMIT + 1));
+        if (records == null) {
+            records = Collections.emptyList();
+        }
+
+        boolean complete = records.size() <= REPLAY_LIMIT;
+        List<CreateChatMessageResponseDto> messages = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records.subList(0, Math.min(records.size(), REPLAY_LIMIT))) {
+            CreateChatMessageResponseDto message = toMessage(record);
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+
+        String replayedUntil = messages.isEmpty() ? lastSequence : messages.get(messages.size() - 1).getSequence();
+        return GetChatReplayResponseDto.builder()
+                .chatId(chatId)
+                .messages(messages)
+                .complete(complete)
+                .lastSequence(replayedUntil)
+                .build();
+    }
+
+    // 로그의 가장 오래된 메시지가 lastSequence 이하이면 그 이후 메시지는 잘리지 않고 남아 있다
+    private boolean covers(Long chatId, RecordId last) {
+        List<MapRecord<String, Object, Object>> first = stringRedisTemplate.opsForStream()
+                .range(key(chatId), Range.unbounded(), Limit.limit().count(1));
+        if (first == null || first.isEmpty()) {
+            return false;
+        }
+
+        RecordId firstId = first.get(0).getId();
+        return firstId.getTimestamp() < last.getTimestamp()
+                || (firstId.getTimestamp().equals(last.getTimestamp()) && firstId.getSequence() <= last.getSequence());
+    }
+
+    private CreateChatMessageResponseDto toMessage(MapRecord<String, Object, Object> record) {
+        Object body = record.getValue().get(MESSAGE_FIELD);
+        try {
+            CreateChatMessageResponseDto message = objectMapper.readValue((String) body, CreateChatMessageResponseDto.class);
+            message.assignSequence(record.getId().getValue());
+            return message;
+        } catch (Exception e) {
+            log.error("채팅 로그 메시지 변환 실패 - id: {}, error: {}", record.getId(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private RecordId parse(String sequence) {
+        if (sequence == null || sequence.isBlank()) {
+            return null;
+        }
+        try {
+            RecordId recordId = RecordId.of(sequence);
+            return recordId.shouldBeAutoGenerated() ? null : recordId;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String key(Long chatId) {
+        return KEY_PREFIX + chatId;
+    }
+}
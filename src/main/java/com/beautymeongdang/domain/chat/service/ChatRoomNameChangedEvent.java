@@ -0,0 +1,15 @@
+package com.beautymeongdang.domain.chat.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ChatRoomNameChangedEvent extends ApplicationEvent {
+    private final Long userId;
+
+    // 채팅방 이름에 쓰이는 미용사 닉네임/매장명 변경
+    public ChatRoomNameChangedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,292 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.entity.ChatMessage;
+import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
+import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.chat.repository.ChatSearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 이름(미용사 닉네임, 매장명, 고객 이름)과 메시지 내용의 n-gram 역색인
+ * 단어별 2-gram(한 글자 단어는 그대로)을 채팅방 단위로 저장하고, 검색은 회원이 참여 중인 채팅방 안에서만 한다.
+ * 메시지 전송/삭제, 채팅방 생성, 닉네임/매장명 변경 시 같은 트랜잭션에서 갱신되고, 삭제된 채팅방은 커밋 후 제거된다.
+ * 한 글자 검색어는 n-gram의 첫째/둘째 글자 컬럼으로 찾는다.
+ * n-gram은 후보만 좁히므로 결과는 실제 내용에 검색어가 포함되는지 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndex {
+    private static final int MAX_MESSAGE_MATCHES = 500;
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int BACKFILL_CHARACTER_BATCH_SIZE = 10000;
+
+    private final ChatSearchTokenRepository chatSearchTokenRepository;
+    private final ChatRepository chatRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 색인할 문서 (메시지 ID가 없으면 채팅방 이름)
+    public record Document(Long chatId, Long messageId, String text) {
+    }
+
+    // 검색 결과 (이름이 일치한 채팅방, 채팅방별 가장 최근에 일치한 메시지)
+    public record SearchResult(List<String> words, Set<Long> roomChatIds, Map<Long, ChatMessage> matchedMessages) {
+
+        public static SearchResult empty() {
+            return new SearchResult(List.of(), Set.of(), Map.of());
+        }
+
+        public boolean isEmpty() {
+            return roomChatIds.isEmpty() && matchedMessages.isEmpty();
+        }
+
+        public List<Long> chatIds() {
+            Set<Long> chatIds = new LinkedHashSet<>(roomChatIds);
+            chatIds.addAll(matchedMessages.keySet());
+            return new ArrayList<>(chatIds);
+        }
+
+        // 채팅방 이름 후보 중 실제 이름에 검색어가 모두 포함된 경우
+        public boolean roomMatches(Long chatId, String... names) {
+            return roomChatIds.contains(chatId) && containsAll(String.join(" ", Arrays.asList(names)), words);
+        }
+
+        public ChatMessage matchedMessage(Long chatId) {
+            return matchedMessages.get(chatId);
+        }
+    }
+
+    /**
+     * 메시지 색인
+     */
+    public void indexMessage(Long chatId, Long messageId, String content) {
+        indexDocuments(List.of(new Document(chatId, messageId, content)));
+    }
+
+    public void indexDocuments(List<Document> documents) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Document document : documents) {
+            grams(document.text()).forEach(gram -> rows.add(new Object[]{document.chatId(), document.messageId(), gram,
+                    characterAt(gram, 0), characterAt(gram, 1)}));
+        }
+
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            insertTokens(rows.subList(from, Math.min(rows.size(), from + INSERT_BATCH_SIZE)));
+        }
+    }
+
+    public void removeMessage(Long messageId) {
+        jdbcTemplate.update("DELETE FROM chat_search_token WHERE message_id = ?", messageId);
+    }
+
+    public void removeChat(Long chatId) {
+        jdbcTemplate.update("DELETE FROM chat_search_token WHERE chat_id = ?", chatId);
+    }
+
+    // 논리 삭제된 채팅방은 검색 대상이 아니므로 커밋 후 색인에서 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleChatDeletedEvent(ChatDeletedEvent event) {
+        if (event.getChatIds().isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(event.getChatIds().size(), "?"));
+        jdbcTemplate.update("DELETE FROM chat_search_token WHERE chat_id IN (" + placeholders + ")",
+                event.getChatIds().toArray());
+    }
+
+    /**
+     * 채팅방 이름 색인 (기존 이름 토큰을 지우고 다시 저장)
+     */
+    public void indexRooms(List<Long> chatIds) {
+        if (chatIds.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(chatIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM chat_search_token WHERE message_id IS NULL AND chat_id IN (" + placeholders + ")",
+                chatIds.toArray());
+
+        List<Document> documents = chatRepository.findRoomNames(chatIds).stream()
+                .map(row -> new Document((Long) row[0], null, joinNames(row[1], row[2], row[3])))
+                .toList();
+        indexDocuments(documents);
+    }
+
+    // 닉네임/매장명이 바뀐 회원의 채팅방 이름 다시 색인
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleChatRoomNameChangedEvent(ChatRoomNameChangedEvent event) {
+        indexRooms(chatRepository.findActiveChatIdsByUserId(event.getUserId()));
+    }
+
+    /**
+     * 참여 중인 채팅방 안에서 검색
+     */
+    public SearchResult search(List<Long> chatIds, String keyword) {
+        List<String> words = words(keyword);
+        if (chatIds.isEmpty() || words.isEmpty()) {
+            return SearchResult.empty();
+        }
+
+        List<String> queryGrams = new ArrayList<>(words.stream()
+                .filter(word -> word.codePointCount(0, word.length()) > 1)
+                .flatMap(word -> grams(word).stream())
+                .collect(LinkedHashSet::new, Set::add, Set::addAll));
+
+        List<Long> roomChatIds;
+        List<Long> messageIds;
+        if (queryGrams.isEmpty()) {
+            // 한 글자 단어만 있으면 해당 글자가 첫째 또는 둘째 글자인 n-gram으로 찾음
+            String character = words.get(0);
+            roomChatIds = new ArrayList<>(chatSearchTokenRepository.findRoomMatchesByFirstChar(chatIds, character));
+            roomChatIds.addAll(chatSearchTokenRepository.findRoomMatchesBySecondChar(chatIds, character));
+            messageIds = latestMessageIds(
+                    chatSearchTokenRepository.findMessageMatchesByFirstChar(chatIds, character, Limit.of(MAX_MESSAGE_MATCHES)),
+                    chatSearchTokenRepository.findMessageMatchesBySecondChar(chatIds, character, Limit.of(MAX_MESSAGE_MATCHES)));
+        } else {
+            roomChatIds = chatSearchTokenRepository.findRoomMatches(chatIds, queryGrams, queryGrams.size());
+            messageIds = chatSearchTokenRepository.findMessageMatches(chatIds, queryGrams, queryGrams.size(), Limit.of(MAX_MESSAGE_MATCHES));
+        }
+
+        // 채팅방별 가장 최근 메시지 하나만 (삭제되었거나 실제로 포함하지 않는 메시지 제외)
+        Map<Long, ChatMessage> matchedMessages = new HashMap<>();
+        chatMessageRepository.findAllById(messageIds).stream()
+                .filter(message -> !message.isDeleted() && containsAll(message.getContent(), words))
+                .sorted(Comparator.comparing(ChatMessage::getMessageId).reversed())
+                .forEach(message -> matchedMessages.putIfAbsent(message.getChatId().getChatId(), message));
+
+        return new SearchResult(words, new HashSet<>(roomChatIds), matchedMessages);
+    }
+
+    /**
+     * 색인이 비어 있으면 기존 채팅방과 메시지로 처음 구축
+     */
+    public void buildIfEmpty() {
+        if (chatSearchTokenRepository.existsByChatIdIsNotNull()) {
+            return;
+        }
+
+        long roomCount = 0;
+        List<Long> chatIds = chatRepository.findActiveChatIdsAfter(0L, Limit.of(BACKFILL_BATCH_SIZE));
+        while (!chatIds.isEmpty()) {
+            indexRooms(chatIds);
+            roomCount += chatIds.size();
+            chatIds = chatRepository.findActiveChatIdsAfter(chatIds.get(chatIds.size() - 1), Limit.of(BACKFILL_BATCH_SIZE));
+        }
+
+        long messageCount = 0;
+        List<Object[]> rows = chatMessageRepository.findSearchableMessagesAfter(0L, ChatMessage.MessageType.TALK, Limit.of(BACKFILL_BATCH_SIZE));
+        while (!rows.isEmpty()) {
+            indexDocuments(rows.stream()
+                    .map(row -> new Document((Long) row[1], (Long) row[0], (String) row[2]))
+                    .toList());
+            messageCount += rows.size();
+            Long lastMessageId = (Long) rows.get(rows.size() - 1)[0];
+            rows = chatMessageRepository.findSearchableMessagesAfter(lastMessageId, ChatMessage.MessageType.TALK, Limit.of(BACKFILL_BATCH_SIZE));
+        }
+
+        log.info("채팅 검색 색인 구축 완료 - 채팅방: {}, 메시지: {}", roomCount, messageCount);
+    }
+
+    /**
+     * 첫째/둘째 글자 컬럼 도입 이전에 저장된 토큰 채우기
+     */
+    public void backfillCharacters() {
+        long updated = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update("UPDATE chat_search_token SET first_char = LEFT(gram, 1), "
+                    + "second_char = NULLIF(SUBSTRING(gram, 2, 1), '') WHERE first_char IS NULL LIMIT " + BACKFILL_CHARACTER_BATCH_SIZE);
+            updated += batch;
+        } while (batch == BACKFILL_CHARACTER_BATCH_SIZE);
+
+        if (updated > 0) {
+            log.info("채팅 검색 색인 글자 컬럼 보정 완료 - 토큰: {}", updated);
+        }
+    }
+
+    // 소문자로 바꾸고 공백 기준으로 나눈 단어
+    public static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // 단어별 2-gram (한 글자 단어는 그대로)
+    public static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    // n-gram의 index번째 글자 (없으면 null)
+    private static String characterAt(String gram, int index) {
+        int[] codePoints = gram.codePoints().toArray();
+        return index < codePoints.length ? new String(codePoints, index, 1) : null;
+    }
+
+    // 두 후보 목록을 합쳐 최신 메시지부터 최대 개수만
+    private static List<Long> latestMessageIds(List<Long> first, List<Long> second) {
+        return Stream.concat(first.stream(), second.stream())
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(MAX_MESSAGE_MATCHES)
+                .toList();
+    }
+
+    private static boolean containsAll(String text, List<String> words) {
+        if (text == null) {
+            return false;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        return words.stream().allMatch(normalized::contains);
+    }
+
+    private static String joinNames(Object... names) {
+        return String.join(" ", Arrays.stream(names)
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .toList());
+    }
+
+    private void insertTokens(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO chat_search_token (chat_id, message_id, gram, first_char, second_char) VALUES ");
+        List<Object> args = new ArrayList<>(rows.size() * 5);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?)");
+            args.addAll(Arrays.asList(rows.get(i)));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
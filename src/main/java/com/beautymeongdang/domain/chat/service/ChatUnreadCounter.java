@@ -0,0 +1,169 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.dto.ChatActivityMessageDto;
+import com.beautymeongdang.domain.chat.entity.ChatMessage;
+import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 채팅방 안 읽은 메시지 수 (Redis HASH chat:unread:{userId}, field = chatId)
+ * 메시지 전송이 커밋되면 상대방 카운터를 올리고, 읽음 처리 시 초기화한 뒤
+ * 변경 내용을 Redis 채널로 발행해 각 서버가 /sub/chat/activity/{userId} 구독자에게 전달한다.
+ * 중간 메시지까지 읽은 경우 채팅방 마지막 메시지 ID를 상한으로 DB에서 다시 세고,
+ * 상한 이후에 올라간 수는 회원/채팅방별로 센 메시지 ID(chat:unread:ids:{userId}:{chatId})로 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+    public static final String CHANNEL = "chat-activity";
+    public static final String DESTINATION_PREFIX = "/sub/chat/activity/";
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    // 채팅방 마지막 메시지 ID (읽음 처리 시 최신 메시지까지 읽었는지 판단)
+    private static final String LAST_MESSAGE_KEY_PREFIX = "chat:unread:last:";
+    // 회원/채팅방별 안 읽은 수에 센 메시지 ID (ZSET, score = 메시지 ID)
+    private static final String COUNTED_KEY_PREFIX = "chat:unread:ids:";
+    private static final Duration LAST_MESSAGE_TTL = Duration.ofDays(7);
+
+    // 마지막 메시지 ID 갱신, 센 메시지 ID 기록 후 안 읽은 수 증가
+    private static final DefaultRedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+            "local last = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "if tonumber(ARGV[2]) > last then redis.call('SET', KEYS[2], ARGV[2], 'EX', tonumber(ARGV[3])) end " +
+            "redis.call('ZADD', KEYS[3], ARGV[2], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[3], tonumber(ARGV[3])) " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)",
+            Long.class);
+
+    // 마지막 메시지까지 읽었으면 초기화 후 0, 아니면 읽은 메시지까지의 기록을 지우고 마지막 메시지 ID(다시 셀 상한) 반환
+    private static final DefaultRedisScript<Long> READ_UP_TO = new DefaultRedisScript<>(
+            "local last = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "if tonumber(ARGV[2]) >= last then " +
+            "  redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "  redis.call('DEL', KEYS[3]) " +
+            "  return 0 " +
+            "end " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[2]) " +
+            "return last",
+            Long.class);
+
+    // DB에서 상한까지 다시 센 수에 상한 이후 올라간 수를 더해 저장 (0이면 삭제)
+    private static final DefaultRedisScript<Long> APPLY_RECOUNT = new DefaultRedisScript<>(
+            "local count = tonumber(ARGV[2]) + redis.call('ZCOUNT', KEYS[2], '(' .. ARGV[3], '+inf') " +
+            "if count > 0 then redis.call('HSET', KEYS[1], ARGV[1], count) else redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return count",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ObjectProvider<ChatMessageWriter> chatMessageWriterProvider;
+
+    // 상대방이 보낸 메시지 수신
+    public void increment(Long userId, Long chatId, Long messageId) {
+        Long unreadCount = stringRedisTemplate.execute(INCREMENT,
+                List.of(unreadKey(userId), lastMessageKey(chatId), countedKey(userId, chatId)),
+                String.valueOf(chatId), String.valueOf(messageId), String.valueOf(LAST_MESSAGE_TTL.toSeconds()));
+        publish(ChatActivityMessageDto.unread(userId, chatId, unreadCount == null ? 0 : unreadCount, messageId));
+    }
+
+    // 메시지 전송 커밋 후 상대방 안 읽은 수 증가 (롤백된 메시지는 세지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatMessageSentEvent(ChatMessageSentEvent event) {
+        try {
+            increment(event.getReceiverUserId(), event.getChatId(), event.getMessageId());
+        } catch (Exception e) {
+            log.error("안 읽은 메시지 수 증가 실패 - chatId: {}, messageId: {}, error: {}",
+                    event.getChatId(), event.getMessageId(), e.getMessage(), e);
+        }
+    }
+
+    // messageId까지 읽음 (본인의 다른 기기에는 안 읽은 수, 상대방에게는 읽음 확인 전달)
+    public long markRead(Long userId, boolean customerYn, Long otherUserId, Long chatId, Long messageId) {
+        Long upToMessageId = stringRedisTemplate.execute(READ_UP_TO,
+                List.of(unreadKey(userId), lastMessageKey(chatId), countedKey(userId, chatId)),
+                String.valueOf(chatId), String.valueOf(messageId));
+
+        long unreadCount = 0;
+        if (upToMessageId != null && upToMessageId > 0) {
+            // 중간 메시지까지만 읽은 경우 상한까지 남은 수를 다시 센다 (세는 동안 올라간 수는 상한 이후라 중복되지 않음)
+            long recount = countUnreadUpTo(customerYn, chatId, messageId, upToMessageId);
+            Long count = stringRedisTemplate.execute(APPLY_RECOUNT,
+                    List.of(unreadKey(userId), countedKey(userId, chatId)),
+                    String.valueOf(chatId), String.valueOf(recount), String.valueOf(upToMessageId));
+            unreadCount = count == null ? recount : count;
+        }
+
+        publish(ChatActivityMessageDto.unread(userId, chatId, unreadCount, null));
+        publish(ChatActivityMessageDto.read(otherUserId, chatId, messageId));
+        return unreadCount;
+    }
+
+    // 상대방이 보낸 일반 메시지 수 (지연 저장 모드에서 저장 대기 중인 메시지 포함)
+    private long countUnreadUpTo(boolean customerYn, Long chatId, Long messageId, Long upToMessageId) {
+        ChatMessageWriter chatMessageWriter = chatMessageWriterProvider.getIfAvailable();
+        List<ChatMessageWriter.PendingRef> pending = chatMessageWriter == null
+                ? List.of()
+                : chatMessageWriter.findPending(chatId, messageId, upToMessageId);
+        if (pending.isEmpty()) {
+            return chatMessageRepository.countMessagesBetween(chatId, messageId, upToMessageId,
+                    !customerYn, ChatMessage.MessageType.TALK);
+        }
+
+        // 대기 목록을 먼저 읽고 DB에서는 제외 (그 사이 저장된 메시지가 두 번 세어지지 않도록)
+        long pendingCount = pending.stream()
+                .filter(ref -> Boolean.valueOf(!customerYn).equals(ref.customerYn()) && ref.messageType() == ChatMessage.MessageType.TALK)
+                .count();
+        List<Long> pendingIds = pending.stream().map(ChatMessageWriter.PendingRef::messageId).toList();
+        return pendingCount + chatMessageRepository.countMessagesBetweenExcluding(chatId, messageId, upToMessageId,
+                pendingIds, !customerYn, ChatMessage.MessageType.TALK);
+    }
+
+    // 채팅방 퇴장
+    public void clear(Long userId, Long chatId) {
+        stringRedisTemplate.opsForHash().delete(unreadKey(userId), String.valueOf(chatId));
+        stringRedisTemplate.delete(countedKey(userId, chatId));
+    }
+
+    // 채팅방별 안 읽은 메시지 수 (없는 채팅방은 0)
+    public Map<Long, Long> getUnreadCounts(Long userId) {
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        stringRedisTemplate.opsForHash().entries(unreadKey(userId)).forEach((chatId, count) ->
+                unreadCounts.put(Long.valueOf((String) chatId), Long.valueOf((String) count)));
+        return unreadCounts;
+    }
+
+    private void publish(ChatActivityMessageDto message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("채팅 활동 발행 실패 - userId: {}, chatId: {}, error: {}",
+                    message.getUserId(), message.getChatId(), e.getMessage(), e);
+        }
+    }
+
+    private String unreadKey(Long userId) {
+        return UNREAD_KEY_PREFIX + userId;
+    }
+
+    private String lastMessageKey(Long chatId) {
+        return LAST_MESSAGE_KEY_PREFIX + chatId;
+    }
+
+    private String countedKey(Long userId, Long chatId) {
+        return COUNTED_KEY_PREFIX + userId + ":" + chatId;
+    }
+}
@@ -8,23 +8,37 @@ import com.beautymeongdang.domain.chat.entity.ChatMessageImage;
 import com.beautymeongdang.domain.chat.repository.ChatMessageImageRepository;
 import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
 import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.chat.service.ChatMessageSentEvent;
 import com.beautymeongdang.domain.chat.service.ChatMessageService;
+import com.beautymeongdang.domain.chat.service.ChatMessageWriter;
+import com.beautymeongdang.domain.chat.service.ChatPresence;
+import com.beautymeongdang.domain.chat.service.ChatRoomCache;
+import com.beautymeongdang.domain.chat.service.ChatSearchIndex;
+import com.beautymeongdang.domain.chat.service.ChatUnreadCounter;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
-import com.beautymeongdang.domain.user.entity.Customer;
-import com.beautymeongdang.domain.user.entity.Groomer;
 import com.beautymeongdang.domain.user.entity.User;
-import com.beautymeongdang.domain.user.repository.CustomerRepository;
-import com.beautymeongdang.domain.user.repository.GroomerRepository;
 import com.beautymeongdang.global.common.entity.UploadedFile;
+import com.beautymeongdang.global.exception.handler.BadRequestException;
+import com.beautymeongdang.global.exception.handler.InternalServerException;
 import com.beautymeongdang.global.exception.handler.NotFoundException;
+import com.beautymeongdang.global.exception.handler.UnauthorizedException;
 import com.beautymeongdang.infra.s3.FileStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -36,12 +50,46 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRepository chatRepository;
-    private final CustomerRepository customerRepository;
-    private final GroomerRepository groomerRepository;
     private final FileStore fileStore;
     private final ChatMessageImageRepository chatMessageImageRepository;
     private final ShopRepository shopRepository;
+    private final ObjectProvider<ChatMessageWriter> chatMessageWriterProvider;
+    private final ChatRoomCache chatRoomCache;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatPresence chatPresence;
+    private final ChatSearchIndex chatSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
+    private static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+    private static final Duration PENDING_DELETE_TIMEOUT = Duration.ofSeconds(3);
+
+
+    /**
+     * 채팅 이미지 업로드 (채팅방별 경로에 저장하고 메시지에는 키만 전달)
+     */
+    @Override
+    public CreateChatImageResponseDto uploadChatImage(Long chatId, Long userId, MultipartFile image) {
+        // 채팅방 참여자만 업로드 가능 (캐시)
+        ChatRoomCache.ChatRoomInfo room = chatRoomCache.getRoom(chatId);
+        if (userId == null || !(userId.equals(room.customerUserId()) || userId.equals(room.groomerUserId()))) {
+            throw UnauthorizedException.invalidAccess("해당 채팅방에 접근 권한이 없습니다.");
+        }
+        if (image == null || image.isEmpty()) {
+            throw BadRequestException.invalidRequest("이미지");
+        }
+        if (image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+            throw BadRequestException.invalidRequest("이미지 형식");
+        }
+
+        UploadedFile uploadedFile = fileStore.storeFiles(List.of(image), chatImageDirectory(chatId)).get(0);
+
+        return CreateChatImageResponseDto.builder()
+                .chatId(chatId)
+                .imageKey(uploadedFile.getServerFileName())
+                .imageUrl(uploadedFile.getFileUrl())
+                .build();
+    }
 
     /**
      * 메시지 전송
@@ -49,38 +97,69 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     @Override
     @Transactional
     public CreateChatMessageResponseDto sendMessage(CreateChatMessageRequestDto messageRequestDto) {
-        Chat chat = chatRepository.findById(messageRequestDto.getChatId())
-                .orElseThrow(() -> NotFoundException.entityNotFound("채팅방"));
-
-        // 발신자 정보 조회
-        String senderNickname;
-        String senderProfileImage;
-        if (messageRequestDto.getCustomerYn()) {
-            Customer customer = customerRepository.findByUserId(
-                    User.builder().userId(messageRequestDto.getSenderId()).build()
-            ).orElseThrow(() -> NotFoundException.entityNotFound("고객"));
-            senderNickname = customer.getUserId().getNickname();
-            senderProfileImage = customer.getUserId().getProfileImage();
-        } else {
-            Groomer groomer = groomerRepository.findByUserId(
-                    User.builder().userId(messageRequestDto.getSenderId()).build()
-            ).orElseThrow(() -> NotFoundException.entityNotFound("미용사"));
-            senderNickname = groomer.getUserId().getNickname();
-            senderProfileImage = groomer.getUserId().getProfileImage();
+        // 저장하는 메시지 유형(TALK/ENTER/QUIT)만 허용
+        if (messageRequestDto.getMessageType() == null || !messageRequestDto.getMessageType().isPersistable()) {
+            throw BadRequestException.invalidRequest("메시지 유형");
+        }
+        // 지연 저장 모드는 저장 전에 발행하므로 저장할 수 없는 길이는 미리 거절
+        if (messageRequestDto.getContent() != null
+                && messageRequestDto.getContent().length() > ChatMessage.CONTENT_MAX_LENGTH) {
+            throw BadRequestException.invalidRequest("메시지 길이");
+        }
+
+        // 채팅방 참여자 확인 (캐시)
+        ChatRoomCache.ChatRoomInfo room = chatRoomCache.getRoom(messageRequestDto.getChatId());
+        if (!room.memberUserId(messageRequestDto.getCustomerYn()).equals(messageRequestDto.getSenderId())) {
+            throw UnauthorizedException.invalidAccess("해당 채팅방에 접근 권한이 없습니다.");
         }
 
+        // 발신자 정보 조회 (캐시)
+        ChatRoomCache.Participant sender = chatRoomCache.getParticipant(messageRequestDto.getSenderId());
+        String senderNickname = sender.nickname();
+        String senderProfileImage = sender.profileImage();
+        Long chatId = room.chatId();
+
 
+        // 업로드된 이미지는 해당 채팅방 경로의 키만 허용
         String imageUrl = null;
-        if (StringUtils.hasText(messageRequestDto.getBase64Image())) {
-            UploadedFile uploadedFile = fileStore.storeBase64File(
-                    messageRequestDto.getBase64Image(),
-                    FileStore.CHAT_IMAGES
-            );
-            imageUrl = uploadedFile.getFileUrl();
+        if (StringUtils.hasText(messageRequestDto.getImageKey())) {
+            String imageKey = messageRequestDto.getImageKey();
+            if (!imageKey.startsWith(chatImageDirectory(chatId)) || imageKey.contains("..")) {
+                throw BadRequestException.invalidRequest("이미지 키");
+            }
+            imageUrl = fileStore.getFileUrl(imageKey);
+        }
+
+        // 지연 저장 모드: ID만 발급해 바로 응답(발행)하고 저장은 ChatMessageWriter가 묶어서 처리
+        ChatMessageWriter chatMessageWriter = chatMessageWriterProvider.getIfAvailable();
+        if (chatMessageWriter != null) {
+            ChatMessageWriter.PendingMessage pendingMessage = new ChatMessageWriter.PendingMessage(
+                    chatMessageWriter.nextMessageId(),
+                    chatId,
+                    messageRequestDto.getContent(),
+                    messageRequestDto.getCustomerYn(),
+                    messageRequestDto.getMessageType(),
+                    imageUrl,
+                    LocalDateTime.now());
+            chatMessageWriter.enqueue(pendingMessage);
+            publishMessageSent(room, pendingMessage.customerYn(), pendingMessage.messageType(), pendingMessage.messageId());
+
+            return CreateChatMessageResponseDto.builder()
+                    .messageId(pendingMessage.messageId())
+                    .chatId(pendingMessage.chatId())
+                    .senderId(messageRequestDto.getSenderId())
+                    .senderNickname(senderNickname)
+                    .senderProfileImage(senderProfileImage)
+                    .content(pendingMessage.content())
+                    .messageType(pendingMessage.messageType())
+                    .customerYn(pendingMessage.customerYn())
+                    .imageUrl(imageUrl)
+                    .createdAt(pendingMessage.createdAt())
+                    .build();
         }
 
         ChatMessage chatMessage = ChatMessage.builder()
-                .chatId(chat)
+                .chatId(chatRepository.getReferenceById(chatId))
                 .content(messageRequestDto.getContent())
                 .customerYn(messageRequestDto.getCustomerYn())
                 .messageType(messageRequestDto.getMessageType())
@@ -96,8 +175,17 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             chatMessageImageRepository.save(chatMessageImage);
         }
 
+        // 채팅방 목록용 마지막 메시지 갱신
+        chatRepository.updateLastMessage(chatId, savedMessage.getMessageId(),
+                Chat.toPreview(savedMessage.getContent()), savedMessage.getCreatedAt());
+        if (savedMessage.getMessageType() == ChatMessage.MessageType.TALK) {
+            chatSearchIndex.indexMessage(chatId, savedMessage.getMessageId(), savedMessage.getContent());
+        }
+        publishMessageSent(room, savedMessage.getCustomerYn(), savedMessage.getMessageType(), savedMessage.getMessageId());
+
         return CreateChatMessageResponseDto.builder()
-                .chatId(savedMessage.getChatId().getChatId())
+                .messageId(savedMessage.getMessageId())
+                .chatId(chatId)
                 .senderId(messageRequestDto.getSenderId())
                 .senderNickname(senderNickname)
                 .senderProfileImage(senderProfileImage)
@@ -111,7 +199,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
     // 채팅 조회
     @Override
-    public GetChatMessageListResponseDto getChatMessageList(Long chatId) {
+    public GetChatMessageListResponseDto getChatMessageList(Long chatId, Long beforeMessageId, Integer limit) {
         // 미용사
         User groomer = chatRepository.findGroomerByChatId(chatId);
 
@@ -121,8 +209,20 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // 고객
         User customer = chatRepository.findCustomerByChatId(chatId);
 
-        // 채팅
-        List<GetChatMessageResponseDto> chatMessageResponseDtoList = chatMessageRepository.findChatMessagesWithImages(chatId);
+        // 채팅 (한 건 더 조회해 이전 메시지 존재 여부 확인)
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_MESSAGE_PAGE_SIZE : Math.min(limit, MAX_MESSAGE_PAGE_SIZE);
+        List<GetChatMessageResponseDto> latestFirst = new ArrayList<>(beforeMessageId == null
+                ? chatMessageRepository.findLatestChatMessagesWithImages(chatId, Limit.of(pageSize + 1))
+                : chatMessageRepository.findChatMessagesWithImagesBefore(chatId, beforeMessageId, Limit.of(pageSize + 1)));
+
+        boolean hasNext = latestFirst.size() > pageSize;
+        if (hasNext) {
+            latestFirst = latestFirst.subList(0, pageSize);
+        }
+
+        // 화면 표시 순서(오래된 메시지 -> 최신 메시지)로 정렬
+        List<GetChatMessageResponseDto> chatMessageResponseDtoList = new ArrayList<>(latestFirst);
+        Collections.reverse(chatMessageResponseDtoList);
 
         GetChatMessageListResponseDto.ShopInfo shopInfo = GetChatMessageListResponseDto.ShopInfo.builder()
                 .shopId(shop.getShopId())
@@ -145,20 +245,99 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 .groomerInfo(groomerInfo)
                 .customerInfo(customerInfo)
                 .messages(chatMessageResponseDtoList)
+                .hasNext(hasNext)
                 .build();
     }
 
+    // 상대방의 안 읽은 메시지 수 증가 (일반 메시지만, 커밋 후 ChatUnreadCounter에서 처리)
+    private void publishMessageSent(ChatRoomCache.ChatRoomInfo room, Boolean senderCustomerYn,
+                                    ChatMessage.MessageType messageType, Long messageId) {
+        if (messageType != ChatMessage.MessageType.TALK) {
+            return;
+        }
+        eventPublisher.publishEvent(new ChatMessageSentEvent(this,
+                room.memberUserId(!senderCustomerYn), room.chatId(), messageId));
+    }
+
+    // 메시지 읽음 처리
+    @Override
+    public void readMessages(Long chatId, Long userId, Boolean customerYn, Long messageId) {
+        if (messageId == null) {
+            throw BadRequestException.invalidRequest("메시지 ID");
+        }
+
+        ChatRoomCache.ChatRoomInfo room = chatRoomCache.getRoom(chatId);
+        validateMember(room, userId, customerYn);
+
+        chatUnreadCounter.markRead(userId, customerYn, room.memberUserId(!customerYn), chatId, messageId);
+    }
+
+    // 입력 중 표시 (Redis만 사용)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void typing(Long chatId, Long userId, Boolean customerYn, boolean typing) {
+        validateMember(chatRoomCache.getRoom(chatId), userId, customerYn);
+        chatPresence.typing(chatId, userId, customerYn, typing);
+    }
+
+    // 상대방 접속 상태 (Redis만 사용)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CreateChatMessageResponseDto getPartnerPresence(Long chatId, Long userId, Boolean customerYn) {
+        ChatRoomCache.ChatRoomInfo room = chatRoomCache.getRoom(chatId);
+        validateMember(room, userId, customerYn);
+
+        Long partnerUserId = room.memberUserId(!customerYn);
+        return chatPresence.presenceFrame(chatId, partnerUserId, !customerYn, chatPresence.isOnline(chatId, partnerUserId));
+    }
+
+    private void validateMember(ChatRoomCache.ChatRoomInfo room, Long userId, Boolean customerYn) {
+        if (!room.memberUserId(customerYn).equals(userId)) {
+            throw UnauthorizedException.invalidAccess("해당 채팅방에 접근 권한이 없습니다.");
+        }
+    }
+
+    private String chatImageDirectory(Long chatId) {
+        return FileStore.CHAT_IMAGES + chatId + "/";
+    }
+
     // 채팅 논리적 삭제
     @Override
     @Transactional
     public DeleteChatMessageResponseDto deleteChatMessage(Long messageId) {
+        // 지연 저장 모드에서 아직 저장 대기 중인 메시지는 저장된 뒤 삭제 (조회 전에 기다려야 저장된 행이 보임)
+        ChatMessageWriter chatMessageWriter = chatMessageWriterProvider.getIfAvailable();
+        if (chatMessageWriter != null && !chatMessageWriter.awaitPersisted(messageId, PENDING_DELETE_TIMEOUT)) {
+            throw InternalServerException.error("메시지 삭제");
+        }
+
         ChatMessage chatMessage = chatMessageRepository.findById(messageId)
                 .orElseThrow(() -> NotFoundException.entityNotFound("메시지"));
 
         chatMessage.delete();
+        chatSearchIndex.removeMessage(messageId);
+
+        // 마지막 메시지가 삭제되면 직전 메시지로 교체 (조건부 UPDATE라 동시에 전송된 최신 메시지를 되돌리지 않음)
+        Chat chat = chatMessage.getChatId();
+        if (messageId.equals(chat.getLastMessageId())) {
+            ChatMessage previous = chatMessageRepository.findFirstByChatIdAndIsDeletedFalseOrderByMessageIdDesc(chat)
+                    .orElse(null);
+            chatRepository.replaceDeletedLastMessage(chat.getChatId(), messageId,
+                    previous == null ? null : previous.getMessageId(),
+                    previous == null ? null : Chat.toPreview(previous.getContent()),
+                    previous == null ? null : previous.getCreatedAt());
+        }
 
         return new DeleteChatMessageResponseDto(chatMessage.getMessageId());
     }
 
+    // 마지막 메시지 정보가 비어 있는 채팅방 채우기
+    @Override
+    @Transactional
+    public void fillMissingLastMessages() {
+        chatMessageRepository.findLastMessagesOfChatsWithoutLastMessage()
+                .forEach(message -> message.getChatId().updateLastMessage(message));
+    }
+
 
 }
\ No newline at end of file
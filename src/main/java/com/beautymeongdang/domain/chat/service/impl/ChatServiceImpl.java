@@ -4,24 +4,30 @@ import com.beautymeongdang.domain.chat.dto.*;
 import com.beautymeongdang.domain.chat.entity.Chat;
 import com.beautymeongdang.domain.chat.entity.ChatMessage;
 import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.chat.service.ChatDeletedEvent;
+import com.beautymeongdang.domain.chat.service.ChatQuitMessageEvent;
+import com.beautymeongdang.domain.chat.service.ChatRoomCache;
+import com.beautymeongdang.domain.chat.service.ChatRoomCacheEvictEvent;
+import com.beautymeongdang.domain.chat.service.ChatSearchIndex;
 import com.beautymeongdang.domain.chat.service.ChatService;
+import com.beautymeongdang.domain.chat.service.ChatUnreadCounter;
 import com.beautymeongdang.domain.notification.enums.NotificationType;
 import com.beautymeongdang.domain.notification.service.NotificationService;
 import com.beautymeongdang.domain.user.entity.Customer;
 import com.beautymeongdang.domain.user.entity.Groomer;
-import com.beautymeongdang.domain.user.entity.User;
 import com.beautymeongdang.domain.user.repository.CustomerRepository;
 import com.beautymeongdang.domain.user.repository.GroomerRepository;
 import com.beautymeongdang.global.exception.handler.BadRequestException;
 import com.beautymeongdang.global.exception.handler.NotFoundException;
 import com.beautymeongdang.global.exception.handler.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -33,8 +39,11 @@ public class ChatServiceImpl implements ChatService {
     private final ChatRepository chatRepository;
     private final CustomerRepository customerRepository;
     private final GroomerRepository groomerRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
     private final NotificationService notificationService;
+    private final ChatRoomCache chatRoomCache;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatSearchIndex chatSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -68,6 +77,7 @@ public class ChatServiceImpl implements ChatService {
                         .build();
 
                 Chat savedChat = chatRepository.save(newChat);
+                chatSearchIndex.indexRooms(List.of(savedChat.getChatId()));
                 return CreateChatResponseDto.from(savedChat);
             } else {
                 // 아무도 퇴장하지 않은 채팅방이 있으면
@@ -83,6 +93,7 @@ public class ChatServiceImpl implements ChatService {
                 .build();
 
         Chat savedChat = chatRepository.save(newChat);
+        chatSearchIndex.indexRooms(List.of(savedChat.getChatId()));
 
         // 알림 저장 로직 추가
         String notificationMessage = String.format(
@@ -90,8 +101,8 @@ public class ChatServiceImpl implements ChatService {
                 customer.getUserId().getUserName()
         );
 
-        // 알림 저장
-        notificationService.saveNotification(
+        // 알림 저장 (커밋 후 발송)
+        notificationService.enqueueNotification(
                 groomer.getUserId().getUserId(),
                 "groomer",
                 NotificationType.CHAT_ROOM.getDescription(),
@@ -109,32 +120,15 @@ public class ChatServiceImpl implements ChatService {
      */
     @Override
     public void validateChatRoomAccess(Long chatId, Long userId, Boolean customerYn) {
-        Chat chat = chatRepository.findById(chatId)
-                .orElseThrow(() -> NotFoundException.entityNotFound("채팅방"));
-
-        if (customerYn) {
-            User user = User.builder().userId(userId).build();
+        ChatRoomCache.ChatRoomInfo room = chatRoomCache.getRoom(chatId);
 
-            if (!chat.getCustomerId().getUserId().getUserId().equals(userId)) {
-                throw UnauthorizedException.invalidAccess("해당 채팅방에 접근 권한이 없습니다.");
-            }
-
-            // 고객 본인이 퇴장한 경우만 체크
-            if (chat.getCustomerExitedYn()) {
-                throw UnauthorizedException.invalidAccess("이미 나간 채팅방입니다.");
-            }
-
-        } else {
-            User user = User.builder().userId(userId).build();
-
-            if (!chat.getGroomerId().getUserId().getUserId().equals(userId)) {
-                throw UnauthorizedException.invalidAccess("해당 채팅방에 접근 권한이 없습니다.");
-            }
+        if (!room.memberUserId(customerYn).equals(userId)) {
+            throw UnauthorizedException.invalidAccess("해당 채팅방에 접근 권한이 없습니다.");
+        }
 
-            // 미용사 본인이 퇴장한 경우만 체크
-            if (chat.getGroomerExitedYn()) {
-                throw UnauthorizedException.invalidAccess("이미 나간 채팅방입니다.");
-            }
+        // 본인이 퇴장한 경우만 체크
+        if (room.exited(customerYn)) {
+            throw UnauthorizedException.invalidAccess("이미 나간 채팅방입니다.");
         }
     }
 
@@ -158,10 +152,12 @@ public class ChatServiceImpl implements ChatService {
         // 양쪽 모두 퇴장했는지 확인하고 채팅방 논리적 삭제
         if (chat.getCustomerExitedYn() && chat.getGroomerExitedYn()) {
             chat.delete();
+            eventPublisher.publishEvent(new ChatDeletedEvent(this, List.of(chat.getChatId())));
         }
+        eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofChats(this, List.of(chat.getChatId())));
+        chatUnreadCounter.clear(userId, chat.getChatId());
 
-        // 퇴장 메시지 전송
-        String destination = "/sub/chat/room/" + chat.getChatId();
+        // 퇴장 메시지 전송 (커밋 후 채팅방 로그에 남겨 재연결한 상대도 받을 수 있도록 Redis로 발행)
         CreateChatMessageResponseDto quitMessage = CreateChatMessageResponseDto.builder()
                 .chatId(chat.getChatId())
                 .senderId(userId)
@@ -171,7 +167,7 @@ public class ChatServiceImpl implements ChatService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend(destination, quitMessage);
+        eventPublisher.publishEvent(new ChatQuitMessageEvent(this, quitMessage));
 
         return UpdateChatExitResponseDto.from(chat, userId, customerYn);
     }
@@ -180,24 +176,65 @@ public class ChatServiceImpl implements ChatService {
     // 고객 채팅방 목록 조회
     @Override
     public List<GetCustomerChatListResponseDto> getCustomerChatList(Long customerId) {
-        return chatRepository.getCustomerChatList(customerId);
+        return applyCustomerUnreadCounts(chatRepository.getCustomerChatList(customerId));
     }
 
-    // 고객 채팅방 목록 검색 조회
+    // 고객 채팅방 목록 검색 조회 (미용사 닉네임, 매장명, 메시지 내용)
     @Override
     public List<GetCustomerChatListResponseDto> getCustomerChatListBySearchKeyword(Long customerId, String searchWord) {
-        return chatRepository.getCustomerChatListBySearchKeyword(customerId, searchWord);
+        ChatSearchIndex.SearchResult result = chatSearchIndex.search(chatRepository.findActiveChatIdsByCustomerId(customerId), searchWord);
+        if (result.isEmpty()) {
+            return List.of();
+        }
+
+        List<GetCustomerChatListResponseDto> rooms = chatRepository.getCustomerChatListByChatIds(customerId, result.chatIds()).stream()
+                .filter(room -> result.matchedMessage(room.getRoomId()) != null
+                        || result.roomMatches(room.getRoomId(), room.getGroomerName(), room.getShopName()))
+                .toList();
+        rooms.forEach(room -> room.applyMatchedMessage(result.matchedMessage(room.getRoomId())));
+        return applyCustomerUnreadCounts(rooms);
     }
 
     // 미용사 채팅방 목록 조회
     @Override
     public List<GetGroomerChatListResponseDto> getGroomerChatList(Long customerId) {
-        return chatRepository.getGroomerChatList(customerId);
+        return applyGroomerUnreadCounts(chatRepository.getGroomerChatList(customerId));
     }
 
-    // 미용사 채팅방 목록 검색 조회
+    // 미용사 채팅방 목록 검색 조회 (고객 이름, 메시지 내용)
     @Override
     public List<GetGroomerChatListResponseDto> getGroomerChatListBySearchKeyword(Long groomerId, String searchWord) {
-        return chatRepository.getGroomerChatListBySearchKeyword(groomerId, searchWord);
+        ChatSearchIndex.SearchResult result = chatSearchIndex.search(chatRepository.findActiveChatIdsByGroomerId(groomerId), searchWord);
+        if (result.isEmpty()) {
+            return List.of();
+        }
+
+        List<GetGroomerChatListResponseDto> rooms = chatRepository.getGroomerChatListByChatIds(groomerId, result.chatIds()).stream()
+                .filter(room -> result.matchedMessage(room.getRoomId()) != null
+                        || result.roomMatches(room.getRoomId(), room.getCustomerName()))
+                .toList();
+        rooms.forEach(room -> room.applyMatchedMessage(result.matchedMessage(room.getRoomId())));
+        return applyGroomerUnreadCounts(rooms);
+    }
+
+    // 채팅방 목록에 안 읽은 메시지 수 반영 (회원 ID는 목록 조회 결과에 함께 담겨 옴)
+    private List<GetCustomerChatListResponseDto> applyCustomerUnreadCounts(List<GetCustomerChatListResponseDto> rooms) {
+        if (rooms.isEmpty()) {
+            return rooms;
+        }
+
+        Map<Long, Long> unreadCounts = chatUnreadCounter.getUnreadCounts(rooms.get(0).getViewerUserId());
+        rooms.forEach(room -> room.applyUnreadCount(unreadCounts.getOrDefault(room.getRoomId(), 0L)));
+        return rooms;
+    }
+
+    private List<GetGroomerChatListResponseDto> applyGroomerUnreadCounts(List<GetGroomerChatListResponseDto> rooms) {
+        if (rooms.isEmpty()) {
+            return rooms;
+        }
+
+        Map<Long, Long> unreadCounts = chatUnreadCounter.getUnreadCounts(rooms.get(0).getViewerUserId());
+        rooms.forEach(room -> room.applyUnreadCount(unreadCounts.getOrDefault(room.getRoomId(), 0L)));
+        return rooms;
     }
 }
@@ -12,19 +12,18 @@ import com.beautymeongdang.domain.payment.repository.PaymentRepository;
 import com.beautymeongdang.domain.quote.repository.QuoteRepository;
 import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeedEvent;
 import com.beautymeongdang.domain.user.entity.Customer;
 import com.beautymeongdang.domain.user.repository.CustomerRepository;
 import com.beautymeongdang.global.common.entity.CommonCode;
-import com.beautymeongdang.global.common.entity.CommonCodeId;
-import com.beautymeongdang.global.common.entity.GroupCode;
 import com.beautymeongdang.global.common.entity.UploadedFile;
-import com.beautymeongdang.global.common.repository.CommonCodeRepository;
-import com.beautymeongdang.global.common.repository.GroupCodeRepository;
+import com.beautymeongdang.global.common.service.CommonCodeRegistry;
 import com.beautymeongdang.global.exception.handler.BadRequestException;
 import com.beautymeongdang.global.exception.handler.NotFoundException;
 import com.beautymeongdang.infra.s3.FileStore;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -45,11 +44,11 @@ public class DogServiceImpl implements DogService {
     private final QuoteRequestRepository quoteRequestRepository;
     private final SelectedQuoteRepository selectedQuoteRepository;
     private final PaymentRepository paymentRepository;
-    private final CommonCodeRepository commonCodeRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String DEFAULT_DOG_PROFILE_IMAGE = "https://s3-beauty-meongdang.s3.ap-northeast-2.amazonaws.com/%EB%B0%98%EB%A0%A4%EA%B2%AC+%ED%94%84%EB%A1%9C%ED%95%84+%EC%9D%B4%EB%AF%B8%EC%A7%80/%EB%B0%98%EB%A0%A4%EA%B2%AC%ED%94%84%EB%A1%9C%ED%95%84%EA%B8%B0%EB%B3%B8%EC%9D%B4%EB%AF%B8%EC%A7%80.jpg";
     private static final String DOG_BREED_GROUP_CODE = "400";
-    private final GroupCodeRepository groupCodeRepository;
 
 
     // 반려견 나이 계산
@@ -73,8 +72,7 @@ public class DogServiceImpl implements DogService {
             throw new BadRequestException("반려견은 최대 5마리까지만 등록할 수 있습니다");
         }
 
-        CommonCodeId commonCodeId = new CommonCodeId(requestDto.getDogBreedCodeId(), DOG_BREED_GROUP_CODE);
-        CommonCode breedCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode breedCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, requestDto.getDogBreedCodeId())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종 코드"));
 
         String profileImageUrl = DEFAULT_DOG_PROFILE_IMAGE;
@@ -127,8 +125,7 @@ public class DogServiceImpl implements DogService {
             throw BadRequestException.invalidRequest("해당 반려견의 소유자");
         }
 
-        CommonCodeId commonCodeId = new CommonCodeId(dog.getDogBreed(), DOG_BREED_GROUP_CODE);
-        CommonCode breedCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode breedCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, dog.getDogBreed())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종 코드"));
 
 
@@ -161,8 +158,7 @@ public class DogServiceImpl implements DogService {
             throw BadRequestException.invalidRequest("해당 반려견의 소유자");
         }
 
-        CommonCodeId commonCodeId = new CommonCodeId(requestDto.getDogBreedCodeId(), DOG_BREED_GROUP_CODE);
-        CommonCode breedCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode breedCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, requestDto.getDogBreedCodeId())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종 코드"));
 
         String profileImageUrl = dog.getProfileImage();
@@ -222,7 +218,10 @@ public class DogServiceImpl implements DogService {
         paymentRepository.findAllBySelectedQuoteIdQuoteIdDogId(dog).forEach(Payment::delete);
         selectedQuoteRepository.findAllByQuoteIdDogId(dog).forEach(SelectedQuote::delete);
         quoteRepository.findAllByDogId(dog).forEach(Quote::delete);
-        quoteRequestRepository.findAllByDogId(dog).forEach(QuoteRequest::delete);
+        List<QuoteRequest> quoteRequests = quoteRequestRepository.findAllByDogId(dog);
+        quoteRequests.forEach(QuoteRequest::delete);
+        eventPublisher.publishEvent(new QuoteRequestFeedEvent(this,
+                quoteRequests.stream().map(QuoteRequest::getRequestId).toList()));
 
         // 반려견 논리적 삭제
         dog.delete();
@@ -235,10 +234,10 @@ public class DogServiceImpl implements DogService {
     // 반려견 견종 목록 조회
     @Override
     public List<GetBreedResponseDto> getBreed() {
-        GroupCode groupCode = groupCodeRepository.findById("400")
+        commonCodeRegistry.findGroup(DOG_BREED_GROUP_CODE)
                 .orElseThrow(() -> NotFoundException.entityNotFound("반려견 견종"));
 
-        List<CommonCode> dogBreedCode = commonCodeRepository.findAllByGroupId(groupCode);
+        List<CommonCode> dogBreedCode = commonCodeRegistry.getCodes(DOG_BREED_GROUP_CODE);
 
         List<GetBreedResponseDto> dogBreed = new ArrayList<>();
 
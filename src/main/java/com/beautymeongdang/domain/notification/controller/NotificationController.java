@@ -2,6 +2,7 @@ package com.beautymeongdang.domain.notification.controller;
 
 import com.beautymeongdang.domain.notification.service.NotificationEventPublisher;
 import com.beautymeongdang.domain.notification.service.NotificationService;
+import com.beautymeongdang.domain.notification.service.SseEmitterRegistry;
 import com.beautymeongdang.global.exception.handler.UnauthorizedException;
 import com.beautymeongdang.global.jwt.JwtProvider;
 import org.springframework.http.ResponseEntity;
@@ -45,24 +46,32 @@ public class NotificationController {
             throw new UnauthorizedException("토큰의 사용자 ID가 제공된 사용자 ID와 일치하지 않습니다");
         }
 
-        String key = String.format("%d:%s", userId, roleType);
+        // 연결 유지 시간 제한 (만료되면 클라이언트가 재연결, 탭/기기별 연결 유지)
+        SseEmitter emitter = new SseEmitter(SseEmitterRegistry.EMITTER_TIMEOUT.toMillis());
+        notificationEventPublisher.addEmitter(userId, roleType, emitter);
 
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        notificationEventPublisher.addEmitter(key, emitter);
+        emitter.onCompletion(() -> notificationEventPublisher.removeEmitter(userId, roleType, emitter));
+        emitter.onTimeout(() -> {
+            notificationEventPublisher.removeEmitter(userId, roleType, emitter);
+            emitter.complete();
+        });
+        emitter.onError((e) -> notificationEventPublisher.removeEmitter(userId, roleType, emitter));
 
-        emitter.onCompletion(() -> notificationEventPublisher.removeEmitter(key));
-        emitter.onTimeout(() -> notificationEventPublisher.removeEmitter(key));
-        emitter.onError((e) -> notificationEventPublisher.removeEmitter(key));
+        // 연결 직후 현재 읽지 않은 알림 수 전달 (이후 변경될 때마다 전달)
+        notificationEventPublisher.publishUnreadCount(userId, roleType,
+                notificationService.getUnreadNotificationCount(userId, roleType));
 
         return emitter;
     }
 
-    // 알림 조회 API
+    // 알림 조회 API (최신순, before: 이전 페이지 마지막 알림의 createdAt)
     @GetMapping
     public ResponseEntity<Map<String, Object>> getNotifications(
             @RequestParam("userId") Long userId,
-            @RequestParam("roleType") String roleType) {
-        List<Object> notifications = notificationService.getNotifications(userId, roleType);
+            @RequestParam("roleType") String roleType,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        List<Object> notifications = notificationService.getNotifications(userId, roleType, before, limit);
         return ResponseEntity.ok(Map.of("status", "success", "data", notifications));
     }
 
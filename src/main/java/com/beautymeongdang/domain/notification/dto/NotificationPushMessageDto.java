@@ -0,0 +1,20 @@
+package com.beautymeongdang.domain.notification.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 서버 간 SSE 알림 전달 메시지 (originNodeId: 발행한 서버, 이미 로컬로 전달했으므로 다시 보내지 않음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NotificationPushMessageDto {
+    private String originNodeId;
+    private Long userId;
+    private String roleType;
+    // SSE 이벤트 이름 (없으면 기본 message 이벤트)
+    private String eventName;
+    private Object data;
+}
@@ -0,0 +1,74 @@
+package com.beautymeongdang.domain.notification.entity;
+
+import com.beautymeongdang.global.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 알림 (트랜잭션 아웃박스)
+ * 알림을 만든 비즈니스 트랜잭션과 함께 저장되고, 커밋 후 NotificationOutboxRelay가 발송한 뒤 삭제한다.
+ * 발송에 실패하면 재시도 시각을 늦추고, 최대 횟수를 넘기면 failed로 남긴다.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_notification_outbox_dispatch", columnList = "failed, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox extends BaseTimeEntity {
+
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String roleType;
+
+    @Column(nullable = false, length = 50)
+    private String notifyType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private Boolean failed;
+
+    public static NotificationOutbox of(Long userId, String roleType, String notifyType, String content) {
+        return NotificationOutbox.builder()
+                .userId(userId)
+                .roleType(roleType)
+                .notifyType(notifyType)
+                .content(content)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .failed(false)
+                .build();
+    }
+
+    // 발송할 알림 ID (다시 발송되어도 같은 알림으로 저장되도록 아웃박스 ID로 정함)
+    public String getNotificationId() {
+        return "outbox-" + outboxId;
+    }
+
+    // 발송 실패 (5초부터 두 배씩, 최대 10분 뒤 재시도)
+    public void failAttempt(int maxAttempts) {
+        this.attempts++;
+        this.failed = this.attempts >= maxAttempts;
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(Math.min(MAX_BACKOFF_SECONDS, 5L << Math.min(this.attempts - 1, 7)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.beautymeongdang.domain.notification.pubsub;
+
+import com.beautymeongdang.domain.notification.dto.NotificationPushMessageDto;
+import com.beautymeongdang.domain.notification.service.NotificationEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 서버에서 발행한 알림을 이 서버에 연결된 SSE 구독자에게 전달
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NotificationPushSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final NotificationEventPublisher notificationEventPublisher;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            notificationEventPublisher.deliver(objectMapper.readValue(body, NotificationPushMessageDto.class));
+        } catch (Exception e) {
+            log.error("알림 전달 메시지 처리 실패 - error: {}, raw message: {}", e.getMessage(), body, e);
+        }
+    }
+}
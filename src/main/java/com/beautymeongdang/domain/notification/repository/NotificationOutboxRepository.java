@@ -0,0 +1,31 @@
+package com.beautymeongdang.domain.notification.repository;
+
+import com.beautymeongdang.domain.notification.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 발송할 알림 (다른 서버가 발송 중인 알림은 건너뜀, SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+    SELECT o
+    FROM NotificationOutbox o
+    WHERE o.failed = false
+      AND o.nextAttemptAt <= :now
+    ORDER BY o.outboxId
+    """)
+    List<NotificationOutbox> findDispatchable(@Param("now") LocalDateTime now, Limit limit);
+}
@@ -1,37 +1,146 @@
 package com.beautymeongdang.domain.notification.service;
 
+import com.beautymeongdang.domain.notification.dto.NotificationPushMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * SSE 알림 전달
+ * 회원이 연결된 서버 목록(notifications:sse:{userId}:{roleType} SET)을 Redis에 두고,
+ * 이 서버에 연결되어 있으면 바로 전달하고 다른 서버에도 연결되어 있을 때만 Redis 채널로 발행한다.
+ * 각 서버는 채널 메시지를 받아 자신에게 연결된 구독자에게만 전달한다.
+ */
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class NotificationEventPublisher {
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+    public static final String CHANNEL = "notification-push";
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private static final String CONNECTION_KEY_PREFIX = "notifications:sse:";
+    // 연결 목록 TTL (스케줄러가 주기적으로 연장, 서버가 비정상 종료되면 만료)
+    public static final Duration CONNECTION_TTL = Duration.ofMinutes(10);
 
-    public void addEmitter(String key, SseEmitter emitter) {
-        emitters.put(key, emitter);
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void addEmitter(Long userId, String roleType, SseEmitter emitter) {
+        String key = emitterKey(userId, roleType);
+        sseEmitterRegistry.add(key, emitter);
+        registerConnection(key);
     }
 
-    public void removeEmitter(String key) {
-        emitters.remove(key);
+    // 해당 회원의 마지막 연결이면 연결 목록에서도 제거
+    public void removeEmitter(Long userId, String roleType, SseEmitter emitter) {
+        String key = emitterKey(userId, roleType);
+        if (sseEmitterRegistry.remove(key, emitter)) {
+            unregisterConnection(key);
+        }
     }
 
     @Async
     public void publishNotification(Long userId, String roleType, String message) {
-        String key = String.format("%d:%s", userId, roleType);
-        SseEmitter emitter = emitters.get(key);
-
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event().data(message));
-            } catch (IOException e) {
-                emitters.remove(key);
+        push(new NotificationPushMessageDto(nodeId, userId, roleType, null, message));
+    }
+
+    // 읽지 않은 알림 수 변경 (unread-count 이벤트)
+    @Async
+    public void publishUnreadCount(Long userId, String roleType, long unreadCount) {
+        push(new NotificationPushMessageDto(nodeId, userId, roleType, UNREAD_COUNT_EVENT, Map.of("unreadCount", unreadCount)));
+    }
+
+    // 다른 서버에서 발행한 알림 전달 (이 서버가 발행한 메시지는 이미 전달했으므로 무시)
+    public void deliver(NotificationPushMessageDto message) {
+        if (nodeId.equals(message.getOriginNodeId())) {
+            return;
+        }
+        sendLocal(message);
+    }
+
+    // 하트비트 전송 후 연결이 모두 끊어진 회원은 연결 목록에서 제거
+    public void heartbeat() {
+        sseEmitterRegistry.heartbeat().forEach(this::unregisterConnection);
+    }
+
+    // 이 서버에 연결된 구독자의 연결 목록 TTL 연장
+    public void refreshConnections() {
+        Set<String> keys = sseEmitterRegistry.keys();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keys.forEach(key -> {
+                stringConnection.sAdd(CONNECTION_KEY_PREFIX + key, nodeId);
+                stringConnection.expire(CONNECTION_KEY_PREFIX + key, CONNECTION_TTL.toSeconds());
+            });
+            return null;
+        });
+    }
+
+    private void push(NotificationPushMessageDto message) {
+        sendLocal(message);
+
+        // 다른 서버에 연결된 구독자가 있을 때만 발행
+        try {
+            Set<String> nodeIds = stringRedisTemplate.opsForSet()
+                    .members(CONNECTION_KEY_PREFIX + emitterKey(message.getUserId(), message.getRoleType()));
+            if (nodeIds != null && nodeIds.stream().anyMatch(id -> !id.equals(nodeId))) {
+                stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
             }
+        } catch (Exception e) {
+            log.error("알림 발행 실패 - userId: {}, roleType: {}, error: {}",
+                    message.getUserId(), message.getRoleType(), e.getMessage(), e);
+        }
+    }
+
+    // 이 서버에 연결된 해당 회원의 모든 연결(탭/기기)에 전달
+    private void sendLocal(NotificationPushMessageDto message) {
+        String key = emitterKey(message.getUserId(), message.getRoleType());
+        boolean emptied = sseEmitterRegistry.send(key, () -> {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().data(message.getData());
+            return message.getEventName() == null ? event : event.name(message.getEventName());
+        });
+
+        if (emptied) {
+            unregisterConnection(key);
         }
     }
-}
\ No newline at end of file
+
+    private void registerConnection(String key) {
+        try {
+            stringRedisTemplate.opsForSet().add(CONNECTION_KEY_PREFIX + key, nodeId);
+            stringRedisTemplate.expire(CONNECTION_KEY_PREFIX + key, CONNECTION_TTL);
+        } catch (Exception e) {
+            log.error("SSE 연결 등록 실패 - key: {}, error: {}", key, e.getMessage(), e);
+        }
+    }
+
+    private void unregisterConnection(String key) {
+        try {
+            stringRedisTemplate.opsForSet().remove(CONNECTION_KEY_PREFIX + key, nodeId);
+        } catch (Exception e) {
+            log.error("SSE 연결 해제 실패 - key: {}, error: {}", key, e.getMessage(), e);
+        }
+    }
+
+    private String emitterKey(Long userId, String roleType) {
+        return String.format("%d:%s", userId, roleType);
+    }
+}
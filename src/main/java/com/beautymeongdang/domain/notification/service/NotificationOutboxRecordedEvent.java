@@ -0,0 +1,11 @@
+package com.beautymeongdang.domain.notification.service;
+
+import org.springframework.context.ApplicationEvent;
+
+// 발송 대기 알림 저장 (커밋 후 바로 발송하도록 NotificationOutboxRelay를 깨움)
+public class NotificationOutboxRecordedEvent extends ApplicationEvent {
+
+    public NotificationOutboxRecordedEvent(Object source) {
+        super(source);
+    }
+}
@@ -0,0 +1,78 @@
+package com.beautymeongdang.domain.notification.service;
+
+import com.beautymeongdang.domain.notification.entity.NotificationOutbox;
+import com.beautymeongdang.domain.notification.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발송 대기 알림(NotificationOutbox) 발송
+ * 알림을 저장한 트랜잭션이 커밋되면 비동기로 바로 발송하고, 실패했거나 누락된 알림은 스케줄러가 주기적으로 다시 발송한다.
+ * 여러 서버가 동시에 실행해도 같은 알림을 중복 발송하지 않도록 발송할 행을 잠그고(SKIP LOCKED) 묶어서 처리한다.
+ * 발송 후 삭제 전에 중단되어 다시 발송되더라도 알림 ID가 아웃박스 ID로 정해져 있어 저장소에서 한 번만 저장된다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationService notificationService,
+                                   PlatformTransactionManager transactionManager) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationOutboxRecordedEvent(NotificationOutboxRecordedEvent event) {
+        relay();
+    }
+
+    /**
+     * 발송할 알림이 남아 있지 않을 때까지 BATCH_SIZE씩 발송
+     */
+    public void relay() {
+        Integer processed;
+        do {
+            processed = transactionTemplate.execute(status -> dispatchBatch());
+        } while (processed != null && processed == BATCH_SIZE);
+    }
+
+    // 발송한 알림은 삭제하고 실패한 알림은 재시도 시각을 늦춤
+    private int dispatchBatch() {
+        List<NotificationOutbox> batch = notificationOutboxRepository.findDispatchable(LocalDateTime.now(), Limit.of(BATCH_SIZE));
+
+        List<NotificationOutbox> dispatched = new ArrayList<>(batch.size());
+        for (NotificationOutbox outbox : batch) {
+            try {
+                notificationService.saveNotification(outbox.getNotificationId(), outbox.getUserId(), outbox.getRoleType(),
+                        outbox.getNotifyType(), outbox.getContent());
+                dispatched.add(outbox);
+            } catch (Exception e) {
+                outbox.failAttempt(MAX_ATTEMPTS);
+                log.error("알림 발송 실패 - outboxId: {}, attempts: {}, error: {}",
+                        outbox.getOutboxId(), outbox.getAttempts(), e.getMessage(), e);
+            }
+        }
+
+        notificationOutboxRepository.deleteAllInBatch(dispatched);
+        return batch.size();
+    }
+}
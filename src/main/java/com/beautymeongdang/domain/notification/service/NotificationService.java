@@ -4,7 +4,9 @@ import java.util.List;
 
 public interface NotificationService {
     void saveNotification(Long userId, String roleType, String notifyType, String notifyContent);
-    List<Object> getNotifications(Long userId, String roleType);
+    void saveNotification(String notificationId, Long userId, String roleType, String notifyType, String notifyContent);
+    void enqueueNotification(Long userId, String roleType, String notifyType, String notifyContent);
+    List<Object> getNotifications(Long userId, String roleType, Long before, Integer limit);
     int getUnreadNotificationCount(Long userId, String roleType);
     void deleteNotification(Long userId, String roleType, String notificationId);
     void clearAllNotifications(Long userId, String roleType);
@@ -0,0 +1,268 @@
+package com.beautymeongdang.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 회원/역할별 알림 저장소 (Redis)
+ * - notifications:{userId}:{roleType}        ZSET 알림 ID (score = 생성 시각)
+ * - notifications:{userId}:{roleType}:items  HASH 알림 ID -> 알림 내용(JSON)
+ * - notifications:{userId}:{roleType}:read   SET  읽은 알림 ID
+ * - notifications:{userId}:{roleType}:unread STRING 읽지 않은 알림 수 (변경하는 스크립트 안에서 함께 갱신)
+ * 알림별 보관 기간(2주)은 notifications:expiry(ZSET, score = 가장 오래된 알림 생성 시각)를 기준으로
+ * 스케줄러가 정리하고, 조회/삭제는 해당 회원의 키만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStore {
+    private static final String KEY_PREFIX = "notifications:";
+    private static final String EXPIRY_KEY = "notifications:expiry";
+    public static final Duration RETENTION = Duration.ofDays(14);
+    private static final int MAX_NOTIFICATIONS = 1000;
+
+    // 카운터가 없으면 전체 - 읽은 알림으로 만들고(TTL은 알림 ID 키와 같게), 0 미만으로 내려가지 않도록 조정
+    private static final String ADJUST_UNREAD =
+            "local function ensure(idsKey, readKey, key) " +
+            "  if redis.call('EXISTS', key) == 1 or redis.call('EXISTS', idsKey) == 0 then return end " +
+            "  local unread = math.max(0, redis.call('ZCARD', idsKey) - redis.call('SCARD', readKey)) " +
+            "  redis.call('SET', key, unread) " +
+            "  local ttl = redis.call('TTL', idsKey) " +
+            "  if ttl > 0 then redis.call('EXPIRE', key, ttl) end " +
+            "end " +
+            "local function adjust(key, delta) " +
+            "  local count = redis.call('INCRBY', key, delta) " +
+            "  if count < 0 then redis.call('INCRBY', key, -count) count = 0 end " +
+            "  return count " +
+            "end ";
+
+    // 삭제되는 알림 중 읽지 않은 알림 수
+    private static final String COUNT_UNREAD_OF =
+            "local function unreadOf(readKey, ids) " +
+            "  local unread = 0 " +
+            "  for _, id in ipairs(ids) do " +
+            "    if redis.call('SISMEMBER', readKey, id) == 0 then unread = unread + 1 end " +
+            "  end " +
+            "  return unread " +
+            "end ";
+
+    // 저장 후 보관 개수 초과분 정리, 키 TTL 연장, 정리 대상 목록 갱신 (읽지 않은 알림 수 반환, 이미 있는 알림이면 저장하지 않고 -1)
+    private static final DefaultRedisScript<Long> SAVE = new DefaultRedisScript<>(
+            ADJUST_UNREAD + COUNT_UNREAD_OF +
+            "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then return -1 end " +
+            "ensure(KEYS[1], KEYS[3], KEYS[5]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[3]) " +
+            "local delta = 1 " +
+            "local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[6]) " +
+            "if overflow > 0 then " +
+            "  local old = redis.call('ZRANGE', KEYS[1], 0, overflow - 1) " +
+            "  delta = delta - unreadOf(KEYS[3], old) " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1) " +
+            "  redis.call('HDEL', KEYS[2], unpack(old)) " +
+            "  redis.call('SREM', KEYS[3], unpack(old)) " +
+            "end " +
+            "local unread = adjust(KEYS[5], delta) " +
+            "for _, key in ipairs({KEYS[1], KEYS[2], KEYS[3], KEYS[5]}) do redis.call('EXPIRE', key, ARGV[4]) end " +
+            "local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "redis.call('ZADD', KEYS[4], oldest[2], ARGV[5]) " +
+            "return unread",
+            Long.class);
+
+    // 최신순 한 페이지 (알림 내용, 읽음 여부 순서로 반복)
+    private static final DefaultRedisScript<List> LIST = new DefaultRedisScript<>(
+            "local ids = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2], 'LIMIT', 0, tonumber(ARGV[3])) " +
+            "local result = {} " +
+            "for _, id in ipairs(ids) do " +
+            "  local body = redis.call('HGET', KEYS[2], id) " +
+            "  if body then " +
+            "    result[#result + 1] = body " +
+            "    result[#result + 1] = tostring(redis.call('SISMEMBER', KEYS[3], id)) " +
+            "  end " +
+            "end " +
+            "return result",
+            List.class);
+
+    // 읽음 여부 변경 (없는 알림이면 -1, 아니면 읽지 않은 알림 수)
+    private static final DefaultRedisScript<Long> MARK = new DefaultRedisScript<>(
+            ADJUST_UNREAD +
+            "if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then return -1 end " +
+            "ensure(KEYS[1], KEYS[2], KEYS[3]) " +
+            "if ARGV[2] == '1' then " +
+            "  if redis.call('SADD', KEYS[2], ARGV[1]) == 1 then adjust(KEYS[3], -1) end " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "elseif redis.call('SREM', KEYS[2], ARGV[1]) == 1 then " +
+            "  adjust(KEYS[3], 1) " +
+            "end " +
+            "return tonumber(redis.call('GET', KEYS[3]) or '0')",
+            Long.class);
+
+    // 알림 삭제 (읽지 않은 알림 수 반환)
+    private static final DefaultRedisScript<Long> DELETE = new DefaultRedisScript<>(
+            ADJUST_UNREAD +
+            "ensure(KEYS[1], KEYS[3], KEYS[4]) " +
+            "if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "  if redis.call('SREM', KEYS[3], ARGV[1]) == 0 then return adjust(KEYS[4], -1) end " +
+            "end " +
+            "return tonumber(redis.call('GET', KEYS[4]) or '0')",
+            Long.class);
+
+    // 읽지 않은 알림 수 (카운터가 없으면 전체 - 읽은 알림으로 다시 만듦)
+    private static final DefaultRedisScript<Long> UNREAD = new DefaultRedisScript<>(
+            ADJUST_UNREAD +
+            "local count = redis.call('GET', KEYS[3]) " +
+            "if count then return tonumber(count) end " +
+            "ensure(KEYS[1], KEYS[2], KEYS[3]) " +
+            "return tonumber(redis.call('GET', KEYS[3]) or '0')",
+            Long.class);
+
+    // 보관 기간이 지난 알림 정리 후 정리 대상 목록의 기준 시각 갱신
+    private static final DefaultRedisScript<Long> TRIM = new DefaultRedisScript<>(
+            ADJUST_UNREAD + COUNT_UNREAD_OF +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "if #expired > 0 then " +
+            "  ensure(KEYS[1], KEYS[3], KEYS[5]) " +
+            "  adjust(KEYS[5], -unreadOf(KEYS[3], expired)) " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "  redis.call('HDEL', KEYS[2], unpack(expired)) " +
+            "  redis.call('SREM', KEYS[3], unpack(expired)) " +
+            "end " +
+            "local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "if #oldest == 0 then redis.call('ZREM', KEYS[4], ARGV[2]) else redis.call('ZADD', KEYS[4], oldest[2], ARGV[2]) end " +
+            "return #expired",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 저장 후 읽지 않은 알림 수 반환 (같은 ID의 알림이 이미 있으면 저장하지 않고 -1)
+    public long save(Long userId, String roleType, Map<String, Object> notification) {
+        String notificationId = (String) notification.get("id");
+        long createdAt = (Long) notification.get("createdAt");
+        return toCount(stringRedisTemplate.execute(SAVE, keys(userId, roleType, true),
+                notificationId, String.valueOf(createdAt), toJson(notification),
+                String.valueOf(RETENTION.toSeconds()), member(userId, roleType), String.valueOf(MAX_NOTIFICATIONS)));
+    }
+
+    // 최신순 조회 (before: 이 시각 이전 알림만, 커서)
+    @SuppressWarnings("unchecked")
+    public List<Object> findPage(Long userId, String roleType, Long before, int limit) {
+        String max = before == null ? "+inf" : "(" + before;
+        String min = String.valueOf(System.currentTimeMillis() - RETENTION.toMillis());
+        List<String> rows = stringRedisTemplate.execute(LIST, keys(userId, roleType, false), max, min, String.valueOf(limit));
+        if (rows == null) {
+            return List.of();
+        }
+
+        List<Object> notifications = new ArrayList<>(rows.size() / 2);
+        for (int i = 0; i + 1 < rows.size(); i += 2) {
+            Map<String, Object> notification = fromJson(rows.get(i));
+            if (notification != null) {
+                notification.put("readCheckYn", "1".equals(rows.get(i + 1)));
+                notifications.add(notification);
+            }
+        }
+        return notifications;
+    }
+
+    // 읽지 않은 알림 수
+    public long countUnread(Long userId, String roleType) {
+        String idsKey = idsKey(userId, roleType);
+        return toCount(stringRedisTemplate.execute(UNREAD, List.of(idsKey, idsKey + ":read", idsKey + ":unread")));
+    }
+
+    // 읽음 여부 변경 후 읽지 않은 알림 수 반환 (없는 알림이면 -1)
+    public long markRead(Long userId, String roleType, String notificationId, boolean isRead) {
+        String idsKey = idsKey(userId, roleType);
+        Long result = stringRedisTemplate.execute(MARK, List.of(idsKey, idsKey + ":read", idsKey + ":unread"),
+                notificationId, isRead ? "1" : "0", String.valueOf(RETENTION.toSeconds()));
+        return result == null ? -1 : result;
+    }
+
+    // 삭제 후 읽지 않은 알림 수 반환
+    public long delete(Long userId, String roleType, String notificationId) {
+        String idsKey = idsKey(userId, roleType);
+        return toCount(stringRedisTemplate.execute(DELETE,
+                List.of(idsKey, idsKey + ":items", idsKey + ":read", idsKey + ":unread"), notificationId));
+    }
+
+    // 전체 삭제 (UNLINK로 메모리 해제는 백그라운드에서 처리)
+    public void clear(Long userId, String roleType) {
+        String idsKey = idsKey(userId, roleType);
+        stringRedisTemplate.unlink(List.of(idsKey, idsKey + ":items", idsKey + ":read", idsKey + ":unread"));
+        stringRedisTemplate.opsForZSet().remove(EXPIRY_KEY, member(userId, roleType));
+    }
+
+    /**
+     * 보관 기간이 지난 알림이 있는 회원들을 batchSize만큼 정리 (정리한 회원 수 반환)
+     */
+    public int trimExpired(int batchSize) {
+        long cutoff = System.currentTimeMillis() - RETENTION.toMillis();
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(EXPIRY_KEY, Double.NEGATIVE_INFINITY, cutoff, 0, batchSize);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        for (String member : members) {
+            int separator = member.indexOf(':');
+            try {
+                trim(Long.valueOf(member.substring(0, separator)), member.substring(separator + 1), cutoff);
+            } catch (Exception e) {
+                log.error("알림 정리 실패 - member: {}, error: {}", member, e.getMessage(), e);
+                stringRedisTemplate.opsForZSet().remove(EXPIRY_KEY, member);
+            }
+        }
+        return members.size();
+    }
+
+    private void trim(Long userId, String roleType, long cutoff) {
+        stringRedisTemplate.execute(TRIM, keys(userId, roleType, true), String.valueOf(cutoff), member(userId, roleType));
+    }
+
+    private List<String> keys(Long userId, String roleType, boolean withExpiry) {
+        String idsKey = idsKey(userId, roleType);
+        return withExpiry
+                ? List.of(idsKey, idsKey + ":items", idsKey + ":read", EXPIRY_KEY, idsKey + ":unread")
+                : List.of(idsKey, idsKey + ":items", idsKey + ":read");
+    }
+
+    private long toCount(Long count) {
+        return count == null ? 0 : count;
+    }
+
+    private String idsKey(Long userId, String roleType) {
+        return KEY_PREFIX + member(userId, roleType);
+    }
+
+    private String member(Long userId, String roleType) {
+        return userId + ":" + roleType;
+    }
+
+    private String toJson(Map<String, Object> notification) {
+        try {
+            return objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Object> fromJson(String body) {
+        try {
+            return objectMapper.readValue(body, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.error("알림 역직렬화 실패 - error: {}, raw: {}", e.getMessage(), body);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.beautymeongdang.domain.notification.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 이 서버에 연결된 SSE 구독자 목록 (회원/역할별 여러 연결)
+ * 연결은 최대 EMITTER_TIMEOUT 동안만 유지하고(클라이언트가 재연결), 하트비트 전송에 실패한 연결은
+ * 바로 정리해 끊어진 연결이 요청 스레드/소켓을 계속 잡고 있지 않도록 한다.
+ * 연결 수는 notification.sse.connections 지표로 노출한다.
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+    public static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    private static final int MAX_CONNECTIONS_PER_KEY = 5;
+
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private final long connectedAt = System.currentTimeMillis();
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    public SseEmitterRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("notification.sse.connections", this, SseEmitterRegistry::connectionCount)
+                .description("이 서버에 연결된 SSE 알림 구독 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 추가 (연결 수를 넘으면 가장 오래된 연결 종료)
+     */
+    public void add(String key, SseEmitter emitter) {
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(key, (k, current) -> {
+            List<Connection> list = current == null ? new CopyOnWriteArrayList<>() : current;
+            list.add(new Connection(emitter));
+            while (list.size() > MAX_CONNECTIONS_PER_KEY) {
+                evicted.add(list.remove(0));
+            }
+            return list;
+        });
+        evicted.forEach(connection -> connection.emitter.complete());
+    }
+
+    /**
+     * 연결 제거 (해당 키의 마지막 연결이면 true)
+     */
+    public boolean remove(String key, SseEmitter emitter) {
+        boolean[] emptied = {false};
+        connections.computeIfPresent(key, (k, list) -> {
+            list.removeIf(connection -> connection.emitter == emitter);
+            emptied[0] = list.isEmpty();
+            return list.isEmpty() ? null : list;
+        });
+        return emptied[0];
+    }
+
+    /**
+     * 해당 키의 모든 연결에 전송 (전송에 실패한 연결은 제거, 마지막 연결이 제거되면 true)
+     */
+    public boolean send(String key, Supplier<SseEmitter.SseEventBuilder> event) {
+        List<Connection> list = connections.get(key);
+        if (list == null) {
+            return false;
+        }
+
+        boolean emptied = false;
+        for (Connection connection : list) {
+            if (!trySend(connection, event.get())) {
+                emptied |= remove(key, connection.emitter);
+            }
+        }
+        return emptied;
+    }
+
+    /**
+     * 모든 연결에 하트비트 전송 후 끊어졌거나 유지 시간이 지난 연결 정리
+     * (연결이 모두 정리된 키 반환)
+     */
+    public Set<String> heartbeat() {
+        long now = System.currentTimeMillis();
+        Set<String> emptiedKeys = new HashSet<>();
+
+        connections.forEach((key, list) -> {
+            for (Connection connection : list) {
+                boolean expired = now - connection.connectedAt >= EMITTER_TIMEOUT.toMillis();
+                if (expired) {
+                    connection.emitter.complete();
+                }
+
+                if ((expired || !trySend(connection, SseEmitter.event().comment("heartbeat")))
+                        && remove(key, connection.emitter)) {
+                    emptiedKeys.add(key);
+                }
+            }
+        });
+        return emptiedKeys;
+    }
+
+    public Set<String> keys() {
+        return Set.copyOf(connections.keySet());
+    }
+
+    public int connectionCount() {
+        return connections.values().stream()
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    private boolean trySend(Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 - error: {}", e.getMessage());
+            connection.emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -1,47 +1,73 @@
 package com.beautymeongdang.domain.notification.service.impl;
 
+import com.beautymeongdang.domain.notification.entity.NotificationOutbox;
+import com.beautymeongdang.domain.notification.repository.NotificationOutboxRepository;
 import com.beautymeongdang.domain.notification.service.NotificationEventPublisher;
+import com.beautymeongdang.domain.notification.service.NotificationOutboxRecordedEvent;
 import com.beautymeongdang.domain.notification.service.NotificationService;
-import com.beautymeongdang.domain.user.repository.UserRepository;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.beautymeongdang.domain.notification.service.NotificationStore;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationEventPublisher notificationEventPublisher;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationStore notificationStore;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NotificationServiceImpl(
             NotificationEventPublisher notificationEventPublisher,
-            UserRepository userRepository,
-            RedisTemplate<String, Object> redisTemplate
+            NotificationStore notificationStore,
+            NotificationOutboxRepository notificationOutboxRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.notificationEventPublisher = notificationEventPublisher;
-        this.redisTemplate = redisTemplate;
+        this.notificationStore = notificationStore;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public void saveNotification(Long userId, String roleType, String notifyType, String notifyContent) {
+        saveNotification(UUID.randomUUID().toString(), userId, roleType, notifyType, notifyContent);
+    }
+
+    // 알림 ID를 지정해 저장 (같은 ID로 다시 호출되면 저장/실시간 전송 없이 무시)
+    @Override
+    public void saveNotification(String notificationId, Long userId, String roleType, String notifyType, String notifyContent) {
         Map<String, Object> notification = new HashMap<>();
-        String notificationId = UUID.randomUUID().toString();
         notification.put("id", notificationId);
         notification.put("userId", userId);
         notification.put("roleType", roleType);
         notification.put("notifyType", notifyType);
         notification.put("content", notifyContent);
-        notification.put("readCheckYn", false);
         notification.put("createdAt", System.currentTimeMillis());
 
-        // Redis에 알림 저장 및 TTL(2주) 설정
-        String redisKey = "notifications:" + userId + ":" + roleType + ":" + notificationId;
-        redisTemplate.opsForValue().set(redisKey, notification, 14, TimeUnit.DAYS);
+        // Redis에 알림 저장 (보관 기간 2주)
+        long unreadCount = notificationStore.save(userId, roleType, notification);
+        if (unreadCount < 0) {
+            return;
+        }
 
         sendRealTimeNotification(userId, roleType, notifyContent);
+        notificationEventPublisher.publishUnreadCount(userId, roleType, unreadCount);
+    }
+
+    // 알림 발송 예약 (호출한 트랜잭션과 함께 저장되고, 커밋된 경우에만 NotificationOutboxRelay가 발송)
+    @Override
+    public void enqueueNotification(Long userId, String roleType, String notifyType, String notifyContent) {
+        notificationOutboxRepository.save(NotificationOutbox.of(userId, roleType, notifyType, notifyContent));
+        eventPublisher.publishEvent(new NotificationOutboxRecordedEvent(this));
     }
 
     private void sendRealTimeNotification(Long userId, String roleType, String message) {
@@ -52,74 +78,37 @@ public class NotificationServiceImpl implements NotificationService {
     // 특정 알림 읽음처리
     @Override
     public void markAsRead(Long userId, String roleType, String notificationId, boolean isRead) {
-        String redisKey = String.format("notifications:%d:%s:%s", userId, roleType, notificationId);
-        @SuppressWarnings("unchecked")
-        Map<String, Object> notification = (Map<String, Object>) redisTemplate.opsForValue().get(redisKey);
-
-        if (notification != null) {
-            Long ttl = redisTemplate.getExpire(redisKey);
-            notification.put("readCheckYn", isRead);
-
-            // TTL 유지하면서 업데이트
-            if (ttl != null && ttl > 0) {
-                redisTemplate.opsForValue().set(redisKey, notification, ttl, TimeUnit.SECONDS);
-            } else {
-                redisTemplate.opsForValue().set(redisKey, notification, 14, TimeUnit.DAYS);
-            }
-        } else {
+        long unreadCount = notificationStore.markRead(userId, roleType, notificationId, isRead);
+        if (unreadCount < 0) {
             throw new IllegalArgumentException("알림을 찾을 수 없습니다.");
         }
+        notificationEventPublisher.publishUnreadCount(userId, roleType, unreadCount);
     }
 
 
 
+    // 알림 목록 조회 (최신순, before 이전 알림 limit개)
     @Override
-    public List<Object> getNotifications(Long userId, String roleType) {
-        String keyPattern = "notifications:" + userId + ":" + roleType + ":*";
-        Set<String> keys = redisTemplate.keys(keyPattern);
-
-        if (keys == null || keys.isEmpty()) {
-            return List.of();
-        }
-
-        // 각 키의 값을 가져옴
-        return keys.stream()
-                .map(key -> redisTemplate.opsForValue().get(key))
-                .collect(Collectors.toList());
+    public List<Object> getNotifications(Long userId, String roleType, Long before, Integer limit) {
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return notificationStore.findPage(userId, roleType, before, pageSize);
     }
 
+    // 읽지 않은 알림 수 (카운터 조회)
     @Override
     public int getUnreadNotificationCount(Long userId, String roleType) {
-        String keyPattern = "notifications:" + userId + ":" + roleType + ":*";
-        Set<String> keys = redisTemplate.keys(keyPattern);
-
-        if (keys == null || keys.isEmpty()) {
-            return 0;
-        }
-
-        // 읽지 않은 알림만 필터링
-        return (int) keys.stream()
-                .map(key -> redisTemplate.opsForValue().get(key))
-                .filter(notification -> {
-                    Map<String, Object> map = (Map<String, Object>) notification;
-                    return map != null && Boolean.FALSE.equals(map.get("readCheckYn"));
-                })
-                .count();
+        return (int) notificationStore.countUnread(userId, roleType);
     }
 
     @Override
     public void deleteNotification(Long userId, String roleType, String notificationId) {
-        String redisKey = "notifications:" + userId + ":" + roleType + ":" + notificationId;
-        redisTemplate.delete(redisKey);
+        long unreadCount = notificationStore.delete(userId, roleType, notificationId);
+        notificationEventPublisher.publishUnreadCount(userId, roleType, unreadCount);
     }
 
     @Override
     public void clearAllNotifications(Long userId, String roleType) {
-        String keyPattern = "notifications:" + userId + ":" + roleType + ":*";
-        Set<String> keys = redisTemplate.keys(keyPattern);
-
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-        }
+        notificationStore.clear(userId, roleType);
+        notificationEventPublisher.publishUnreadCount(userId, roleType, 0);
     }
 }
@@ -8,15 +8,14 @@ import com.beautymeongdang.domain.payment.entity.Payment;
 import com.beautymeongdang.domain.payment.repository.PaymentRepository;
 import com.beautymeongdang.domain.payment.service.PaymentService;
 import com.beautymeongdang.domain.quote.entity.Quote;
-import com.beautymeongdang.domain.quote.entity.QuoteRequest;
 import com.beautymeongdang.domain.quote.entity.SelectedQuote;
 import com.beautymeongdang.domain.quote.repository.QuoteRepository;
-import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
+import com.beautymeongdang.domain.quote.service.QuoteSelectedEvent;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
 import com.beautymeongdang.domain.user.entity.Customer;
 import com.beautymeongdang.global.common.entity.CommonCode;
-import com.beautymeongdang.global.common.repository.CommonCodeRepository;
+import com.beautymeongdang.global.common.service.CommonCodeRegistry;
 import com.beautymeongdang.global.exception.handler.BadRequestException;
 import com.beautymeongdang.global.exception.handler.InternalServerException;
 import com.beautymeongdang.global.exception.handler.NotFoundException;
@@ -37,14 +36,12 @@ import java.util.Map;
 @Slf4j
 public class PaymentServiceImpl implements PaymentService {
 
-    private final QuoteRequestRepository quoteRequestRepository;
-
 
     private final PaymentRepository paymentRepository;
     private final SelectedQuoteRepository selectedQuoteRepository;
     private final ShopRepository shopRepository;
     private final QuoteRepository quoteRepository;
-    private final CommonCodeRepository commonCodeRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
     private final NotificationService notificationService;
     private final PaymentApiCallerService paymentApiCallerService;
     private final ApplicationEventPublisher eventPublisher;
@@ -55,8 +52,6 @@ public class PaymentServiceImpl implements PaymentService {
     public static final String RESERVATION_COMPLETED = "010"; // 예약 완료
     public static final String RESERVATION_CANCELLED = "020"; // 예약 취소
     public static final String QUOTE_ACCEPT = "020";
-    public static final String QUOTE_REQUEST_DEADLINE = "030";
-    public static final String QUOTE_ALL_REQUEST = "010";
 
     // 결제 승인 요청 및 예약 완료
     @Override
@@ -119,21 +114,8 @@ public class PaymentServiceImpl implements PaymentService {
 
         quoteRepository.save(quote);
 
-        // 견적서 요청 상태 변경 ( 전체 공고만 )
-        QuoteRequest requestEntity = quote.getRequestId();
-
-        if (QUOTE_ALL_REQUEST.equals(requestEntity.getRequestType())) {
-            requestEntity = QuoteRequest.builder()
-                    .requestId(requestEntity.getRequestId())
-                    .dogId(requestEntity.getDogId())
-                    .content(requestEntity.getContent())
-                    .beautyDate(requestEntity.getBeautyDate())
-                    .requestType(requestEntity.getRequestType())
-                    .status(QUOTE_REQUEST_DEADLINE)
-                    .build();
-
-            quoteRequestRepository.save(requestEntity);
-        }
+        // 견적서 요청 상태 변경 ( 전체 공고만 ) - 커밋 후 QuoteRequestCloser가 마감 처리
+        eventPublisher.publishEvent(new QuoteSelectedEvent(this, quote.getQuoteId(), quote.getRequestId().getRequestId()));
 
 
         Payment payment = Payment.builder()
@@ -156,7 +138,7 @@ public class PaymentServiceImpl implements PaymentService {
         ReservationNotificationDto notificationDto = ReservationNotificationDto.of(quote, customer, request.getAmount().longValue(), formattedBeautyDate);
         eventPublisher.publishEvent(new ReservationNotificationEvent(this, notificationDto));
 
-        String statusName = commonCodeRepository.findByCodeAndGroupCode(payment.getStatus(), PAYMENT_GROUP)
+        String statusName = commonCodeRegistry.find(PAYMENT_GROUP, payment.getStatus())
                 .map(CommonCode::getCommonName)
                 .orElse("알 수 없는 상태");
 
@@ -202,7 +184,7 @@ public class PaymentServiceImpl implements PaymentService {
             ReservationCancelNotificationDto cancelDto = ReservationCancelNotificationDto.of(selectedQuote, request.getCancelReason());
             eventPublisher.publishEvent(new ReservationCancelNotificationEvent(this, cancelDto));
 
-            String statusName = commonCodeRepository.findByCodeAndGroupCode(payment.getStatus(), PAYMENT_GROUP)
+            String statusName = commonCodeRegistry.find(PAYMENT_GROUP, payment.getStatus())
                     .map(CommonCode::getCommonName)
                     .orElse("알 수 없는 상태");
 
@@ -226,7 +208,7 @@ public class PaymentServiceImpl implements PaymentService {
         Payment payment = paymentRepository.findByPaymentKey(paymentKey)
                 .orElseThrow(() -> NotFoundException.entityNotFound("결제 정보"));
 
-        String statusName = commonCodeRepository.findByCodeAndGroupCode(payment.getStatus(), PAYMENT_GROUP)
+        String statusName = commonCodeRegistry.find(PAYMENT_GROUP, payment.getStatus())
                 .map(CommonCode::getCommonName)
                 .orElse("알 수 없는 상태");
 
@@ -96,6 +96,12 @@ public class QuoteRequestController {
         return ApiResponse.ok(200, quoteRequestService.getGroomerTotalRequestList(groomerId), "Get TotalRequestGroomer Success");
     }
 
+    // 미용사 매장 근처 견적서 요청 공고 피드 (최신 첫 페이지, 이후 /sub/quote-request/sigungu/{sigunguId} 구독)
+    @GetMapping("/groomer/total/{groomerId}/feed")
+    public ResponseEntity<?> getGroomerTotalRequestFeed(@PathVariable(name = "groomerId") Long groomerId) {
+        return ApiResponse.ok(200, quoteRequestService.getGroomerTotalRequestFeed(groomerId), "Get TotalRequestFeed Success");
+    }
+
     // 미용사가 견적서 보낸 견적 요청 조회
     @GetMapping("/groomer/send/{groomerId}")
     public ResponseEntity<?> getGroomerSendQuoteRequest(@PathVariable(name = "groomerId") Long groomerId) {
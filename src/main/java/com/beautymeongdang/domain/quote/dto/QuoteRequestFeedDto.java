@@ -0,0 +1,41 @@
+package com.beautymeongdang.domain.quote.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 지역별 견적 요청 피드 항목 (Redis 버퍼 저장 및 실시간 전송용)
+@Getter
+@NoArgsConstructor
+public class QuoteRequestFeedDto {
+    private Long requestId;
+    private Long sigunguId;
+    private String userName;
+    private String userProfileImage;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiryDate;
+    private LocalDateTime beautyDate;
+    private String dogBreed;
+    private String dogGender;
+    private String dogWeight;
+    private String requestContent;
+
+    @Builder
+    public QuoteRequestFeedDto(Long requestId, Long sigunguId, String userName, String profileImage, LocalDateTime createdAt,
+                               LocalDateTime beautyDate, String dogBreed, String dogGender,
+                               String dogWeight, String content) {
+        this.requestId = requestId;
+        this.sigunguId = sigunguId;
+        this.userName = userName;
+        this.userProfileImage = profileImage;
+        this.createdAt = createdAt;
+        this.expiryDate = createdAt.plusDays(2);
+        this.beautyDate = beautyDate;
+        this.dogBreed = dogBreed;
+        this.dogGender = dogGender;
+        this.dogWeight = dogWeight;
+        this.requestContent = content;
+    }
+}
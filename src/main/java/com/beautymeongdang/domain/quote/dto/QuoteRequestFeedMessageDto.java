@@ -0,0 +1,27 @@
+package com.beautymeongdang.domain.quote.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 견적 요청 피드 실시간 메시지 (/sub/quote-request/sigungu/{sigunguId})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequestFeedMessageDto {
+    public static final String CREATED = "CREATED";
+    public static final String REMOVED = "REMOVED";
+
+    private String type;
+    private Long sigunguId;
+    private Long requestId;
+    private QuoteRequestFeedDto request;
+
+    public static QuoteRequestFeedMessageDto created(QuoteRequestFeedDto request) {
+        return new QuoteRequestFeedMessageDto(CREATED, request.getSigunguId(), request.getRequestId(), request);
+    }
+
+    public static QuoteRequestFeedMessageDto removed(Long sigunguId, Long requestId) {
+        return new QuoteRequestFeedMessageDto(REMOVED, sigunguId, requestId, null);
+    }
+}
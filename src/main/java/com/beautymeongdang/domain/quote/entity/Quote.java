@@ -40,4 +40,8 @@ public class Quote extends DeletableBaseTimeEntity {
 
     private String status;
 
+    public void updateStatus(String status) {
+        this.status = status;
+    }
+
 }
\ No newline at end of file
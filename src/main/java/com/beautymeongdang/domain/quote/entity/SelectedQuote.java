@@ -10,6 +10,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_selected_quote_status_created_at", columnList = "status, created_at"))
 public class SelectedQuote extends DeletableBaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
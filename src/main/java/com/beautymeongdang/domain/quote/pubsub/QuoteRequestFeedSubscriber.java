@@ -0,0 +1,34 @@
+package com.beautymeongdang.domain.quote.pubsub;
+
+import com.beautymeongdang.domain.quote.dto.QuoteRequestFeedMessageDto;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+// 견적 요청 피드 메시지를 지역 구독자에게 전달
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class QuoteRequestFeedSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            QuoteRequestFeedMessageDto feedMessage = objectMapper.readValue(body, QuoteRequestFeedMessageDto.class);
+            messagingTemplate.convertAndSend(QuoteRequestFeed.DESTINATION_PREFIX + feedMessage.getSigunguId(), feedMessage);
+        } catch (Exception e) {
+            log.error("견적 요청 피드 메시지 처리 실패 - error: {}, raw message: {}", e.getMessage(), body, e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +18,15 @@ public interface DirectQuoteRequestRepository extends JpaRepository<DirectQuoteR
     @Query("SELECT d FROM DirectQuoteRequest d WHERE d.directQuoteRequestId.requestId = :quoteRequest")
     Optional<DirectQuoteRequest> findByQuoteRequest(@Param("quoteRequest") QuoteRequest quoteRequest);
 
+    // 견적 요청 ID 목록으로 DirectQuoteRequest 일괄 조회 (미용사 정보 함께 로딩)
+    @Query("""
+        SELECT d FROM DirectQuoteRequest d
+        JOIN FETCH d.directQuoteRequestId.groomerId g
+        JOIN FETCH g.userId
+        WHERE d.directQuoteRequestId.requestId.requestId IN :requestIds
+    """)
+    List<DirectQuoteRequest> findAllByRequestIds(@Param("requestIds") List<Long> requestIds);
+
 
     // qoute Request 물리적 삭제 스케줄러
     void deleteByDirectQuoteRequestIdRequestId(QuoteRequest requestId);
@@ -4,6 +4,7 @@ import com.beautymeongdang.domain.dog.entity.Dog;
 import com.beautymeongdang.domain.quote.entity.Quote;
 import com.beautymeongdang.domain.quote.entity.QuoteRequest;
 import com.beautymeongdang.domain.user.entity.Groomer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,6 +32,30 @@ public interface QuoteRepository extends JpaRepository<Quote, Long> {
     """)
     List<Quote> findAllByRequestId(@Param("requestId") Long requestId);
 
+    // 요청 ID 목록으로 견적서(전체) 일괄 조회 (미용사 정보 함께 로딩)
+    @Query("""
+        SELECT q FROM Quote q
+        JOIN FETCH q.requestId qr
+        JOIN FETCH q.groomerId g
+        JOIN FETCH g.userId
+        WHERE qr.requestId IN :requestIds
+        AND qr.requestType = '010'
+        AND q.isDeleted = false
+        AND EXISTS (SELECT 1 FROM Shop s WHERE s.groomerId = g)
+        ORDER BY q.createdAt DESC
+    """)
+    List<Quote> findAllByRequestIds(@Param("requestIds") List<Long> requestIds);
+
+    // 요청 ID 목록으로 제안 상태('010') 견적서 일괄 조회
+    @Query("""
+        SELECT q FROM Quote q
+        JOIN FETCH q.requestId qr
+        WHERE qr.requestId IN :requestIds
+        AND q.isDeleted = false
+        AND q.status = '010'
+    """)
+    List<Quote> findProposedByRequestIds(@Param("requestIds") List<Long> requestIds);
+
     //  rejectReason
     @Query("SELECT q FROM Quote q WHERE q.requestId = :requestId AND q.groomerId = :groomerId AND q.isDeleted = false AND q.status = '010'")
     Quote findByRequestIdAndGroomerIdAndIsDeletedFalse(@Param("requestId") QuoteRequest requestId, @Param("groomerId") Groomer groomerId);
@@ -69,6 +94,16 @@ public interface QuoteRepository extends JpaRepository<Quote, Long> {
     // quote Request 상태 변경 스케줄러
     Optional<Quote> findByRequestId(QuoteRequest requestId);
 
+    // 견적 요청 피드 - 미용사가 최근 견적서를 보낸 요청 ID
+    @Query("""
+    SELECT q.requestId.requestId
+    FROM Quote q
+    WHERE q.groomerId.groomerId = :groomerId
+      AND q.isDeleted = false
+      AND q.createdAt > :since
+    """)
+    List<Long> findQuotedRequestIdsByGroomerIdSince(@Param("groomerId") Long groomerId, @Param("since") LocalDateTime since);
+
     // 견적서 물리적 삭제 스케줄러
     @Query("""
     SELECT q
@@ -78,13 +113,27 @@ public interface QuoteRepository extends JpaRepository<Quote, Long> {
     """)
     List<Quote> findAllByIsDeletedAndUpdatedAt(@Param("deleteDay") LocalDateTime deleteDay);
 
-    // 견적서 진행상태 변경 스케줄러
+    // 마감 예약 큐 적재 - 제안 상태("010")인 견적서 ID, 생성일시
     @Query("""
-    SELECT q
+    SELECT q.quoteId, q.createdAt
+    FROM Quote q
+    WHERE q.status = '010'
+      AND q.isDeleted = false
+    """)
+    List<Object[]> findProposedQuoteDeadlines();
+
+    // 마감 보정 - 제안 후 기한이 지났는데 제안 상태("010")로 남은 견적서 ID (afterId 이후)
+    @Query("""
+    SELECT q.quoteId
     FROM Quote q
-    WHERE q.isDeleted = false
-      AND q.createdAt < :expiryDate
+    WHERE q.status = '010'
+      AND q.isDeleted = false
+      AND q.createdAt < :createdBefore
+      AND q.quoteId > :afterId
+    ORDER BY q.quoteId
     """)
-    List<Quote> findAllByIsDeletedAndCreated(@Param("expiryDate") LocalDateTime expiryDate);
+    List<Long> findOverdueProposedQuoteIds(@Param("createdBefore") LocalDateTime createdBefore,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
 
 }
@@ -4,8 +4,9 @@ package com.beautymeongdang.domain.quote.repository;
 import com.beautymeongdang.domain.dog.entity.Dog;
 import com.beautymeongdang.domain.quote.dto.GetGroomerQuoteRequestResponseDto;
 import com.beautymeongdang.domain.quote.dto.GetGroomerSendQuoteRequestResponseDto;
+import com.beautymeongdang.domain.quote.dto.QuoteRequestFeedDto;
 import com.beautymeongdang.domain.quote.entity.QuoteRequest;
-import com.beautymeongdang.domain.user.dto.GetMainGroomerTotalRequestResponseDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -217,10 +218,11 @@ public interface QuoteRequestRepository extends JpaRepository<QuoteRequest, Long
            """)
     Integer countUnsentQuote(@Param("groomerId") Long groomerId);
 
-    // 미용사 메인 페이지 - 우리동네 견적 공고
-    @Query(value = """
-        SELECT DISTINCT new com.beautymeongdang.domain.user.dto.GetMainGroomerTotalRequestResponseDto(
+    // 견적 요청 피드 - 지역별 마감 전 전체 요청 (최신순, 피드 버퍼 적재용)
+    @Query("""
+        SELECT new com.beautymeongdang.domain.quote.dto.QuoteRequestFeedDto(
                     qr.requestId,
+                    tqr.sigunguId.sigunguId,
                     u.userName,
                     u.profileImage,
                     qr.createdAt,
@@ -230,31 +232,22 @@ public interface QuoteRequestRepository extends JpaRepository<QuoteRequest, Long
                     d.dogWeight,
                     qr.content
                )
-        FROM
-            QuoteRequest qr
-        LEFT JOIN Quote q ON q.requestId = qr
+        FROM TotalQuoteRequest tqr
+        JOIN tqr.requestId qr
         JOIN qr.dogId d
         JOIN CommonCode cc ON cc.id.codeId = d.dogBreed AND cc.id.groupId = '400'
         JOIN d.customerId c
         JOIN c.userId u
-        JOIN TotalQuoteRequest tqr ON tqr.requestId = qr
-        WHERE
-              qr.isDeleted = false
+        WHERE tqr.sigunguId.sigunguId = :sigunguId
+          AND qr.isDeleted = false
           AND qr.requestType = '010'
           AND qr.status = '010'
-          AND tqr.sigunguId.sigunguId = :sigunguId
-          AND NOT EXISTS (
-              SELECT 1
-              FROM Quote q2
-              WHERE q2.requestId.requestId = qr.requestId
-                AND q2.groomerId.groomerId = :groomerId
-                AND q2.isDeleted = false
-              )
-        ORDER BY
-            qr.createdAt DESC
-       LIMIT 3
+          AND qr.createdAt > :openedAfter
+        ORDER BY qr.createdAt DESC, qr.requestId DESC
     """)
-    List<GetMainGroomerTotalRequestResponseDto> findTop3LatestRequestsBySigunguId(@Param("sigunguId") Long sigunguId, @Param("groomerId") Long groomerId);
+    List<QuoteRequestFeedDto> findOpenTotalRequestFeedBySigunguId(@Param("sigunguId") Long sigunguId,
+                                                                 @Param("openedAfter") LocalDateTime openedAfter,
+                                                                 Limit limit);
 
     @Query("SELECT qr FROM QuoteRequest qr WHERE qr.dogId.customerId.customerId = :customerId AND qr.isDeleted = false")
     List<QuoteRequest> findAllByCustomerDogs(@Param("customerId") Long customerId);
@@ -274,15 +267,65 @@ public interface QuoteRequestRepository extends JpaRepository<QuoteRequest, Long
     """)
     List<QuoteRequest> findAllByIsDeletedAndUpdatedAt(@Param("deleteDay") LocalDateTime deleteDay);
 
-    // quote Request 상태 변경 스케줄러
-    // 요청 상태이면서 4일이 지난 QuoteRequest 조회
-    List<QuoteRequest> findAllByStatusAndCreatedAtBefore(String status, LocalDateTime dateTime);
+    // 마감 예약 큐 적재 - 요청 상태("010")인 요청 ID, 생성일시
+    @Query("""
+    SELECT qr.requestId, qr.createdAt
+    FROM QuoteRequest qr
+    WHERE qr.status = '010'
+      AND qr.isDeleted = false
+    """)
+    List<Object[]> findOpenRequestDeadlines();
 
-    //1:1 요청("020")이면서 제안완료 상태("040")이고 2일이 지난 요청들 조회
-    List<QuoteRequest> findAllByRequestTypeAndStatusAndUpdatedAtBefore(
-            String requestType, String status, LocalDateTime dateTime
-    );
+    // 마감 예약 큐 적재 - 1:1 요청("020")이면서 제안완료 상태("040")인 요청 ID, 수정일시
+    @Query("""
+    SELECT qr.requestId, qr.updatedAt
+    FROM QuoteRequest qr
+    WHERE qr.requestType = '020'
+      AND qr.status = '040'
+      AND qr.isDeleted = false
+    """)
+    List<Object[]> findProposedDirectRequestDeadlines();
 
-    // 전체요청("010")이면서 요청상태("010")인 요청들 조회
-    List<QuoteRequest> findAllByRequestTypeAndStatus(String requestType, String status);
+    // 마감 보정 - 생성 후 기한이 지났는데 요청 상태("010")로 남은 요청 ID (afterId 이후)
+    @Query("""
+    SELECT qr.requestId
+    FROM QuoteRequest qr
+    WHERE qr.status = '010'
+      AND qr.isDeleted = false
+      AND qr.createdAt < :createdBefore
+      AND qr.requestId > :afterId
+    ORDER BY qr.requestId
+    """)
+    List<Long> findOverdueOpenRequestIds(@Param("createdBefore") LocalDateTime createdBefore,
+                                         @Param("afterId") Long afterId,
+                                         Limit limit);
+
+    // 마감 보정 - 제안완료 후 기한이 지났는데 제안완료 상태("040")로 남은 1:1 요청("020") ID (afterId 이후)
+    @Query("""
+    SELECT qr.requestId
+    FROM QuoteRequest qr
+    WHERE qr.requestType = '020'
+      AND qr.status = '040'
+      AND qr.isDeleted = false
+      AND qr.updatedAt < :updatedBefore
+      AND qr.requestId > :afterId
+    ORDER BY qr.requestId
+    """)
+    List<Long> findOverdueProposedDirectRequestIds(@Param("updatedBefore") LocalDateTime updatedBefore,
+                                                   @Param("afterId") Long afterId,
+                                                   Limit limit);
+
+    // 전체요청("010")이면서 요청상태("010")인 요청 중 최근 예약완료("010")된 견적서가 있는 요청 조회
+    @Query("""
+    SELECT DISTINCT qr
+    FROM SelectedQuote sq
+    JOIN sq.quoteId q
+    JOIN q.requestId qr
+    WHERE sq.status = '010'
+      AND sq.createdAt > :selectedAfter
+      AND qr.requestType = '010'
+      AND qr.status = '010'
+      AND qr.isDeleted = false
+    """)
+    List<QuoteRequest> findOpenTotalRequestsWithReservedQuote(@Param("selectedAfter") LocalDateTime selectedAfter);
 }
@@ -5,14 +5,26 @@ import com.beautymeongdang.domain.quote.entity.QuoteRequest;
 
 import com.beautymeongdang.domain.quote.entity.TotalQuoteRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TotalQuoteRequestRepository extends JpaRepository<TotalQuoteRequest, Long> {
     Optional<TotalQuoteRequest> findByRequestId_RequestId(Long requestId);
 
+    // 견적 요청 ID 목록으로 TotalQuoteRequest 일괄 조회 (지역 정보 함께 로딩)
+    @Query("""
+        SELECT t FROM TotalQuoteRequest t
+        JOIN FETCH t.sigunguId sg
+        JOIN FETCH sg.sidoId
+        WHERE t.requestId.requestId IN :requestIds
+    """)
+    List<TotalQuoteRequest> findAllByRequestIds(@Param("requestIds") List<Long> requestIds);
+
     // 고객(자신)이 보낸 견적 요청 상세 조회
     TotalQuoteRequest findByRequestId(QuoteRequest requestId);
 
@@ -0,0 +1,104 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.entity.DirectQuoteRequest;
+import com.beautymeongdang.domain.quote.entity.Quote;
+import com.beautymeongdang.domain.quote.entity.QuoteRequest;
+import com.beautymeongdang.domain.quote.entity.TotalQuoteRequest;
+import com.beautymeongdang.domain.quote.repository.DirectQuoteRequestRepository;
+import com.beautymeongdang.domain.quote.repository.QuoteRepository;
+import com.beautymeongdang.domain.quote.repository.TotalQuoteRequestRepository;
+import com.beautymeongdang.domain.shop.entity.Shop;
+import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 고객 견적 목록 조회 시 요청/견적서 건마다 연관 데이터를 조회하지 않도록
+ * ID 목록 단위로 한 번에 조회해 Map으로 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteBatchLoader {
+    private final QuoteRepository quoteRepository;
+    private final DirectQuoteRequestRepository directQuoteRequestRepository;
+    private final TotalQuoteRequestRepository totalQuoteRequestRepository;
+    private final ShopRepository shopRepository;
+
+    // 전체 요청별 견적서 목록 (최신순, 견적서가 없는 요청은 빈 리스트)
+    public Map<Long, List<Quote>> loadQuotes(List<QuoteRequest> requests) {
+        List<Long> requestIds = toRequestIds(requests);
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, List<Quote>> quotes = new HashMap<>();
+        for (Quote quote : quoteRepository.findAllByRequestIds(requestIds)) {
+            quotes.computeIfAbsent(quote.getRequestId().getRequestId(), key -> new ArrayList<>()).add(quote);
+        }
+        requestIds.forEach(requestId -> quotes.putIfAbsent(requestId, new ArrayList<>()));
+        return quotes;
+    }
+
+    // 요청별 제안 상태 견적서 (요청 ID -> 미용사 ID -> 견적서)
+    public Map<Long, Map<Long, Quote>> loadProposedQuotes(List<QuoteRequest> requests) {
+        List<Long> requestIds = toRequestIds(requests);
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Map<Long, Quote>> quotes = new HashMap<>();
+        for (Quote quote : quoteRepository.findProposedByRequestIds(requestIds)) {
+            quotes.computeIfAbsent(quote.getRequestId().getRequestId(), key -> new HashMap<>())
+                    .putIfAbsent(quote.getGroomerId().getGroomerId(), quote);
+        }
+        return quotes;
+    }
+
+    // 요청별 1:1 요청 정보
+    public Map<Long, DirectQuoteRequest> loadDirectRequests(List<QuoteRequest> requests) {
+        List<Long> requestIds = toRequestIds(requests);
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, DirectQuoteRequest> directRequests = new HashMap<>();
+        directQuoteRequestRepository.findAllByRequestIds(requestIds).forEach(directRequest ->
+                directRequests.putIfAbsent(directRequest.getDirectQuoteRequestId().getRequestId().getRequestId(), directRequest));
+        return directRequests;
+    }
+
+    // 요청별 전체 요청 정보 (지역 포함)
+    public Map<Long, TotalQuoteRequest> loadTotalRequests(List<QuoteRequest> requests) {
+        List<Long> requestIds = toRequestIds(requests);
+        if (requestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, TotalQuoteRequest> totalRequests = new HashMap<>();
+        totalQuoteRequestRepository.findAllByRequestIds(requestIds).forEach(totalRequest ->
+                totalRequests.putIfAbsent(totalRequest.getRequestId().getRequestId(), totalRequest));
+        return totalRequests;
+    }
+
+    // 미용사별 매장
+    public Map<Long, Shop> loadShops(Collection<Long> groomerIds) {
+        List<Long> distinctGroomerIds = groomerIds.stream().distinct().toList();
+        if (distinctGroomerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Shop> shops = new HashMap<>();
+        shopRepository.findAllByGroomerIds(distinctGroomerIds).forEach(shop ->
+                shops.putIfAbsent(shop.getGroomerId().getGroomerId(), shop));
+        return shops;
+    }
+
+    private List<Long> toRequestIds(List<QuoteRequest> requests) {
+        return requests.stream()
+                .map(QuoteRequest::getRequestId)
+                .distinct()
+                .toList();
+    }
+}
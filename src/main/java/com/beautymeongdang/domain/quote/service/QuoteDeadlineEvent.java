@@ -0,0 +1,21 @@
+package com.beautymeongdang.domain.quote.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+// 견적 요청/견적서 마감 시각 등록
+@Getter
+public class QuoteDeadlineEvent extends ApplicationEvent {
+    private final QuoteDeadlineQueue.Type type;
+    private final Long targetId;
+    private final LocalDateTime dueAt;
+
+    public QuoteDeadlineEvent(Object source, QuoteDeadlineQueue.Type type, Long targetId, LocalDateTime dueAt) {
+        super(source);
+        this.type = type;
+        this.targetId = targetId;
+        this.dueAt = dueAt;
+    }
+}
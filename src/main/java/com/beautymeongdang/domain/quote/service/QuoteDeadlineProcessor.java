@@ -0,0 +1,84 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.entity.Quote;
+import com.beautymeongdang.domain.quote.entity.QuoteRequest;
+import com.beautymeongdang.domain.quote.entity.SelectedQuote;
+import com.beautymeongdang.domain.quote.repository.QuoteRepository;
+import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
+import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 마감 시각이 된 견적 요청/견적서 상태 변경 (항목 단위 트랜잭션)
+ * 등록 이후 상태가 바뀐 항목은 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteDeadlineProcessor {
+    private static final String REQUEST_OPEN = "010";
+    private static final String REQUEST_CLOSED = "030";
+    private static final String REQUEST_PROPOSED = "040";
+    private static final String DIRECT_REQUEST = "020";
+    private static final String QUOTE_PROPOSED = "010";
+    private static final String QUOTE_CLOSED = "030";
+    private static final String RESERVATION_COMPLETED = "010";
+
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final QuoteRepository quoteRepository;
+    private final SelectedQuoteRepository selectedQuoteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void process(QuoteDeadlineQueue.Deadline deadline) {
+        switch (deadline.type()) {
+            case REQUEST_EXPIRE -> closeExpiredRequest(deadline.targetId());
+            case DIRECT_UNPAID -> closeUnpaidDirectRequest(deadline.targetId());
+            case QUOTE_EXPIRE -> closeExpiredQuote(deadline.targetId());
+        }
+    }
+
+    // 견적서 요청 했지만 3일동안 아무런 견적서 제안이 들어오지 않을 경우
+    private void closeExpiredRequest(Long requestId) {
+        quoteRequestRepository.findById(requestId)
+                .filter(request -> !request.isDeleted())
+                .filter(request -> REQUEST_OPEN.equals(request.getStatus()))
+                .ifPresent(request -> {
+                    request.updateStatus(REQUEST_CLOSED);
+                    eventPublisher.publishEvent(new QuoteRequestFeedEvent(this, List.of(requestId)));
+                });
+    }
+
+    // 제안완료 상태에서 2일 동안 결제되지 않은 1:1 견적 요청을 마감으로 변경
+    private void closeUnpaidDirectRequest(Long requestId) {
+        QuoteRequest request = quoteRequestRepository.findById(requestId).orElse(null);
+        if (request == null || request.isDeleted()
+                || !DIRECT_REQUEST.equals(request.getRequestType())
+                || !REQUEST_PROPOSED.equals(request.getStatus())) {
+            return;
+        }
+
+        Quote quote = quoteRepository.findByRequestId(request).orElse(null);
+        if (quote == null) {
+            return;
+        }
+
+        // 선택된 견적서가 없거나, 있더라도 예약완료(010) 상태가 아닌 경우
+        SelectedQuote selectedQuote = selectedQuoteRepository.findByQuoteId(quote);
+        if (selectedQuote == null || !RESERVATION_COMPLETED.equals(selectedQuote.getStatus())) {
+            request.updateStatus(REQUEST_CLOSED);
+        }
+    }
+
+    // 제안 후 2일이 지난 견적서 마감
+    private void closeExpiredQuote(Long quoteId) {
+        quoteRepository.findById(quoteId)
+                .filter(quote -> !quote.isDeleted())
+                .filter(quote -> QUOTE_PROPOSED.equals(quote.getStatus()))
+                .ifPresent(quote -> quote.updateStatus(QUOTE_CLOSED));
+    }
+}
@@ -0,0 +1,179 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.repository.QuoteRepository;
+import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 견적 요청/견적서 마감 예약 큐 (Redis ZSET, score = 마감 시각 epoch millis)
+ * 생성 트랜잭션 커밋 후 마감 시각을 등록하고, QuoteDeadlineScheduledService가
+ * 마감 시각이 지난 항목을 가져가 상태를 변경한다.
+ * 가져간 항목은 처리 중 ZSET(score = 임대 만료 시각)으로 옮겨 두고 처리가 끝나면 지운다.
+ * 처리에 실패하면 다시 대기열로 돌리고, 서버가 중단되어 임대가 만료된 항목은 다음 가져가기에서 대기열로 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteDeadlineQueue {
+    private static final String KEY = "quote:deadline";
+    private static final String PROCESSING_KEY = "quote:deadline:processing";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final int SCHEDULE_BATCH_SIZE = 1000;
+
+    // 임대가 만료된 처리 중 항목을 대기열로 돌린 뒤, 마감 시각이 지난 항목을 처리 중으로 옮기며 가져감
+    // (여러 서버가 같은 항목을 동시에 처리하지 않도록)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_DUE = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "for _, item in ipairs(expired) do " +
+            "  redis.call('ZADD', KEYS[1], 'NX', now, item) " +
+            "  redis.call('ZREM', KEYS[2], item) " +
+            "end " +
+            "local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "for _, item in ipairs(items) do " +
+            "  redis.call('ZREM', KEYS[1], item) " +
+            "  redis.call('ZADD', KEYS[2], now + tonumber(ARGV[3]), item) " +
+            "end " +
+            "return items",
+            List.class);
+
+    // 처리 실패 항목을 처리 중에서 빼고 대기열에 다시 등록
+    private static final DefaultRedisScript<Long> REQUEUE = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "return redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])",
+            Long.class);
+
+    // 대기열/처리 중 어디에도 없는 항목만 등록 (재시도 시각이나 처리 중 항목을 덮어쓰지 않음, ARGV: 항목, 시각 쌍)
+    private static final DefaultRedisScript<Long> SCHEDULE_IF_ABSENT = new DefaultRedisScript<>(
+            "local added = 0 " +
+            "for i = 1, #ARGV, 2 do " +
+            "  if not redis.call('ZSCORE', KEYS[2], ARGV[i]) then " +
+            "    added = added + redis.call('ZADD', KEYS[1], 'NX', ARGV[i + 1], ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return added",
+            Long.class);
+
+    public static final Duration REQUEST_OPEN_PERIOD = Duration.ofDays(3);
+    public static final Duration DIRECT_PAYMENT_PERIOD = Duration.ofDays(2);
+    public static final Duration QUOTE_OPEN_PERIOD = Duration.ofDays(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final QuoteRepository quoteRepository;
+
+    public enum Type {
+        REQUEST_EXPIRE,   // 요청 후 견적서 제안 없이 3일 경과 -> 요청 마감
+        DIRECT_UNPAID,    // 1:1 요청 제안 완료 후 2일 동안 미결제 -> 요청 마감
+        QUOTE_EXPIRE      // 견적서 제안 후 2일 경과 -> 견적서 마감
+    }
+
+    public record Deadline(Type type, Long targetId) {
+        private String member() {
+            return type.name() + ":" + targetId;
+        }
+
+        private static Deadline from(String member) {
+            int separator = member.indexOf(':');
+            return new Deadline(Type.valueOf(member.substring(0, separator)), Long.valueOf(member.substring(separator + 1)));
+        }
+    }
+
+    // 등록에 실패해도 QuoteDeadlineScheduledService의 DB 보정에서 처리됨
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleQuoteDeadlineEvent(QuoteDeadlineEvent event) {
+        try {
+            schedule(new Deadline(event.getType(), event.getTargetId()), event.getDueAt());
+        } catch (Exception e) {
+            log.error("마감 예약 등록 실패 - type: {}, targetId: {}, error: {}",
+                    event.getType(), event.getTargetId(), e.getMessage(), e);
+        }
+    }
+
+    public void schedule(Deadline deadline, LocalDateTime dueAt) {
+        stringRedisTemplate.opsForZSet().add(KEY, deadline.member(), toEpochMillis(dueAt));
+    }
+
+    // 아직 등록되지 않은 항목만 일괄 등록 (등록된 건수)
+    public long scheduleAllIfAbsent(Map<Deadline, LocalDateTime> deadlines) {
+        List<Map.Entry<Deadline, LocalDateTime>> entries = new ArrayList<>(deadlines.entrySet());
+        long added = 0;
+        for (int from = 0; from < entries.size(); from += SCHEDULE_BATCH_SIZE) {
+            List<Map.Entry<Deadline, LocalDateTime>> batch = entries.subList(from, Math.min(entries.size(), from + SCHEDULE_BATCH_SIZE));
+            String[] args = new String[batch.size() * 2];
+            for (int i = 0; i < batch.size(); i++) {
+                args[2 * i] = batch.get(i).getKey().member();
+                args[2 * i + 1] = String.valueOf((long) toEpochMillis(batch.get(i).getValue()));
+            }
+            Long result = stringRedisTemplate.execute(SCHEDULE_IF_ABSENT, List.of(KEY, PROCESSING_KEY), (Object[]) args);
+            added += result != null ? result : 0;
+        }
+        return added;
+    }
+
+    // 처리 실패 항목 재등록
+    public void retry(Deadline deadline, Duration delay) {
+        stringRedisTemplate.execute(REQUEUE, List.of(KEY, PROCESSING_KEY),
+                deadline.member(), String.valueOf(System.currentTimeMillis() + delay.toMillis()));
+    }
+
+    // 처리 완료 항목 삭제
+    public void complete(Deadline deadline) {
+        stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, deadline.member());
+    }
+
+    // 마감 시각이 지난 항목 최대 limit건 (처리 후 complete, 실패 시 retry 호출)
+    @SuppressWarnings("unchecked")
+    public List<Deadline> claimDue(int limit) {
+        List<String> members = stringRedisTemplate.execute(CLAIM_DUE, List.of(KEY, PROCESSING_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit), String.valueOf(LEASE.toMillis()));
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(Deadline::from).toList();
+    }
+
+    // 진행 중인 견적 요청/견적서 마감 시각 중 큐에 없는 항목 등록 (이미 지난 항목은 바로 처리됨)
+    public void rebuild() {
+        Map<Deadline, LocalDateTime> deadlines = new HashMap<>();
+        quoteRequestRepository.findOpenRequestDeadlines().forEach(row -> deadlines.put(
+                new Deadline(Type.REQUEST_EXPIRE, (Long) row[0]), ((LocalDateTime) row[1]).plus(REQUEST_OPEN_PERIOD)));
+        quoteRequestRepository.findProposedDirectRequestDeadlines().forEach(row -> deadlines.put(
+                new Deadline(Type.DIRECT_UNPAID, (Long) row[0]), ((LocalDateTime) row[1]).plus(DIRECT_PAYMENT_PERIOD)));
+        quoteRepository.findProposedQuoteDeadlines().forEach(row -> deadlines.put(
+                new Deadline(Type.QUOTE_EXPIRE, (Long) row[0]), ((LocalDateTime) row[1]).plus(QUOTE_OPEN_PERIOD)));
+
+        long added = scheduleAllIfAbsent(deadlines);
+        log.info("마감 예약 큐 적재 완료: {}/{}건", added, deadlines.size());
+    }
+
+    // 마감 시각이 cutoff 이전인데 아직 상태가 바뀌지 않은 항목 (DB 기준 보정용, afterId 이후 limit건)
+    public List<Deadline> findOverdue(Type type, LocalDateTime cutoff, Long afterId, int limit) {
+        List<Long> targetIds = switch (type) {
+            case REQUEST_EXPIRE -> quoteRequestRepository.findOverdueOpenRequestIds(
+                    cutoff.minus(REQUEST_OPEN_PERIOD), afterId, Limit.of(limit));
+            case DIRECT_UNPAID -> quoteRequestRepository.findOverdueProposedDirectRequestIds(
+                    cutoff.minus(DIRECT_PAYMENT_PERIOD), afterId, Limit.of(limit));
+            case QUOTE_EXPIRE -> quoteRepository.findOverdueProposedQuoteIds(
+                    cutoff.minus(QUOTE_OPEN_PERIOD), afterId, Limit.of(limit));
+        };
+        return targetIds.stream().map(targetId -> new Deadline(type, targetId)).toList();
+    }
+
+    private static double toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
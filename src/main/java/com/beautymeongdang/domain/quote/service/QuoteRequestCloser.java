@@ -0,0 +1,59 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.entity.QuoteRequest;
+import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 전체 견적 요청 마감 처리
+ * 결제 승인 트랜잭션 커밋 후 선택된 견적서의 전체 요청을 마감한다.
+ * 처리에 실패한 건은 QuoteRequestScheduledService가 주기적으로 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteRequestCloser {
+    private static final String TOTAL_REQUEST = "010";
+    private static final String REQUEST_OPEN = "010";
+    private static final String REQUEST_CLOSED = "030";
+
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleQuoteSelectedEvent(QuoteSelectedEvent event) {
+        try {
+            quoteRequestRepository.findById(event.getRequestId())
+                    .ifPresent(request -> closeTotalRequests(List.of(request)));
+        } catch (Exception e) {
+            log.error("전체 견적 요청 마감 실패 - requestId: {}, quoteId: {}, error: {}",
+                    event.getRequestId(), event.getQuoteId(), e.getMessage(), e);
+        }
+    }
+
+    // 요청 상태인 전체 요청만 마감하고 지역 피드에서 제외
+    @Transactional
+    public void closeTotalRequests(List<QuoteRequest> requests) {
+        List<QuoteRequest> closing = requests.stream()
+                .filter(request -> TOTAL_REQUEST.equals(request.getRequestType()))
+                .filter(request -> REQUEST_OPEN.equals(request.getStatus()))
+                .toList();
+        if (closing.isEmpty()) {
+            return;
+        }
+
+        closing.forEach(request -> request.updateStatus(REQUEST_CLOSED));
+        eventPublisher.publishEvent(new QuoteRequestFeedEvent(this,
+                closing.stream().map(QuoteRequest::getRequestId).toList()));
+    }
+}
@@ -0,0 +1,267 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.dto.QuoteRequestFeedDto;
+import com.beautymeongdang.domain.quote.dto.QuoteRequestFeedMessageDto;
+import com.beautymeongdang.domain.quote.repository.QuoteRepository;
+import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 지역(시군구)별 전체 견적 요청 피드
+ * 최근 요청 ID를 지역별 Redis 리스트(최대 FEED_CAPACITY건)에, 요청 요약을 요청별 키에 보관하고
+ * 요청 등록/마감 트랜잭션 커밋 후 Redis 채널로 발행해 각 서버가 STOMP 구독자에게 전달한다.
+ * 요약 키는 자동 마감 시점(등록 후 3일)에 만료되어 피드에서 빠진다.
+ * 리스트 끝의 SENTINEL은 적재 당시 DB의 진행 중 요청이 모두 담겼다는 표시로, 리스트가 넘쳐 잘리면 함께 빠진다.
+ * 표시가 없는 리스트에서 마감/만료로 남은 요청이 부족해지면 DB에서 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteRequestFeed {
+    public static final String CHANNEL = "quote-request-feed";
+    public static final String DESTINATION_PREFIX = "/sub/quote-request/sigungu/";
+
+    private static final String FEED_KEY_PREFIX = "quote-request:feed:";
+    private static final String ENTRY_KEY_PREFIX = "quote-request:feed:entry:";
+    private static final String QUOTED_KEY_PREFIX = "quote-request:feed:quoted:";
+
+    // 진행 중 요청이 리스트에 모두 담겨 있음을 나타내는 값 (빈 지역도 적재 여부를 구분)
+    private static final String SENTINEL = "0";
+    private static final int FEED_CAPACITY = 50;
+    private static final Duration OPEN_PERIOD = QuoteDeadlineQueue.REQUEST_OPEN_PERIOD;
+
+    // 이미 적재된 지역 피드에만 추가 (넘치면 끝의 SENTINEL부터 잘려 다음 부족 시 DB에서 다시 채움)
+    private static final DefaultRedisScript<Long> PUSH_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('LREM', KEYS[1], 0, ARGV[1]) " +
+            "  redis.call('LPUSH', KEYS[1], ARGV[1]) " +
+            "  redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 현재 리스트와 DB에서 읽은 요청을 합쳐 최신순으로 다시 적재 (요약 키가 만료된 요청은 제외, 동시에 실행되어도 결과가 같음)
+    // ARGV: 최대 건수, DB 결과가 전부인지('1'), 요약 키 접두사, 요청 ID...
+    private static final DefaultRedisScript<Long> MERGE = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local seen, ids = {}, {} " +
+            "local function keep(id) " +
+            "  if id ~= '" + SENTINEL + "' and not seen[id] and redis.call('EXISTS', ARGV[3] .. id) == 1 then " +
+            "    seen[id] = true " +
+            "    ids[#ids + 1] = id " +
+            "  end " +
+            "end " +
+            "for _, id in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do keep(id) end " +
+            "for i = 4, #ARGV do keep(ARGV[i]) end " +
+            "table.sort(ids, function(a, b) return tonumber(a) > tonumber(b) end) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "local count = math.min(#ids, capacity) " +
+            "for i = 1, count do redis.call('RPUSH', KEYS[1], ids[i]) end " +
+            "if ARGV[2] == '1' and #ids < capacity then redis.call('RPUSH', KEYS[1], '" + SENTINEL + "') end " +
+            "return count",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final QuoteRequestRepository quoteRequestRepository;
+    private final QuoteRepository quoteRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleQuoteRequestFeedEvent(QuoteRequestFeedEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED -> add(event.getRequest());
+                case REMOVED -> remove(event.getRequestIds());
+                case QUOTED -> markQuoted(event.getGroomerId(), event.getRequestIds());
+            }
+        } catch (Exception e) {
+            log.error("견적 요청 피드 반영 실패 - type: {}, requestIds: {}, error: {}",
+                    event.getType(), event.getRequestIds(), e.getMessage(), e);
+        }
+    }
+
+    // 피드에서 읽은 요청과 리스트에 진행 중 요청이 모두 담겨 있는지 여부
+    private record FeedPage(List<QuoteRequestFeedDto> requests, boolean complete) {
+    }
+
+    // 미용사 지역 피드 첫 페이지 (이미 견적서를 보낸 요청 제외)
+    public List<QuoteRequestFeedDto> getFirstPage(Long sigunguId, Long groomerId, int size) {
+        String feedKey = feedKey(sigunguId);
+        if (Boolean.FALSE.equals(stringRedisTemplate.hasKey(feedKey))) {
+            loadFromDatabase(sigunguId);
+        }
+
+        Set<String> quoted = getQuotedRequestIds(groomerId);
+        FeedPage page = readPage(feedKey, quoted, size);
+        if (page.requests().size() < size && !page.complete()) {
+            // 마감/만료로 빠진 만큼 DB에서 다시 채움
+            loadFromDatabase(sigunguId);
+            page = readPage(feedKey, quoted, size);
+        }
+        if (page.requests().size() < size && !page.complete()) {
+            // 견적서를 보낸 요청이 많아 피드 범위로 부족하면 DB에서 직접 조회
+            return quoteRequestRepository.findOpenTotalRequestFeedBySigunguId(
+                            sigunguId, LocalDateTime.now().minus(OPEN_PERIOD), Limit.of(size + quoted.size())).stream()
+                    .filter(request -> !quoted.contains(String.valueOf(request.getRequestId())))
+                    .limit(size)
+                    .toList();
+        }
+        return page.requests();
+    }
+
+    private FeedPage readPage(String feedKey, Set<String> quoted, int size) {
+        List<String> requestIds = stringRedisTemplate.opsForList().range(feedKey, 0, FEED_CAPACITY - 1);
+        if (requestIds == null || requestIds.isEmpty()) {
+            return new FeedPage(Collections.emptyList(), false);
+        }
+
+        boolean complete = requestIds.contains(SENTINEL);
+        List<String> candidates = requestIds.stream()
+                .filter(requestId -> !SENTINEL.equals(requestId))
+                .distinct()
+                .toList();
+        if (candidates.isEmpty()) {
+            return new FeedPage(Collections.emptyList(), complete);
+        }
+
+        List<String> entries = stringRedisTemplate.opsForValue().multiGet(
+                candidates.stream().map(QuoteRequestFeed::entryKey).toList());
+
+        List<QuoteRequestFeedDto> page = new ArrayList<>();
+        for (int i = 0; i < candidates.size() && page.size() < size; i++) {
+            String entry = entries != null ? entries.get(i) : null;
+            if (entry == null || quoted.contains(candidates.get(i))) {
+                continue;
+            }
+            page.add(readEntry(entry));
+        }
+        return new FeedPage(page, complete);
+    }
+
+    private void add(QuoteRequestFeedDto request) {
+        Duration ttl = remainingOpenPeriod(request.getCreatedAt());
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        String requestId = String.valueOf(request.getRequestId());
+        stringRedisTemplate.opsForValue().set(entryKey(requestId), writeValue(request), ttl);
+        stringRedisTemplate.execute(PUSH_IF_EXISTS, List.of(feedKey(request.getSigunguId())),
+                requestId, String.valueOf(FEED_CAPACITY));
+
+        publish(QuoteRequestFeedMessageDto.created(request));
+    }
+
+    private void remove(List<Long> requestIds) {
+        for (Long requestId : requestIds) {
+            String entryKey = entryKey(String.valueOf(requestId));
+            String entry = stringRedisTemplate.opsForValue().get(entryKey);
+            if (entry == null) {
+                continue;
+            }
+
+            QuoteRequestFeedDto request = readEntry(entry);
+            stringRedisTemplate.delete(entryKey);
+            stringRedisTemplate.opsForList().remove(feedKey(request.getSigunguId()), 0, String.valueOf(requestId));
+
+            publish(QuoteRequestFeedMessageDto.removed(request.getSigunguId(), requestId));
+        }
+    }
+
+    // 적재된 미용사 목록에만 추가 (없으면 다음 조회 시 DB에서 채움)
+    private void markQuoted(Long groomerId, List<Long> requestIds) {
+        String quotedKey = quotedKey(groomerId);
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(quotedKey))) {
+            stringRedisTemplate.opsForSet().add(quotedKey, requestIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+    }
+
+    private Set<String> getQuotedRequestIds(Long groomerId) {
+        String quotedKey = quotedKey(groomerId);
+        Set<String> quoted = stringRedisTemplate.opsForSet().members(quotedKey);
+        if (quoted != null && !quoted.isEmpty()) {
+            return quoted;
+        }
+
+        // 마감 전 요청에 보낸 견적서만 의미가 있으므로 최근 3일치만 적재
+        List<String> requestIds = new ArrayList<>();
+        requestIds.add(SENTINEL);
+        quoteRepository.findQuotedRequestIdsByGroomerIdSince(groomerId, LocalDateTime.now().minus(OPEN_PERIOD))
+                .forEach(requestId -> requestIds.add(String.valueOf(requestId)));
+
+        stringRedisTemplate.opsForSet().add(quotedKey, requestIds.toArray(String[]::new));
+        stringRedisTemplate.expire(quotedKey, OPEN_PERIOD);
+        return new HashSet<>(requestIds);
+    }
+
+    private void loadFromDatabase(Long sigunguId) {
+        List<QuoteRequestFeedDto> requests = quoteRequestRepository.findOpenTotalRequestFeedBySigunguId(
+                sigunguId, LocalDateTime.now().minus(OPEN_PERIOD), Limit.of(FEED_CAPACITY));
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(FEED_CAPACITY));
+        args.add(requests.size() < FEED_CAPACITY ? "1" : "0");
+        args.add(ENTRY_KEY_PREFIX);
+        for (QuoteRequestFeedDto request : requests) {
+            Duration ttl = remainingOpenPeriod(request.getCreatedAt());
+            if (ttl.isZero() || ttl.isNegative()) {
+                continue;
+            }
+            String requestId = String.valueOf(request.getRequestId());
+            stringRedisTemplate.opsForValue().set(entryKey(requestId), writeValue(request), ttl);
+            args.add(requestId);
+        }
+
+        stringRedisTemplate.execute(MERGE, List.of(feedKey(sigunguId)), args.toArray());
+    }
+
+    private void publish(QuoteRequestFeedMessageDto message) {
+        stringRedisTemplate.convertAndSend(CHANNEL, writeValue(message));
+    }
+
+    private Duration remainingOpenPeriod(LocalDateTime createdAt) {
+        return Duration.between(LocalDateTime.now(), createdAt.plus(OPEN_PERIOD));
+    }
+
+    private String writeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("견적 요청 피드 직렬화 실패", e);
+        }
+    }
+
+    private QuoteRequestFeedDto readEntry(String entry) {
+        try {
+            return objectMapper.readValue(entry, QuoteRequestFeedDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("견적 요청 피드 역직렬화 실패", e);
+        }
+    }
+
+    private static String feedKey(Long sigunguId) {
+        return FEED_KEY_PREFIX + sigunguId;
+    }
+
+    private static String entryKey(String requestId) {
+        return ENTRY_KEY_PREFIX + requestId;
+    }
+
+    private static String quotedKey(Long groomerId) {
+        return QUOTED_KEY_PREFIX + groomerId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.dto.QuoteRequestFeedDto;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+@Getter
+public class QuoteRequestFeedEvent extends ApplicationEvent {
+    public enum Type { CREATED, REMOVED, QUOTED }
+
+    private final Type type;
+    private final QuoteRequestFeedDto request;
+    private final List<Long> requestIds;
+    private final Long groomerId;
+
+    // 전체 견적 요청 등록
+    public QuoteRequestFeedEvent(Object source, QuoteRequestFeedDto request) {
+        super(source);
+        this.type = Type.CREATED;
+        this.request = request;
+        this.requestIds = List.of(request.getRequestId());
+        this.groomerId = null;
+    }
+
+    // 마감/삭제로 피드에서 제외
+    public QuoteRequestFeedEvent(Object source, List<Long> requestIds) {
+        super(source);
+        this.type = Type.REMOVED;
+        this.request = null;
+        this.requestIds = requestIds;
+        this.groomerId = null;
+    }
+
+    // 미용사가 견적서를 보낸 요청 (해당 미용사 피드에서 제외)
+    public QuoteRequestFeedEvent(Object source, Long groomerId, Long requestId) {
+        super(source);
+        this.type = Type.QUOTED;
+        this.request = null;
+        this.requestIds = List.of(requestId);
+        this.groomerId = groomerId;
+    }
+}
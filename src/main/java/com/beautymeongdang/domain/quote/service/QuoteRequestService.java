@@ -29,6 +29,9 @@ public interface QuoteRequestService {
     // 미용사 매장 근처 견적서 요청 공고 조회
     List<GetGroomerQuoteRequestResponseDto> getGroomerTotalRequestList(Long groomerId);
 
+    // 미용사 매장 근처 견적서 요청 공고 피드 (최신 첫 페이지)
+    List<QuoteRequestFeedDto> getGroomerTotalRequestFeed(Long groomerId);
+
     // 미용사가 견적서 보낸 견적 요청 조회
     List<GetGroomerSendQuoteRequestResponseDto> getGroomerSendQuoteRequest(Long groomerId);
 
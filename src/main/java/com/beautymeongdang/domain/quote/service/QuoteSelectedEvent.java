@@ -0,0 +1,17 @@
+package com.beautymeongdang.domain.quote.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 견적서가 선택(결제 승인)되어 예약이 완료됨
+@Getter
+public class QuoteSelectedEvent extends ApplicationEvent {
+    private final Long quoteId;
+    private final Long requestId;
+
+    public QuoteSelectedEvent(Object source, Long quoteId, Long requestId) {
+        super(source);
+        this.quoteId = quoteId;
+        this.requestId = requestId;
+    }
+}
@@ -11,6 +11,10 @@ import com.beautymeongdang.domain.quote.repository.DirectQuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.QuoteRequestImageRepository;
 import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.TotalQuoteRequestRepository;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineEvent;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeed;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeedEvent;
 import com.beautymeongdang.domain.quote.service.QuoteRequestService;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
@@ -21,9 +25,8 @@ import com.beautymeongdang.domain.user.repository.CustomerRepository;
 import com.beautymeongdang.domain.user.repository.GroomerRepository;
 import com.beautymeongdang.domain.user.repository.UserRepository;
 import com.beautymeongdang.global.common.entity.CommonCode;
-import com.beautymeongdang.global.common.entity.CommonCodeId;
 import com.beautymeongdang.global.common.entity.UploadedFile;
-import com.beautymeongdang.global.common.repository.CommonCodeRepository;
+import com.beautymeongdang.global.common.service.CommonCodeRegistry;
 import com.beautymeongdang.global.exception.handler.BadRequestException;
 import com.beautymeongdang.global.exception.handler.NotFoundException;
 import com.beautymeongdang.global.region.entity.Sido;
@@ -32,11 +35,13 @@ import com.beautymeongdang.global.region.repository.SidoRepository;
 import com.beautymeongdang.global.region.repository.SigunguRepository;
 import com.beautymeongdang.infra.s3.FileStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import com.beautymeongdang.domain.quote.dto.GetGroomerQuoteRequestResponseDto;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -57,12 +62,15 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
     private final ShopRepository shopRepository;
-    private final CommonCodeRepository commonCodeRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
     private final NotificationService notificationService;
+    private final QuoteRequestFeed quoteRequestFeed;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String REQUEST_STATUS_GROUP_CODE = "100";
     private static final String DOG_BREED_GROUP_CODE = "400";
     private static final String REQUEST_TYPE_GROUP_CODE = "900";
+    private static final int TOTAL_REQUEST_FEED_PAGE_SIZE = 20;
     private final SidoRepository sidoRepository;
 
     /**
@@ -76,10 +84,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         }
 
         // requestType 코드로 변환 ("전체요청" -> "010")
-        CommonCode typeCode = commonCodeRepository.findAll().stream()
-                .filter(code -> code.getId().getGroupId().equals(REQUEST_TYPE_GROUP_CODE))
-                .filter(code -> code.getCommonName().equals(requestDto.getRequestType()))
-                .findFirst()
+        CommonCode typeCode = commonCodeRegistry.findByName(REQUEST_TYPE_GROUP_CODE, requestDto.getRequestType())
                 .orElseThrow(() -> NotFoundException.entityNotFound("요청 타입 코드"));
 
         if (!typeCode.getId().getCodeId().equals("010")) {
@@ -88,10 +93,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
 
 
         // status는 항상 "요청"(010)으로 설정
-        CommonCode statusCode = commonCodeRepository.findAll().stream()
-                .filter(code -> code.getId().getGroupId().equals(REQUEST_STATUS_GROUP_CODE))
-                .filter(code -> code.getId().getCodeId().equals("010"))
-                .findFirst()
+        CommonCode statusCode = commonCodeRegistry.find(REQUEST_STATUS_GROUP_CODE, "010")
                 .orElseThrow(() -> NotFoundException.entityNotFound("상태 코드"));
 
 
@@ -118,6 +120,28 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
 
         totalQuoteRequestRepository.save(totalQuoteRequest);
 
+        // 커밋 후 요청 마감 시각 등록
+        eventPublisher.publishEvent(new QuoteDeadlineEvent(this, QuoteDeadlineQueue.Type.REQUEST_EXPIRE,
+                savedRequest.getRequestId(), LocalDateTime.now().plus(QuoteDeadlineQueue.REQUEST_OPEN_PERIOD)));
+
+        // 커밋 후 지역 피드에 추가하고 구독 중인 미용사에게 전송
+        User customerUser = dog.getCustomerId().getUserId();
+        String dogBreed = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, dog.getDogBreed())
+                .map(CommonCode::getCommonName)
+                .orElse(null);
+        eventPublisher.publishEvent(new QuoteRequestFeedEvent(this, QuoteRequestFeedDto.builder()
+                .requestId(savedRequest.getRequestId())
+                .sigunguId(sigungu.getSigunguId())
+                .userName(customerUser.getUserName())
+                .profileImage(customerUser.getProfileImage())
+                .createdAt(savedRequest.getCreatedAt() != null ? savedRequest.getCreatedAt() : LocalDateTime.now())
+                .beautyDate(savedRequest.getBeautyDate())
+                .dogBreed(dogBreed)
+                .dogGender(dog.getDogGender().name())
+                .dogWeight(dog.getDogWeight())
+                .content(savedRequest.getContent())
+                .build()));
+
         // 이미지 저장
         List<QuoteRequestImage> savedImages = new ArrayList<>();
         if (images != null && !images.isEmpty()) {
@@ -173,10 +197,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         }
 
         // requestType 코드로 변환 ("1:1요청" -> "020")
-        CommonCode typeCode = commonCodeRepository.findAll().stream()
-                .filter(code -> code.getId().getGroupId().equals(REQUEST_TYPE_GROUP_CODE))
-                .filter(code -> code.getCommonName().equals(requestDto.getRequestType()))
-                .findFirst()
+        CommonCode typeCode = commonCodeRegistry.findByName(REQUEST_TYPE_GROUP_CODE, requestDto.getRequestType())
                 .orElseThrow(() -> NotFoundException.entityNotFound("요청 타입 코드"));
 
         if (!typeCode.getId().getCodeId().equals("020")) {
@@ -184,10 +205,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         }
 
         // status는 항상 "요청"(010)으로 설정
-        CommonCode statusCode = commonCodeRepository.findAll().stream()
-                .filter(code -> code.getId().getGroupId().equals(REQUEST_STATUS_GROUP_CODE))
-                .filter(code -> code.getId().getCodeId().equals("010"))
-                .findFirst()
+        CommonCode statusCode = commonCodeRegistry.find(REQUEST_STATUS_GROUP_CODE, "010")
                 .orElseThrow(() -> NotFoundException.entityNotFound("상태 코드"));
 
         Dog dog = dogRepository.findById(requestDto.getDogId())
@@ -210,6 +228,10 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
 
         directQuoteRequestRepository.save(directQuoteRequest);
 
+        // 커밋 후 요청 마감 시각 등록
+        eventPublisher.publishEvent(new QuoteDeadlineEvent(this, QuoteDeadlineQueue.Type.REQUEST_EXPIRE,
+                savedRequest.getRequestId(), LocalDateTime.now().plus(QuoteDeadlineQueue.REQUEST_OPEN_PERIOD)));
+
         // 이미지 저장
         List<QuoteRequestImage> savedImages = new ArrayList<>();
         if (images != null && !images.isEmpty()) {
@@ -233,8 +255,8 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
                 requestDto.getBeautyDate()
         );
 
-        // 알림 저장
-        notificationService.saveNotification(
+        // 알림 저장 (커밋 후 발송)
+        notificationService.enqueueNotification(
                 groomer.getUserId().getUserId(),
                 "groomer",
                 NotificationType.QUOTE_REQUEST.getDescription(),
@@ -281,8 +303,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         Dog dog = dogRepository.findById(dogId)
                 .orElseThrow(() -> NotFoundException.entityNotFound("강아지"));
 
-        CommonCodeId breedCodeId = new CommonCodeId(dog.getDogBreed(), DOG_BREED_GROUP_CODE);
-        CommonCode breedCode = commonCodeRepository.findById(breedCodeId)
+        CommonCode breedCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, dog.getDogBreed())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종 코드"));
 
         return GetDogInfoResponseDto.builder()
@@ -333,6 +354,15 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         return quoteRequestRepository.findQuoteRequestsBySigunguId(shop.getSigunguId().getSigunguId(), groomerId);
     }
 
+    // 미용사 매장 근처 견적서 요청 공고 피드 (Redis 피드 버퍼에서 조회)
+    @Override
+    public List<QuoteRequestFeedDto> getGroomerTotalRequestFeed(Long groomerId) {
+        Shop shop = shopRepository.findByGroomerId(groomerId)
+                .orElseThrow(() -> NotFoundException.entityNotFound("미용실"));
+
+        return quoteRequestFeed.getFirstPage(shop.getSigunguId().getSigunguId(), groomerId, TOTAL_REQUEST_FEED_PAGE_SIZE);
+    }
+
     // 미용사가 견적서 보낸 견적 요청 조회
     @Override
     public List<GetGroomerSendQuoteRequestResponseDto> getGroomerSendQuoteRequest(Long groomerId) {
@@ -350,8 +380,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         Dog dog = dogRepository.findById(quoteRequest.getDogId().getDogId())
                 .orElseThrow(() -> NotFoundException.entityNotFound("강아지"));
 
-        CommonCodeId commonCodeId = new CommonCodeId(dog.getDogBreed(), "400");
-        CommonCode commonCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode commonCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, dog.getDogBreed())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종"));
         String dogBreed = commonCode.getCommonName();
 
@@ -408,13 +437,11 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
 
         QuoteRequest savedQuoteRequest = quoteRequestRepository.save(updateQuoteRequest);
 
-        CommonCodeId requestStatusCodeId = new CommonCodeId(savedQuoteRequest.getStatus(), "100");
-        CommonCode requestStatusCode = commonCodeRepository.findById(requestStatusCodeId)
+        CommonCode requestStatusCode = commonCodeRegistry.find(REQUEST_STATUS_GROUP_CODE, savedQuoteRequest.getStatus())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견적서 요청 진행 상태 코드"));
         String requestStatus = requestStatusCode.getCommonName();
 
-        CommonCodeId requestTypeCodeId = new CommonCodeId(savedQuoteRequest.getRequestType(), "900");
-        CommonCode requestTypeCode = commonCodeRepository.findById(requestTypeCodeId)
+        CommonCode requestTypeCode = commonCodeRegistry.find(REQUEST_TYPE_GROUP_CODE, savedQuoteRequest.getRequestType())
                 .orElseThrow(() -> NotFoundException.entityNotFound(" 진견적서 요청 타입 구분 코드"));
         String requestType = requestTypeCode.getCommonName();
 
@@ -440,8 +467,8 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
                 requestDto.getRejectionReason()
         );
 
-        // 고객 알림 저장
-        notificationService.saveNotification(
+        // 고객 알림 저장 (커밋 후 발송)
+        notificationService.enqueueNotification(
                 quoteRequest.getDogId().getCustomerId().getUserId().getUserId(),
                 "customer",
                 NotificationType.QUOTE_REQUEST_REJECT.getDescription(),
@@ -475,8 +502,7 @@ public class QuoteRequestServiceImpl implements QuoteRequestService {
         Dog dog = dogRepository.findById(quoteRequest.getDogId().getDogId())
                 .orElseThrow(() -> NotFoundException.entityNotFound("강아지"));
 
-        CommonCodeId commonCodeId = new CommonCodeId(dog.getDogBreed(), "400");
-        CommonCode commonCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode commonCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, dog.getDogBreed())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종"));
         String dogBreed = commonCode.getCommonName();
 
@@ -7,6 +7,10 @@ import com.beautymeongdang.domain.notification.service.NotificationService;
 import com.beautymeongdang.domain.quote.dto.*;
 import com.beautymeongdang.domain.quote.entity.*;
 import com.beautymeongdang.domain.quote.repository.*;
+import com.beautymeongdang.domain.quote.service.QuoteBatchLoader;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineEvent;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeedEvent;
 import com.beautymeongdang.domain.quote.service.QuoteService;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
@@ -17,17 +21,19 @@ import com.beautymeongdang.domain.user.repository.CustomerRepository;
 import com.beautymeongdang.domain.user.repository.GroomerRepository;
 import com.beautymeongdang.domain.user.repository.UserRepository;
 import com.beautymeongdang.global.common.entity.CommonCode;
-import com.beautymeongdang.global.common.entity.CommonCodeId;
-import com.beautymeongdang.global.common.repository.CommonCodeRepository;
+import com.beautymeongdang.global.common.service.CommonCodeRegistry;
 import com.beautymeongdang.global.exception.handler.BadRequestException;
 import com.beautymeongdang.global.exception.handler.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,9 +49,11 @@ public class QuoteServiceImpl implements QuoteService {
     private final DogRepository dogRepository;
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
-    private final CommonCodeRepository commonCodeRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
     private final NotificationService notificationService;
     private final TotalQuoteRequestRepository totalQuoteRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuoteBatchLoader quoteBatchLoader;
 
     private static final String QUOTE_REQUEST_STATUS_GROUP_CODE = "100";
     private static final String QUOTE_STATUS_GROUP_CODE = "200";
@@ -59,25 +67,35 @@ public class QuoteServiceImpl implements QuoteService {
     public GetQuotesGroomerResponseDto getQuotesGroomer(Long customerId) {
         List<QuoteRequest> quoteRequests = quoteRequestRepository.findAllByCustomerId(customerId);
 
+        // 요청 목록 기준으로 연관 데이터 일괄 조회
+        Map<Long, DirectQuoteRequest> directRequests = quoteBatchLoader.loadDirectRequests(quoteRequests);
+        Map<Long, Map<Long, Quote>> proposedQuotes = quoteBatchLoader.loadProposedQuotes(quoteRequests);
+        Map<Long, Shop> shops = quoteBatchLoader.loadShops(directRequests.values().stream()
+                .map(directRequest -> directRequest.getDirectQuoteRequestId().getGroomerId().getGroomerId())
+                .toList());
+
         List<GetQuotesGroomerResponseDto.QuoteRequestInfo> quoteRequestInfos = quoteRequests.stream()
                 .map(request -> {
-                    // DirectQuoteRequest에서 미용사 정보 조회
-                    DirectQuoteRequest directRequest = directQuoteRequestRepository.findByQuoteRequest(request)
-                            .orElseThrow(() -> NotFoundException.entityNotFound("직접 견적 요청"));
+                    DirectQuoteRequest directRequest = directRequests.get(request.getRequestId());
+                    if (directRequest == null) {
+                        throw NotFoundException.entityNotFound("직접 견적 요청");
+                    }
 
                     Groomer groomer = directRequest.getDirectQuoteRequestId().getGroomerId();
-                    Shop shop = shopRepository.findByGroomerId(groomer.getGroomerId())
-                            .orElseThrow(() -> NotFoundException.entityNotFound("미용실"));
+                    Shop shop = shops.get(groomer.getGroomerId());
+                    if (shop == null) {
+                        throw NotFoundException.entityNotFound("미용실");
+                    }
 
-                    CommonCodeId requestStatusCodeId = new CommonCodeId(request.getStatus(), QUOTE_REQUEST_STATUS_GROUP_CODE);
-                    CommonCode requestStatusCode = commonCodeRepository.findById(requestStatusCodeId)
+                    CommonCode requestStatusCode = commonCodeRegistry.find(QUOTE_REQUEST_STATUS_GROUP_CODE, request.getStatus())
                             .orElseThrow(() -> NotFoundException.entityNotFound("견적 요청 상태 코드"));
 
                     // Quote 조회 - 거절이 아닐 때만
                     Long quoteId = null;
                     LocalDateTime expireDate = null;
                     if (!request.getStatus().equals("020")) {
-                        Quote quote = quoteRepository.findByRequestIdAndGroomerIdAndIsDeletedFalse(request, groomer);
+                        Quote quote = proposedQuotes.getOrDefault(request.getRequestId(), Collections.emptyMap())
+                                .get(groomer.getGroomerId());
                         if (quote != null) {
                             quoteId = quote.getQuoteId();
                             expireDate = quote.getCreatedAt().plusDays(2);
@@ -114,23 +132,31 @@ public class QuoteServiceImpl implements QuoteService {
     public GetQuotesAllResponseDto getQuotesAll(Long customerId) {
         List<QuoteRequest> requests = quoteRequestRepository.findAllRequestsByCustomerId(customerId);
 
+        // 요청 목록 기준으로 연관 데이터 일괄 조회
+        Map<Long, List<Quote>> quotesByRequest = quoteBatchLoader.loadQuotes(requests);
+        Map<Long, TotalQuoteRequest> totalRequests = quoteBatchLoader.loadTotalRequests(requests);
+        Map<Long, Shop> shops = quoteBatchLoader.loadShops(quotesByRequest.values().stream()
+                .flatMap(List::stream)
+                .map(quote -> quote.getGroomerId().getGroomerId())
+                .toList());
+
         List<GetQuotesAllResponseDto.QuoteRequestInfo> requestInfos = requests.stream()
                 .map(request -> {
-                    CommonCodeId requestStatusCodeId = new CommonCodeId(request.getStatus(), QUOTE_REQUEST_STATUS_GROUP_CODE);
-                    CommonCode requestStatusCode = commonCodeRepository.findById(requestStatusCodeId)
+                    CommonCode requestStatusCode = commonCodeRegistry.find(QUOTE_REQUEST_STATUS_GROUP_CODE, request.getStatus())
                             .orElseThrow(() -> NotFoundException.entityNotFound("견적 요청 상태 코드"));
                     String requestStatusName = requestStatusCode.getCommonName();
 
-                    List<Quote> quotes = quoteRepository.findAllByRequestId(request.getRequestId());
+                    List<Quote> quotes = quotesByRequest.getOrDefault(request.getRequestId(), Collections.emptyList());
                     List<GetQuotesAllResponseDto.QuoteInfo> quoteInfos = quotes.stream()
                             .map(quote -> {
-                                CommonCodeId quoteStatusCodeId = new CommonCodeId(quote.getStatus(), QUOTE_STATUS_GROUP_CODE);
-                                CommonCode quoteStatusCode = commonCodeRepository.findById(quoteStatusCodeId)
+                                CommonCode quoteStatusCode = commonCodeRegistry.find(QUOTE_STATUS_GROUP_CODE, quote.getStatus())
                                         .orElseThrow(() -> NotFoundException.entityNotFound("견적서 상태 코드"));
                                 String quoteStatusName = quoteStatusCode.getCommonName();
 
-                                Shop shop = shopRepository.findByGroomerId(quote.getGroomerId().getGroomerId())
-                                        .orElseThrow(() -> NotFoundException.entityNotFound("미용실"));
+                                Shop shop = shops.get(quote.getGroomerId().getGroomerId());
+                                if (shop == null) {
+                                    throw NotFoundException.entityNotFound("미용실");
+                                }
 
                                 LocalDateTime expireDate = quote.getCreatedAt().plusDays(2);
 
@@ -150,8 +176,10 @@ public class QuoteServiceImpl implements QuoteService {
                             })
                             .collect(Collectors.toList());
 
-                    TotalQuoteRequest totalQuoteRequest = totalQuoteRequestRepository.findByRequestId_RequestId(request.getRequestId())
-                            .orElseThrow(() -> new NotFoundException("견적서 전체 요청"));
+                    TotalQuoteRequest totalQuoteRequest = totalRequests.get(request.getRequestId());
+                    if (totalQuoteRequest == null) {
+                        throw new NotFoundException("견적서 전체 요청");
+                    }
 
                     String region = totalQuoteRequest.getSigunguId().getSidoId().getSidoName() + " " + totalQuoteRequest.getSigunguId().getSigunguName();
 
@@ -189,8 +217,7 @@ public class QuoteServiceImpl implements QuoteService {
                 .findAllByRequestId(quote.getRequestId().getRequestId());
 
         // db에 있는 견종 코드를 견종명으로 변환
-        CommonCodeId breedCodeId = new CommonCodeId(quote.getDogId().getDogBreed(), DOG_BREED_GROUP_CODE);
-        CommonCode breedCode = commonCodeRepository.findById(breedCodeId)
+        CommonCode breedCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, quote.getDogId().getDogBreed())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종 코드"));
         String dogBreedName = breedCode.getCommonName();
 
@@ -260,6 +287,10 @@ public class QuoteServiceImpl implements QuoteService {
 
         Quote saveQuote = quoteRepository.save(quote);
 
+        // 커밋 후 견적서 마감 시각 등록
+        eventPublisher.publishEvent(new QuoteDeadlineEvent(this, QuoteDeadlineQueue.Type.QUOTE_EXPIRE,
+                saveQuote.getQuoteId(), LocalDateTime.now().plus(QuoteDeadlineQueue.QUOTE_OPEN_PERIOD)));
+
         if(quoteRequest.getRequestType().equals("020")) {
             QuoteRequest updateQuoteRequest = QuoteRequest.builder()
                     .requestId(quoteRequest.getRequestId())
@@ -271,6 +302,13 @@ public class QuoteServiceImpl implements QuoteService {
                     .build();
 
             quoteRequestRepository.save(updateQuoteRequest);
+
+            // 커밋 후 1:1 요청 결제 마감 시각 등록
+            eventPublisher.publishEvent(new QuoteDeadlineEvent(this, QuoteDeadlineQueue.Type.DIRECT_UNPAID,
+                    quoteRequest.getRequestId(), LocalDateTime.now().plus(QuoteDeadlineQueue.DIRECT_PAYMENT_PERIOD)));
+        } else {
+            // 견적서를 보낸 전체 요청은 해당 미용사의 지역 피드에서 제외
+            eventPublisher.publishEvent(new QuoteRequestFeedEvent(this, groomer.getGroomerId(), quoteRequest.getRequestId()));
         }
         // 견적서 알림 메시지 생성
         String notificationMessage = String.format(
@@ -280,8 +318,8 @@ public class QuoteServiceImpl implements QuoteService {
                 requestDto.getQuoteCost()
         );
 
-        // 알림 저장
-        notificationService.saveNotification(
+        // 알림 저장 (커밋 후 발송)
+        notificationService.enqueueNotification(
                 quoteRequest.getDogId().getCustomerId().getUserId().getUserId(),
                 "customer",
                 NotificationType.QUOTE.getDescription(),
@@ -289,8 +327,7 @@ public class QuoteServiceImpl implements QuoteService {
         );
 
 
-        CommonCodeId commonCodeId = new CommonCodeId(saveQuote.getStatus(), "100");
-        CommonCode commonCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode commonCode = commonCodeRegistry.find(QUOTE_REQUEST_STATUS_GROUP_CODE, saveQuote.getStatus())
                 .orElseThrow(() -> NotFoundException.entityNotFound("요청 진행 상태"));
         String requestStatus = commonCode.getCommonName();
 
@@ -315,8 +352,7 @@ public class QuoteServiceImpl implements QuoteService {
         Dog dog = dogRepository.findById(quoteRequest.getDogId().getDogId())
                 .orElseThrow(() -> NotFoundException.entityNotFound("강아지"));
 
-        CommonCodeId commonCodeId = new CommonCodeId(dog.getDogBreed(), "400");
-        CommonCode commonCode = commonCodeRepository.findById(commonCodeId)
+        CommonCode commonCode = commonCodeRegistry.find(DOG_BREED_GROUP_CODE, dog.getDogBreed())
                 .orElseThrow(() -> NotFoundException.entityNotFound("견종"));
         String dogBreed = commonCode.getCommonName();
 
@@ -0,0 +1,127 @@
+package com.beautymeongdang.domain.review.entity;
+
+import com.beautymeongdang.global.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 미용사별 리뷰 집계 (리뷰 수, 별점 합계/평균, 별점 분포)
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class GroomerRatingSummary extends BaseTimeEntity {
+
+    @Id
+    private Long groomerId;
+
+    @Column(nullable = false)
+    private Integer reviewCount;
+
+    @Column(nullable = false, precision = 12, scale = 1)
+    private BigDecimal starSum;
+
+    @Column(nullable = false)
+    private Double starAverage;
+
+    @Column(nullable = false)
+    private Integer oneStarCount;
+
+    @Column(nullable = false)
+    private Integer twoStarCount;
+
+    @Column(nullable = false)
+    private Integer threeStarCount;
+
+    @Column(nullable = false)
+    private Integer fourStarCount;
+
+    @Column(nullable = false)
+    private Integer fiveStarCount;
+
+    public static GroomerRatingSummary empty(Long groomerId) {
+        return GroomerRatingSummary.builder()
+                .groomerId(groomerId)
+                .reviewCount(0)
+                .starSum(BigDecimal.ZERO)
+                .starAverage(0.0)
+                .oneStarCount(0)
+                .twoStarCount(0)
+                .threeStarCount(0)
+                .fourStarCount(0)
+                .fiveStarCount(0)
+                .build();
+    }
+
+    public void addReview(BigDecimal starRating) {
+        apply(starRating, 1);
+    }
+
+    // 같은 별점 리뷰 여러 건을 한 번에 반영 (재집계용)
+    public void add(BigDecimal starRating, int count) {
+        apply(starRating, count);
+    }
+
+    public void removeReview(BigDecimal starRating) {
+        apply(starRating, -1);
+    }
+
+    public void changeStarRating(BigDecimal before, BigDecimal after) {
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    // 매장 정렬용 별점 평균 (소수 둘째 자리 반올림)
+    public BigDecimal getStarScore() {
+        if (this.reviewCount == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return this.starSum.divide(BigDecimal.valueOf(this.reviewCount), 2, RoundingMode.HALF_UP);
+    }
+
+    // 리뷰 테이블 기준으로 다시 집계한 값으로 덮어쓰기
+    public void overwrite(GroomerRatingSummary recalculated) {
+        this.reviewCount = recalculated.reviewCount;
+        this.starSum = recalculated.starSum;
+        this.starAverage = recalculated.starAverage;
+        this.oneStarCount = recalculated.oneStarCount;
+        this.twoStarCount = recalculated.twoStarCount;
+        this.threeStarCount = recalculated.threeStarCount;
+        this.fourStarCount = recalculated.fourStarCount;
+        this.fiveStarCount = recalculated.fiveStarCount;
+    }
+
+    private void apply(BigDecimal starRating, int delta) {
+        this.reviewCount = Math.max(0, this.reviewCount + delta);
+        this.starSum = this.starSum.add(starRating.multiply(BigDecimal.valueOf(delta)));
+
+        switch (starBucket(starRating)) {
+            case 1 -> this.oneStarCount = Math.max(0, this.oneStarCount + delta);
+            case 2 -> this.twoStarCount = Math.max(0, this.twoStarCount + delta);
+            case 3 -> this.threeStarCount = Math.max(0, this.threeStarCount + delta);
+            case 4 -> this.fourStarCount = Math.max(0, this.fourStarCount + delta);
+            default -> this.fiveStarCount = Math.max(0, this.fiveStarCount + delta);
+        }
+
+        if (this.reviewCount == 0) {
+            this.starSum = BigDecimal.ZERO;
+            this.starAverage = 0.0;
+        } else {
+            this.starAverage = this.starSum.doubleValue() / this.reviewCount;
+        }
+    }
+
+    // 별점 분포 구간 (반올림, 1~5)
+    private static int starBucket(BigDecimal starRating) {
+        int bucket = starRating.setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.min(5, Math.max(1, bucket));
+    }
+}
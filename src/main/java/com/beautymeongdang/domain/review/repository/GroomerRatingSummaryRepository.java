@@ -0,0 +1,42 @@
+package com.beautymeongdang.domain.review.repository;
+
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GroomerRatingSummaryRepository extends JpaRepository<GroomerRatingSummary, Long> {
+
+    // 리뷰 작성/수정/삭제 시 집계 갱신용 (동시 갱신 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rs FROM GroomerRatingSummary rs WHERE rs.groomerId = :groomerId")
+    Optional<GroomerRatingSummary> findByIdForUpdate(@Param("groomerId") Long groomerId);
+
+    // 집계 행이 없으면 빈 집계로 생성 (이미 있으면 그대로 두고 이후 행 잠금으로 갱신)
+    // MySQL 전용 INSERT IGNORE: 기본 키 중복은 무시되어 0을 반환한다.
+    // 중복 외의 오류(NOT NULL 등)도 경고로 바뀌므로 모든 컬럼을 상수로 채운다.
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO groomer_rating_summary (groomer_id, review_count, star_sum, star_average,
+        one_star_count, two_star_count, three_star_count, four_star_count, five_star_count, created_at, updated_at)
+    VALUES (:groomerId, 0, 0, 0, 0, 0, 0, 0, 0, NOW(), NOW())
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("groomerId") Long groomerId);
+
+    // 재집계 대상 일괄 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rs FROM GroomerRatingSummary rs WHERE rs.groomerId IN :groomerIds ORDER BY rs.groomerId")
+    List<GroomerRatingSummary> findAllByGroomerIdsForUpdate(@Param("groomerIds") List<Long> groomerIds);
+
+    // 미용사 목록의 리뷰 집계 일괄 조회
+    @Query("SELECT rs FROM GroomerRatingSummary rs WHERE rs.groomerId IN :groomerIds")
+    List<GroomerRatingSummary> findAllByGroomerIds(@Param("groomerIds") List<Long> groomerIds);
+}
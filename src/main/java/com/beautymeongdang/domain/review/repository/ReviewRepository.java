@@ -17,11 +17,30 @@ public interface ReviewRepository extends JpaRepository<Reviews, Long> {
     @Query("SELECT r FROM Reviews r WHERE r.groomerId.groomerId = :groomerId AND r.isDeleted = false")
     List<Reviews> findGroomerReviews(@Param("groomerId") Long groomerId);
 
+    // 특정 미용사의 리뷰 + 작성자 정보 한 번에 조회 (매장 상세)
+    @Query("""
+    SELECT r FROM Reviews r
+    JOIN FETCH r.customerId c
+    JOIN FETCH c.userId
+    WHERE r.groomerId.groomerId = :groomerId
+    AND r.isDeleted = false
+    """)
+    List<Reviews> findGroomerReviewsWithCustomer(@Param("groomerId") Long groomerId);
+
 
     //각 리뷰의 추천 수
     @Query("SELECT COUNT(r) FROM Recommend r WHERE r.recommendId.reviewId.reviewId = :reviewId")
     Integer countRecommendsByReviewId(@Param("reviewId") Long reviewId);
 
+    // 리뷰 목록의 추천 수 일괄 조회 [reviewId, count]
+    @Query("""
+    SELECT r.recommendId.reviewId.reviewId, COUNT(r)
+    FROM Recommend r
+    WHERE r.recommendId.reviewId.reviewId IN :reviewIds
+    GROUP BY r.recommendId.reviewId.reviewId
+    """)
+    List<Object[]> countRecommendsByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
     // customer과 같은 시군구에 있고, 리뷰 추천 수가 많은 Best 미용후기 2개
     @Query("""
     SELECT DISTINCT r FROM Reviews r
@@ -37,20 +56,25 @@ public interface ReviewRepository extends JpaRepository<Reviews, Long> {
     """)
     List<Reviews> findTop2BestReviewsBySigungu(@Param("customerId") Long customerId);
 
+    // 미용사 리뷰 집계 재계산용 별점별 리뷰 수 [groomerId, starRating, count]
+    @Query("""
+    SELECT r.groomerId.groomerId, r.starRating, COUNT(r)
+    FROM Reviews r
+    WHERE r.groomerId.groomerId IN :groomerIds
+    AND r.isDeleted = false
+    GROUP BY r.groomerId.groomerId, r.starRating
+    """)
+    List<Object[]> countStarRatingsByGroomerIds(@Param("groomerIds") List<Long> groomerIds);
 
-
-    @Query("SELECT AVG(r.starRating) FROM Reviews r WHERE r.groomerId.groomerId = :groomerId AND r.isDeleted = false")
-    Double getAverageStarRatingByGroomerId(@Param("groomerId") Long groomerId);
-
-
-    // 각 미용사의 리뷰 개수
-    @Query("SELECT COUNT(r) FROM Reviews r WHERE r.groomerId.groomerId = :groomerId AND r.isDeleted = false")
-    Integer countGroomerReviews(@Param("groomerId") Long groomerId);
+    // 리뷰가 있는 미용사 목록 (리뷰 집계 초기화)
+    @Query("SELECT DISTINCT r.groomerId.groomerId FROM Reviews r WHERE r.isDeleted = false")
+    List<Long> findReviewedGroomerIds();
 
     // 특정 고객의 논리적 삭제되지 않은 모든 리뷰 조회
     @Query("""
     SELECT r FROM Reviews r
     JOIN FETCH r.groomerId g
+    JOIN FETCH g.userId
     JOIN FETCH Shop s ON s.groomerId = g
     WHERE r.customerId.customerId = :customerId AND r.isDeleted = false
 """)
@@ -17,6 +17,10 @@ public interface ReviewsImageRepository extends JpaRepository<ReviewsImage, Long
     @Query("SELECT ri FROM ReviewsImage ri WHERE ri.reviewId.reviewId = :reviewId")
     List<ReviewsImage> findReviewImagesByReviewId(@Param("reviewId") Long reviewId);
 
+    // 리뷰 목록의 이미지 일괄 조회 [reviewId, imageUrl]
+    @Query("SELECT ri.reviewId.reviewId, ri.imageUrl FROM ReviewsImage ri WHERE ri.reviewId.reviewId IN :reviewIds ORDER BY ri.reviewsImageId ASC")
+    List<Object[]> findReviewImageUrlsByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
     // 고객 메인 페이지 베스트리뷰에서 첫 번째 이미지 조회
     @Query("SELECT ri.imageUrl FROM ReviewsImage ri WHERE ri.reviewId.reviewId = :reviewId ORDER BY ri.reviewsImageId ASC LIMIT 1")
     Optional<String> findFirstImageUrlByReviewId(@Param("reviewId") Long reviewId);
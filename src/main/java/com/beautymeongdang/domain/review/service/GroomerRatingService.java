@@ -0,0 +1,31 @@
+package com.beautymeongdang.domain.review.service;
+
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface GroomerRatingService {
+
+    // 리뷰 작성 반영
+    void addReview(Long groomerId, BigDecimal starRating);
+
+    // 리뷰 삭제 반영
+    void removeReview(Long groomerId, BigDecimal starRating);
+
+    // 리뷰 별점 수정 반영
+    void changeStarRating(Long groomerId, BigDecimal before, BigDecimal after);
+
+    // 리뷰 테이블 기준 재집계
+    void recalculate(List<Long> groomerIds);
+
+    // 리뷰 집계와 어긋난 매장 정렬 컬럼 보정
+    int syncShopRatings();
+
+    // 미용사 리뷰 집계 조회 (리뷰가 없으면 빈 집계)
+    GroomerRatingSummary getSummary(Long groomerId);
+
+    // 미용사 목록의 리뷰 집계 일괄 조회
+    Map<Long, GroomerRatingSummary> getSummaries(List<Long> groomerIds);
+}
@@ -0,0 +1,57 @@
+package com.beautymeongdang.domain.review.service;
+
+import com.beautymeongdang.domain.review.entity.Reviews;
+import com.beautymeongdang.domain.review.repository.ReviewRepository;
+import com.beautymeongdang.domain.review.repository.ReviewsImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 리뷰 목록 조회 시 리뷰 건마다 추천 수, 이미지를 조회하지 않도록
+ * 리뷰 ID 목록 단위로 한 번에 조회해 Map으로 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewBatchLoader {
+    private final ReviewRepository reviewRepository;
+    private final ReviewsImageRepository reviewsImageRepository;
+
+    // 리뷰별 추천 수 (추천이 없는 리뷰는 0)
+    public Map<Long, Integer> loadRecommendCounts(List<Reviews> reviews) {
+        List<Long> reviewIds = toReviewIds(reviews);
+        if (reviewIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Integer> recommendCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countRecommendsByReviewIds(reviewIds)) {
+            recommendCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        reviewIds.forEach(reviewId -> recommendCounts.putIfAbsent(reviewId, 0));
+        return recommendCounts;
+    }
+
+    // 리뷰별 이미지 URL (등록 순서 유지, 이미지가 없는 리뷰는 빈 리스트)
+    public Map<Long, List<String>> loadImageUrls(List<Reviews> reviews) {
+        List<Long> reviewIds = toReviewIds(reviews);
+        if (reviewIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] row : reviewsImageRepository.findReviewImageUrlsByReviewIds(reviewIds)) {
+            imageUrls.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        reviewIds.forEach(reviewId -> imageUrls.putIfAbsent(reviewId, new ArrayList<>()));
+        return imageUrls;
+    }
+
+    private List<Long> toReviewIds(List<Reviews> reviews) {
+        return reviews.stream()
+                .map(Reviews::getReviewId)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.beautymeongdang.domain.review.service.impl;
+
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
+import com.beautymeongdang.domain.review.repository.GroomerRatingSummaryRepository;
+import com.beautymeongdang.domain.review.repository.ReviewRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
+import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import com.beautymeongdang.global.exception.handler.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GroomerRatingServiceImpl implements GroomerRatingService {
+    private final GroomerRatingSummaryRepository groomerRatingSummaryRepository;
+    private final ReviewRepository reviewRepository;
+    private final ShopRepository shopRepository;
+
+    // 리뷰 작성 반영
+    @Override
+    @Transactional
+    public void addReview(Long groomerId, BigDecimal starRating) {
+        // 첫 리뷰도 행을 먼저 만든 뒤 잠가서 동시 작성 시 집계가 유실되지 않도록 함
+        groomerRatingSummaryRepository.insertIfAbsent(groomerId);
+        GroomerRatingSummary summary = groomerRatingSummaryRepository.findByIdForUpdate(groomerId)
+                .orElseThrow(() -> NotFoundException.entityNotFound("리뷰 집계"));
+
+        summary.addReview(starRating);
+        syncShopRating(summary);
+    }
+
+    // 리뷰 삭제 반영
+    @Override
+    @Transactional
+    public void removeReview(Long groomerId, BigDecimal starRating) {
+        groomerRatingSummaryRepository.findByIdForUpdate(groomerId)
+                .ifPresent(summary -> {
+                    summary.removeReview(starRating);
+                    syncShopRating(summary);
+                });
+    }
+
+    // 리뷰 별점 수정 반영
+    @Override
+    @Transactional
+    public void changeStarRating(Long groomerId, BigDecimal before, BigDecimal after) {
+        if (before.compareTo(after) == 0) {
+            return;
+        }
+
+        groomerRatingSummaryRepository.findByIdForUpdate(groomerId)
+                .ifPresentOrElse(
+                        summary -> {
+                            summary.changeStarRating(before, after);
+                            syncShopRating(summary);
+                        },
+                        () -> recalculate(List.of(groomerId))
+                );
+    }
+
+    // 리뷰 테이블 기준 재집계
+    @Override
+    @Transactional
+    public void recalculate(List<Long> groomerIds) {
+        if (groomerIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, GroomerRatingSummary> recalculated = new HashMap<>();
+        for (Object[] row : reviewRepository.countStarRatingsByGroomerIds(groomerIds)) {
+            GroomerRatingSummary summary = recalculated.computeIfAbsent((Long) row[0], GroomerRatingSummary::empty);
+            summary.add((BigDecimal) row[1], Math.toIntExact((Long) row[2]));
+        }
+
+        // 없는 행은 먼저 만들고 모두 잠근 뒤 덮어쓰기
+        List<Long> distinctGroomerIds = groomerIds.stream().distinct().sorted().toList();
+        distinctGroomerIds.forEach(groomerRatingSummaryRepository::insertIfAbsent);
+        groomerRatingSummaryRepository.findAllByGroomerIdsForUpdate(distinctGroomerIds).forEach(current -> {
+            current.overwrite(recalculated.getOrDefault(current.getGroomerId(),
+                    GroomerRatingSummary.empty(current.getGroomerId())));
+            syncShopRating(current);
+        });
+    }
+
+    // 리뷰 집계와 어긋난 매장 정렬 컬럼 보정
+    @Override
+    @Transactional
+    public int syncShopRatings() {
+        return shopRepository.syncRatingsFromSummaries();
+    }
+
+    // 미용사 리뷰 집계 조회 (리뷰가 없으면 빈 집계)
+    @Override
+    public GroomerRatingSummary getSummary(Long groomerId) {
+        return groomerRatingSummaryRepository.findById(groomerId)
+                .orElseGet(() -> GroomerRatingSummary.empty(groomerId));
+    }
+
+    // 미용사 목록의 리뷰 집계 일괄 조회
+    @Override
+    public Map<Long, GroomerRatingSummary> getSummaries(List<Long> groomerIds) {
+        if (groomerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, GroomerRatingSummary> summaries = groomerRatingSummaryRepository.findAllByGroomerIds(groomerIds).stream()
+                .collect(Collectors.toMap(GroomerRatingSummary::getGroomerId, Function.identity()));
+        groomerIds.forEach(groomerId -> summaries.computeIfAbsent(groomerId, GroomerRatingSummary::empty));
+        return summaries;
+    }
+
+    // 매장 리스트 정렬 컬럼에 집계 반영
+    private void syncShopRating(GroomerRatingSummary summary) {
+        shopRepository.updateRating(summary.getGroomerId(), summary.getStarScore(), summary.getReviewCount());
+    }
+}
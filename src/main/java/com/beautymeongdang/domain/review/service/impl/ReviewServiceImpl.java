@@ -5,10 +5,13 @@ import com.beautymeongdang.domain.notification.service.NotificationService;
 import com.beautymeongdang.domain.quote.entity.SelectedQuote;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
 import com.beautymeongdang.domain.review.dto.*;
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
 import com.beautymeongdang.domain.review.entity.Reviews;
 import com.beautymeongdang.domain.review.entity.ReviewsImage;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
 import com.beautymeongdang.domain.review.repository.ReviewsImageRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
+import com.beautymeongdang.domain.review.service.ReviewBatchLoader;
 import com.beautymeongdang.domain.review.service.ReviewService;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
@@ -27,8 +30,8 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.ion.Decimal;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,6 +45,8 @@ public class ReviewServiceImpl implements ReviewService {
     private final SelectedQuoteRepository selectedQuoteRepository;
     private final FileStore fileStore;
     private final ReviewsImageRepository reviewsImageRepository;
+    private final ReviewBatchLoader reviewBatchLoader;
+    private final GroomerRatingService groomerRatingService;
     private final NotificationService notificationService;
 
 
@@ -72,6 +77,9 @@ public class ReviewServiceImpl implements ReviewService {
 
         Reviews savedReview = reviewRepository.save(reviews);
 
+        // 미용사 리뷰 집계 반영
+        groomerRatingService.addReview(groomer.getGroomerId(), savedReview.getStarRating());
+
         // 이미지 저장
         List<ReviewsImage> savedImages = new ArrayList<>();
         if (images != null && !images.isEmpty()) {
@@ -95,8 +103,8 @@ public class ReviewServiceImpl implements ReviewService {
                 requestDto.getContent()
         );
 
-        // 알림 저장
-        notificationService.saveNotification(
+        // 알림 저장 (커밋 후 발송)
+        notificationService.enqueueNotification(
                 groomer.getUserId().getUserId(),
                 "groomer",
                 NotificationType.SHOP_REVIEW.getDescription(),
@@ -136,8 +144,19 @@ public class ReviewServiceImpl implements ReviewService {
                 .selectedQuoteId(reviews.getSelectedQuoteId())
                 .build();
 
+        BigDecimal beforeStarRating = reviews.getStarRating();
+        boolean wasDeleted = reviews.isDeleted();
+
         Reviews savedReview = reviewRepository.save(updateReview);
 
+        // 미용사 리뷰 집계 반영 (삭제된 리뷰는 수정 시 다시 노출되므로 새로 추가)
+        Long groomerId = savedReview.getGroomerId().getGroomerId();
+        if (wasDeleted) {
+            groomerRatingService.addReview(groomerId, savedReview.getStarRating());
+        } else {
+            groomerRatingService.changeStarRating(groomerId, beforeStarRating, savedReview.getStarRating());
+        }
+
         // 이미지 삭제 및 추가
         List<ReviewsImage> reviewsImageList = reviewsImageRepository.findReviewImagesByReviewId(reviewId);
         List<String> existingImageUrls = reviewsImageList.stream()
@@ -194,7 +213,10 @@ public class ReviewServiceImpl implements ReviewService {
         Reviews reviews = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> NotFoundException.entityNotFound("리뷰"));
 
-        reviews.delete();
+        if (!reviews.isDeleted()) {
+            reviews.delete();
+            groomerRatingService.removeReview(reviews.getGroomerId().getGroomerId(), reviews.getStarRating());
+        }
 
         return DeleteReviewResponseDto.builder()
                 .reviewId(reviews.getReviewId())
@@ -206,29 +228,40 @@ public class ReviewServiceImpl implements ReviewService {
     public List<GetCustomerReviewListResponseDto> getCustomerReviews(Long customerId) {
         List<Reviews> reviews = reviewRepository.findCustomerReviews(customerId);
 
+        List<Long> groomerIds = reviews.stream()
+                .map(review -> review.getGroomerId().getGroomerId())
+                .distinct()
+                .toList();
+
+        Map<Long, Shop> shops = groomerIds.isEmpty() ? Collections.emptyMap() :
+                shopRepository.findAllByGroomerIds(groomerIds).stream()
+                        .collect(Collectors.toMap(shop -> shop.getGroomerId().getGroomerId(), Function.identity(), (first, second) -> first));
+
+        Map<Long, GroomerRatingSummary> ratingSummaries = groomerRatingService.getSummaries(groomerIds);
+
+        Map<Long, List<String>> reviewImageUrls = reviewBatchLoader.loadImageUrls(reviews);
+
         return reviews.stream()
                 .map(review -> {
                     Groomer groomer = review.getGroomerId();
-                    Shop shop = shopRepository.findByGroomerId(groomer.getGroomerId())
-                            .orElseThrow(() -> new NotFoundException("매장을 찾을 수 없습니다: " + groomer.getGroomerId()));
-                    Double averageStarRating = shopRepository.getAverageStarRatingByGroomerId(groomer.getGroomerId());
+                    Shop shop = shops.get(groomer.getGroomerId());
+                    if (shop == null) {
+                        throw new NotFoundException("매장을 찾을 수 없습니다: " + groomer.getGroomerId());
+                    }
 
-                    List<String> reviewImages = reviewsImageRepository.findReviewImagesByReviewId(review.getReviewId())
-                            .stream()
-                            .map(ReviewsImage::getImageUrl)
-                            .collect(Collectors.toList());
+                    GroomerRatingSummary ratingSummary = ratingSummaries.get(groomer.getGroomerId());
 
                     return GetCustomerReviewListResponseDto.builder()
                             .reviewId(review.getReviewId())
                             .content(review.getContent())
                             .shopName(shop.getShopName())
                             .groomerName(groomer.getUserId().getNickname())
-                            .reviewCount(reviewRepository.countGroomerReviews(groomer.getGroomerId()))
-                            .starRating(BigDecimal.valueOf(averageStarRating))
+                            .reviewCount(ratingSummary.getReviewCount())
+                            .starRating(BigDecimal.valueOf(ratingSummary.getStarAverage()))
                             .reviewDate(review.getCreatedAt().toLocalDate())
                             .groomerId(groomer.getGroomerId())
                             .customerId(review.getCustomerId().getCustomerId())
-                            .reviewImages(reviewImages)
+                            .reviewImages(reviewImageUrls.get(review.getReviewId()))
                             .build();
                 })
                 .collect(Collectors.toList());
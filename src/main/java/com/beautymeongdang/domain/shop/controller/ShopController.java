@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 
@@ -103,6 +104,35 @@ public class ShopController {
         return ApiResponse.ok(200, response, "매장 목록 조회 성공");
     }
 
+    /**
+     * 미용사 찾기 매장 리스트 커서 조회
+     * 첫 페이지는 커서 없이, 다음 페이지는 이전 페이지 마지막 매장의 별점, 리뷰 수, 매장 ID로 조회
+     */
+    @GetMapping("/groomer/shop/list/cursor")
+    public ResponseEntity<ApiResponse<GetGroomerShopListResponseDto.ShopCursorListResponse>> getGroomerShopListByCursor(
+            @RequestParam Long customerId,
+            @RequestParam(required = false) BigDecimal lastStarScoreAvg,
+            @RequestParam(required = false) Integer lastReviewCount,
+            @RequestParam(required = false) Long lastShopId,
+            @RequestParam(required = false) Integer size) {
+        GetGroomerShopListResponseDto.ShopCursorListResponse response =
+                shopService.getShopListByCursor(customerId, lastStarScoreAvg, lastReviewCount, lastShopId, size);
+        return ApiResponse.ok(200, response, "매장 목록 조회 성공");
+    }
+
+    /**
+     * 내 주변 매장 조회
+     */
+    @GetMapping("/groomer/shop/nearby")
+    public ResponseEntity<ApiResponse<GetNearbyShopListResponseDto.NearbyShopListResponse>> getNearbyShops(
+            @RequestParam BigDecimal latitude,
+            @RequestParam BigDecimal longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        GetNearbyShopListResponseDto.NearbyShopListResponse response = shopService.getNearbyShops(latitude, longitude, radiusKm, limit);
+        return ApiResponse.ok(200, response, "내 주변 매장 조회 성공");
+    }
+
     // 매장 찜 등록
     @PostMapping("/groomer/shop/favorite")
     public ResponseEntity<?> createFavoriteShop(@RequestBody CreateFavoriteRequestDto requestDto) {
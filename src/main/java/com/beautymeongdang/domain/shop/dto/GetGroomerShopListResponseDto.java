@@ -15,6 +15,14 @@ public class GetGroomerShopListResponseDto {
         private List<ShopDto> shopLists;
     }
 
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class ShopCursorListResponse {
+        private List<ShopDto> shopLists;
+        private Boolean hasNext;
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
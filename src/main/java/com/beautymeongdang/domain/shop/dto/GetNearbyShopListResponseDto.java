@@ -0,0 +1,36 @@
+package com.beautymeongdang.domain.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class GetNearbyShopListResponseDto {
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class NearbyShopListResponse {
+        private List<NearbyShopDto> shopLists;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class NearbyShopDto {
+        private Long groomerId;
+        private Long shopId;
+        private String shopLogo;
+        private String shopName;
+        private Double starScoreAvg;
+        private Integer reviewCount;
+        private String address;
+        private String businessTime;
+        private String skills;
+        private BigDecimal latitude;
+        private BigDecimal longitude;
+        private Integer favoriteCount;
+        private Double distanceKm;
+    }
+}
@@ -5,6 +5,7 @@ import com.beautymeongdang.global.common.entity.DeletableBaseTimeEntity;
 import com.beautymeongdang.global.region.entity.Sigungu;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 
@@ -13,6 +14,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_shop_sigungu_star_score", columnList = "sigungu_id, star_score, review_count, shop_id"))
 public class Shop extends DeletableBaseTimeEntity {
 
     @Id
@@ -44,6 +46,16 @@ public class Shop extends DeletableBaseTimeEntity {
 
     private String imageUrl;
 
+    // 매장 리스트 정렬용 리뷰 집계 사본 (GroomerRatingSummary 갱신 시 함께 갱신, 엔티티 저장으로는 바뀌지 않음)
+    // 별점 평균은 소수 둘째 자리로 반올림한 고정 소수점 값이라 커서 비교가 정확히 일치한다.
+    @ColumnDefault("0")
+    @Column(nullable = false, precision = 3, scale = 2, insertable = false, updatable = false)
+    private BigDecimal starScore;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Integer reviewCount;
+
     // Shop 클래스
     public void updateShopInfo(Sigungu sigungu, String shopName, String description, String address,
                                BigDecimal latitude, BigDecimal longitude, String businessTime, String imageUrl) {
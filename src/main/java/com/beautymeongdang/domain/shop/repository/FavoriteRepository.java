@@ -34,4 +34,13 @@ public interface FavoriteRepository extends JpaRepository<Favorite, FavoriteId>
     @Query("SELECT f FROM Favorite f WHERE f.favoriteId.shopId = :shop")
     List<Favorite> findByFavoriteIdShopId(@Param("shop") Shop shop);
 
-}
\ No newline at end of file
+    // 매장 목록 찜 개수 일괄 조회 [shopId, count]
+    @Query("""
+    SELECT f.favoriteId.shopId.shopId, COUNT(f)
+    FROM Favorite f
+    WHERE f.favoriteId.shopId.shopId IN :shopIds
+    GROUP BY f.favoriteId.shopId.shopId
+    """)
+    List<Object[]> countFavoritesByShopIds(@Param("shopIds") List<Long> shopIds);
+
+}
@@ -1,11 +1,14 @@
 package com.beautymeongdang.domain.shop.repository;
 
 import com.beautymeongdang.domain.shop.entity.Shop;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,30 +19,18 @@ public interface ShopRepository extends JpaRepository<Shop, Long> {
     @Query("SELECT s FROM Shop s WHERE s.groomerId.groomerId = :groomerId AND s.isDeleted = false ")
     Optional<Shop> findByGroomerId(@Param("groomerId") Long groomerId);
 
-
-    // 미용사 평균 별점
-    @Query("SELECT COALESCE(AVG(r.starRating), 0) FROM Reviews r WHERE r.groomerId.groomerId = :groomerId AND r.isDeleted = false")
-    Double getAverageStarRatingByGroomerId(@Param("groomerId") Long groomerId);
+    // groomerId 목록으로 shop정보 일괄 조회
+    @Query("SELECT s FROM Shop s WHERE s.groomerId.groomerId IN :groomerIds AND s.isDeleted = false ")
+    List<Shop> findAllByGroomerIds(@Param("groomerIds") List<Long> groomerIds);
 
 
     // 우리동네 미용사 조회 (리뷰 많은 순, 리뷰가 같으면 별점 높은 순으로 2개만)
     @Query("""
     SELECT s FROM Shop s
-    JOIN s.groomerId g
+    JOIN FETCH s.groomerId g
     WHERE s.sigunguId = (SELECT c.sigunguId FROM Customer c WHERE c.customerId = :customerId)
     AND s.isDeleted = false
-    ORDER BY (
-        SELECT COUNT(r)
-        FROM Reviews r
-        WHERE r.groomerId = g
-        AND r.isDeleted = false
-    ) DESC,
-    (
-        SELECT AVG(r.starRating)
-        FROM Reviews r
-        WHERE r.groomerId = g
-        AND r.isDeleted = false
-    ) DESC
+    ORDER BY s.reviewCount DESC, s.starScore DESC
     LIMIT 2
     """)
     List<Shop> findShopsByCustomerSigunguOrderByReviewCountAndStarScore(@Param("customerId") Long customerId);
@@ -47,27 +38,86 @@ public interface ShopRepository extends JpaRepository<Shop, Long> {
 
     // 미용사 찾기 같은 시군구 매장 리스트 ( 별점 높은 순 )
     @Query("""
-    SELECT DISTINCT s, g,
-           COALESCE(AVG(r.starRating), 0) as avgRating,
-           COUNT(DISTINCT r) as reviewCount
+    SELECT s
     FROM Shop s
     INNER JOIN FETCH s.groomerId g
-    LEFT JOIN Reviews r ON r.groomerId = g AND r.isDeleted = false
-    WHERE s.sigunguId.sigunguId = (
-        SELECT c.sigunguId.sigunguId
-        FROM Customer c
-        WHERE c.customerId = :customerId
-    )
+    WHERE s.sigunguId.sigunguId = :sigunguId
     AND s.isDeleted = false
-    GROUP BY s, g
-    ORDER BY avgRating DESC, reviewCount DESC
+    ORDER BY s.starScore DESC, s.reviewCount DESC, s.shopId DESC
     """)
-    List<Object[]> findShopsByCustomerSigunguWithStats(@Param("customerId") Long customerId);
+    List<Shop> findShopsBySigunguOrderByRating(@Param("sigunguId") Long sigunguId);
+
+
+    // 미용사 찾기 같은 시군구 매장 리스트 커서 조회 - 첫 페이지 ( 별점, 리뷰 수, 매장 ID 내림차순, idx_shop_sigungu_rating )
+    @Query("""
+    SELECT s
+    FROM Shop s
+    INNER JOIN FETCH s.groomerId g
+    WHERE s.sigunguId.sigunguId = :sigunguId
+    AND s.isDeleted = false
+    ORDER BY s.starScore DESC, s.reviewCount DESC, s.shopId DESC
+    """)
+    List<Shop> findShopsBySigunguFirstPage(@Param("sigunguId") Long sigunguId, Limit limit);
+
+
+    // 미용사 찾기 같은 시군구 매장 리스트 커서 조회 - 다음 페이지 (마지막 매장 이후)
+    @Query("""
+    SELECT s
+    FROM Shop s
+    INNER JOIN FETCH s.groomerId g
+    WHERE s.sigunguId.sigunguId = :sigunguId
+    AND s.isDeleted = false
+    AND (
+        s.starScore < :lastStarScore
+        OR (s.starScore = :lastStarScore AND s.reviewCount < :lastReviewCount)
+        OR (s.starScore = :lastStarScore AND s.reviewCount = :lastReviewCount AND s.shopId < :lastShopId)
+    )
+    ORDER BY s.starScore DESC, s.reviewCount DESC, s.shopId DESC
+    """)
+    List<Shop> findShopsBySigunguAfterCursor(@Param("sigunguId") Long sigunguId,
+                                             @Param("lastStarScore") BigDecimal lastStarScore,
+                                             @Param("lastReviewCount") Integer lastReviewCount,
+                                             @Param("lastShopId") Long lastShopId,
+                                             Limit limit);
+
+    // 미용사 리뷰 집계가 바뀌면 매장 정렬 컬럼 갱신
+    @Modifying
+    @Query(value = "UPDATE shop SET star_score = :starScore, review_count = :reviewCount WHERE groomer_id = :groomerId",
+            nativeQuery = true)
+    int updateRating(@Param("groomerId") Long groomerId,
+                     @Param("starScore") BigDecimal starScore,
+                     @Param("reviewCount") Integer reviewCount);
+
+    // 리뷰 집계와 어긋난 매장 정렬 컬럼 일괄 보정 (컬럼 추가 직후 채우기)
+    // 별점 평균은 GroomerRatingSummary.getStarScore()와 같은 값이 되도록 정수 나눗셈으로 반올림
+    @Modifying
+    @Query(value = """
+    UPDATE shop s
+    JOIN (
+        SELECT groomer_id,
+               review_count,
+               CASE WHEN review_count = 0 THEN 0
+                    ELSE ((star_sum * 200 + review_count) DIV (2 * review_count)) / 100 END AS star_score
+        FROM groomer_rating_summary
+    ) rs ON rs.groomer_id = s.groomer_id
+    SET s.star_score = rs.star_score,
+        s.review_count = rs.review_count
+    WHERE s.star_score <> rs.star_score OR s.review_count <> rs.review_count
+    """, nativeQuery = true)
+    int syncRatingsFromSummaries();
+
+
+    // 매장 ID 목록으로 매장, 미용사 일괄 조회
+    @Query("SELECT s FROM Shop s JOIN FETCH s.groomerId g WHERE s.shopId IN :shopIds AND s.isDeleted = false")
+    List<Shop> findAllByShopIdsWithGroomer(@Param("shopIds") List<Long> shopIds);
 
+    // 삭제되지 않은 전체 매장 위치 (매장 위치 인덱스 재구성) [shopId, latitude, longitude]
+    @Query("SELECT s.shopId, s.latitude, s.longitude FROM Shop s WHERE s.isDeleted = false")
+    List<Object[]> findAllShopLocations();
 
-    // 매장 찜 개수
-    @Query("SELECT COUNT(f) FROM Favorite f WHERE f.favoriteId.shopId = :shop")
-    Integer countFavoritesByShop(@Param("shop") Shop shop);
+    // 삭제되지 않은 전체 매장 ID (찜 카운터 보정 스케줄러)
+    @Query("SELECT s.shopId FROM Shop s WHERE s.isDeleted = false")
+    List<Long> findAllShopIds();
 
     // 미용사 프로필 삭제 스케줄러
     @Query("SELECT s FROM Shop s WHERE s.groomerId.groomerId = :groomerId AND s.isDeleted = true ")
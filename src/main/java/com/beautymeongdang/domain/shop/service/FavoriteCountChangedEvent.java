@@ -0,0 +1,18 @@
+package com.beautymeongdang.domain.shop.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class FavoriteCountChangedEvent extends ApplicationEvent {
+    private final Long shopId;
+    private final long delta;
+    private final boolean shopDeleted;
+
+    public FavoriteCountChangedEvent(Object source, Long shopId, long delta, boolean shopDeleted) {
+        super(source);
+        this.shopId = shopId;
+        this.delta = delta;
+        this.shopDeleted = shopDeleted;
+    }
+}
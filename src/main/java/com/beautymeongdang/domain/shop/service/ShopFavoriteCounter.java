@@ -0,0 +1,142 @@
+package com.beautymeongdang.domain.shop.service;
+
+import com.beautymeongdang.domain.shop.repository.FavoriteRepository;
+import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 매장 찜 개수 Redis 카운터
+ * 찜 등록/삭제 트랜잭션 커밋 후 증감하고, 목록 조회 시 MGET 한 번으로 읽는다.
+ * 키가 없으면 Favorite 테이블에서 채우며, 어긋난 값은 주기적으로 보정한다.
+ * 보정은 DB 집계 전에 읽어 둔 값이 그대로일 때만 덮어써(compare-and-set) 그 사이의 증감을 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopFavoriteCounter {
+    private static final String KEY_PREFIX = "shop:favorite-count:";
+
+    // 키가 있을 때만 증감 (없는 키는 조회 시 DB 값으로 채움)
+    private static final DefaultRedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "  if count < 0 then redis.call('SET', KEYS[1], 0) return 0 end " +
+            "  return count " +
+            "end " +
+            "return -1",
+            Long.class);
+
+    // 키별로 읽어 둔 값(없었으면 빈 문자열)과 같을 때만 보정값 저장 (ARGV: 기대값, 보정값 쌍)
+    private static final DefaultRedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>(
+            "local updated = 0 " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local current = redis.call('GET', key) " +
+            "  local expected = ARGV[2 * i - 1] " +
+            "  if (current == false and expected == '') or current == expected then " +
+            "    redis.call('SET', key, ARGV[2 * i]) " +
+            "    updated = updated + 1 " +
+            "  end " +
+            "end " +
+            "return updated",
+            Long.class);
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FavoriteRepository favoriteRepository;
+    private final ShopRepository shopRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFavoriteCountChangedEvent(FavoriteCountChangedEvent event) {
+        String key = key(event.getShopId());
+
+        if (event.isShopDeleted()) {
+            stringRedisTemplate.delete(key);
+            return;
+        }
+
+        stringRedisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key), String.valueOf(event.getDelta()));
+    }
+
+    // 매장 찜 개수
+    public Integer getCount(Long shopId) {
+        return getCounts(List.of(shopId)).get(shopId);
+    }
+
+    // 매장 목록 찜 개수 일괄 조회
+    public Map<Long, Integer> getCounts(List<Long> shopIds) {
+        if (shopIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> distinctShopIds = shopIds.stream().distinct().toList();
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(
+                distinctShopIds.stream().map(ShopFavoriteCounter::key).toList());
+
+        Map<Long, Integer> counts = new HashMap<>();
+        List<Long> missingShopIds = new ArrayList<>();
+        for (int i = 0; i < distinctShopIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value != null) {
+                counts.put(distinctShopIds.get(i), Integer.parseInt(value));
+            } else {
+                missingShopIds.add(distinctShopIds.get(i));
+            }
+        }
+
+        if (!missingShopIds.isEmpty()) {
+            Map<Long, Integer> loaded = loadFromDatabase(missingShopIds);
+            loaded.forEach((shopId, count) ->
+                    stringRedisTemplate.opsForValue().setIfAbsent(key(shopId), String.valueOf(count)));
+            counts.putAll(loaded);
+        }
+
+        return counts;
+    }
+
+    // Favorite 테이블 기준으로 전체 카운터 보정 (집계 중 값이 바뀐 키는 다음 보정으로 미룸)
+    public void reconcile() {
+        List<Long> shopIds = shopRepository.findAllShopIds();
+        long updated = 0;
+        for (int from = 0; from < shopIds.size(); from += RECONCILE_BATCH_SIZE) {
+            updated += reconcile(shopIds.subList(from, Math.min(shopIds.size(), from + RECONCILE_BATCH_SIZE)));
+        }
+        log.info("매장 찜 카운터 보정 완료: {}/{}건", updated, shopIds.size());
+    }
+
+    private long reconcile(List<Long> shopIds) {
+        List<String> keys = shopIds.stream().map(ShopFavoriteCounter::key).toList();
+        List<String> snapshot = stringRedisTemplate.opsForValue().multiGet(keys);
+        Map<Long, Integer> counts = loadFromDatabase(shopIds);
+
+        String[] args = new String[shopIds.size() * 2];
+        for (int i = 0; i < shopIds.size(); i++) {
+            String expected = snapshot != null ? snapshot.get(i) : null;
+            args[2 * i] = expected != null ? expected : "";
+            args[2 * i + 1] = String.valueOf(counts.get(shopIds.get(i)));
+        }
+
+        Long updated = stringRedisTemplate.execute(SET_IF_UNCHANGED, keys, (Object[]) args);
+        return updated != null ? updated : 0;
+    }
+
+    private Map<Long, Integer> loadFromDatabase(List<Long> shopIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        favoriteRepository.countFavoritesByShopIds(shopIds).forEach(row ->
+                counts.put((Long) row[0], ((Long) row[1]).intValue()));
+        shopIds.forEach(shopId -> counts.putIfAbsent(shopId, 0));
+        return counts;
+    }
+
+    private static String key(Long shopId) {
+        return KEY_PREFIX + shopId;
+    }
+}
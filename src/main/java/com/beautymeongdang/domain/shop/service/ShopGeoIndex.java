@@ -0,0 +1,89 @@
+package com.beautymeongdang.domain.shop.service;
+
+import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 매장 위치 인덱스 (Redis GEO)
+ * 매장 등록/수정/삭제 트랜잭션 커밋 후 갱신되며, 반경 내 매장을 가까운 순으로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopGeoIndex {
+    private static final String KEY = "shop:geo";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShopRepository shopRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleShopLocationChangedEvent(ShopLocationChangedEvent event) {
+        if (event.isShopDeleted()) {
+            stringRedisTemplate.opsForGeo().remove(KEY, String.valueOf(event.getShopId()));
+            return;
+        }
+
+        stringRedisTemplate.opsForGeo().add(KEY,
+                toPoint(event.getLatitude(), event.getLongitude()),
+                String.valueOf(event.getShopId()));
+    }
+
+    // 반경(km) 내 매장 ID와 거리(km), 가까운 순
+    public LinkedHashMap<Long, Double> search(BigDecimal latitude, BigDecimal longitude, double radiusKm, int limit) {
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = stringRedisTemplate.opsForGeo().search(KEY,
+                GeoReference.fromCoordinate(longitude.doubleValue(), latitude.doubleValue()),
+                new Distance(radiusKm, Metrics.KILOMETERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs()
+                        .includeDistance()
+                        .sortAscending()
+                        .limit(limit));
+
+        LinkedHashMap<Long, Double> distances = new LinkedHashMap<>();
+        if (results == null) {
+            return distances;
+        }
+
+        results.forEach(result -> distances.put(
+                Long.valueOf(result.getContent().getName()),
+                result.getDistance().getValue()));
+        return distances;
+    }
+
+    // 삭제되지 않은 전체 매장으로 인덱스 재구성
+    public void rebuild() {
+        Map<String, Point> locations = new HashMap<>();
+        shopRepository.findAllShopLocations().forEach(row -> {
+            if (row[1] != null && row[2] != null) {
+                locations.put(String.valueOf(row[0]), toPoint((BigDecimal) row[1], (BigDecimal) row[2]));
+            }
+        });
+
+        stringRedisTemplate.delete(KEY);
+        if (!locations.isEmpty()) {
+            stringRedisTemplate.opsForGeo().add(KEY, locations);
+        }
+        log.info("매장 위치 인덱스 재구성 완료: {}건", locations.size());
+    }
+
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY));
+    }
+
+    private static Point toPoint(BigDecimal latitude, BigDecimal longitude) {
+        return new Point(longitude.doubleValue(), latitude.doubleValue());
+    }
+}
@@ -0,0 +1,30 @@
+package com.beautymeongdang.domain.shop.service;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.math.BigDecimal;
+
+@Getter
+public class ShopLocationChangedEvent extends ApplicationEvent {
+    private final Long shopId;
+    private final BigDecimal latitude;
+    private final BigDecimal longitude;
+    private final boolean shopDeleted;
+
+    public ShopLocationChangedEvent(Object source, Long shopId, BigDecimal latitude, BigDecimal longitude) {
+        super(source);
+        this.shopId = shopId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.shopDeleted = false;
+    }
+
+    public ShopLocationChangedEvent(Object source, Long shopId) {
+        super(source);
+        this.shopId = shopId;
+        this.latitude = null;
+        this.longitude = null;
+        this.shopDeleted = true;
+    }
+}
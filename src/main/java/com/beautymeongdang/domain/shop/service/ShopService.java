@@ -3,6 +3,7 @@ package com.beautymeongdang.domain.shop.service;
 import com.beautymeongdang.domain.shop.dto.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface ShopService {
@@ -28,6 +29,12 @@ public interface ShopService {
     // 미용사 찾기 매장 리스트 조회
     GetGroomerShopListResponseDto.ShopListResponse getShopList(Long customerId);
 
+    // 미용사 찾기 매장 리스트 커서 조회
+    GetGroomerShopListResponseDto.ShopCursorListResponse getShopListByCursor(Long customerId, BigDecimal lastStarScoreAvg, Integer lastReviewCount, Long lastShopId, Integer size);
+
+    // 내 주변 매장 조회
+    GetNearbyShopListResponseDto.NearbyShopListResponse getNearbyShops(BigDecimal latitude, BigDecimal longitude, Double radiusKm, Integer limit);
+
     // 매장 찜 삭제
     DeleteFavoriteResponseDto deleteFavorite(Long customerId, Long shopId);
 
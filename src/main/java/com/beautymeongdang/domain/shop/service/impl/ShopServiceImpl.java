@@ -1,10 +1,11 @@
 package com.beautymeongdang.domain.shop.service.impl;
 
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
 import com.beautymeongdang.domain.review.entity.Reviews;
-import com.beautymeongdang.domain.review.entity.ReviewsImage;
 import com.beautymeongdang.domain.review.repository.RecommendRepository;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
-import com.beautymeongdang.domain.review.repository.ReviewsImageRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
+import com.beautymeongdang.domain.review.service.ReviewBatchLoader;
 import com.beautymeongdang.domain.shop.dto.*;
 
 import static com.beautymeongdang.domain.shop.dto.GetGroomerShopListResponseDto.ShopDto;
@@ -14,6 +15,11 @@ import com.beautymeongdang.domain.shop.entity.FavoriteId;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.shop.repository.FavoriteRepository;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import com.beautymeongdang.domain.chat.service.ChatRoomNameChangedEvent;
+import com.beautymeongdang.domain.shop.service.FavoriteCountChangedEvent;
+import com.beautymeongdang.domain.shop.service.ShopFavoriteCounter;
+import com.beautymeongdang.domain.shop.service.ShopGeoIndex;
+import com.beautymeongdang.domain.shop.service.ShopLocationChangedEvent;
 import com.beautymeongdang.domain.shop.service.ShopService;
 import com.beautymeongdang.domain.user.entity.Customer;
 import com.beautymeongdang.domain.user.entity.Groomer;
@@ -27,14 +33,15 @@ import com.beautymeongdang.global.region.entity.Sigungu;
 import com.beautymeongdang.global.region.repository.SigunguRepository;
 import com.beautymeongdang.infra.s3.FileStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.math.RoundingMode;
+import java.util.*;
 import java.util.stream.Collectors;
 
 
@@ -42,8 +49,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ShopServiceImpl implements ShopService {
+    private static final int DEFAULT_SHOP_PAGE_SIZE = 20;
+    private static final int MAX_SHOP_PAGE_SIZE = 50;
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 3.0;
+    private static final double MAX_NEARBY_RADIUS_KM = 20.0;
+    private static final int DEFAULT_NEARBY_LIMIT = 20;
+    private static final int MAX_NEARBY_LIMIT = 50;
+    private static final int NEARBY_CANDIDATE_LIMIT = 200;
+    private static final double NEARBY_DISTANCE_WEIGHT = 0.6;
+    private static final double NEARBY_RATING_WEIGHT = 0.4;
+
     private final ReviewRepository reviewRepository;
-    private final ReviewsImageRepository reviewsImageRepository;
+    private final ReviewBatchLoader reviewBatchLoader;
+    private final GroomerRatingService groomerRatingService;
     private final GroomerRepository groomerRepository;
     private final GroomerPortfolioImageRepository groomerPortfolioImageRepository;
     private final ShopRepository shopRepository;
@@ -52,6 +70,9 @@ public class ShopServiceImpl implements ShopService {
     private final SigunguRepository sigunguRepository;
     private final FileStore fileStore;
     private final FavoriteRepository favoriteRepository;
+    private final ShopFavoriteCounter shopFavoriteCounter;
+    private final ShopGeoIndex shopGeoIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매장 등록
@@ -85,6 +106,7 @@ public class ShopServiceImpl implements ShopService {
                 .build();
 
         Shop savedShop = shopRepository.save(shop);
+        eventPublisher.publishEvent(new ShopLocationChangedEvent(this, savedShop.getShopId(), savedShop.getLatitude(), savedShop.getLongitude()));
 
         return CreateShopResponseDto.builder()
                 .shopId(savedShop.getShopId())
@@ -110,8 +132,8 @@ public class ShopServiceImpl implements ShopService {
         Shop shop = shopRepository.findByGroomerId(groomerId)
                 .orElseThrow(() -> NotFoundException.entityNotFound("등록된 매장"));
 
-        Integer favoriteCount = shopRepository.countFavoritesByShop(shop);
-        Integer reviewCount = reviewRepository.countGroomerReviews(groomerId);
+        Integer favoriteCount = shopFavoriteCounter.getCount(shop.getShopId());
+        Integer reviewCount = groomerRatingService.getSummary(groomerId).getReviewCount();
         List<String> portfolioImages = groomerPortfolioImageRepository.findImageUrlsByGroomerId(groomerId);
 
         return GetShopResponseDto.builder()
@@ -152,6 +174,7 @@ public class ShopServiceImpl implements ShopService {
                         requestDto.getSigunguName())
                 .orElseThrow(() -> NotFoundException.entityNotFound("시군구"));
 
+        String previousShopName = shop.getShopName();
         String logoUrl = shop.getImageUrl();
         if (shopLogo != null && !shopLogo.isEmpty()) {
             // 기존 이미지 삭제
@@ -174,6 +197,12 @@ public class ShopServiceImpl implements ShopService {
         );
 
         Shop updatedShop = shopRepository.save(shop);
+        eventPublisher.publishEvent(new ShopLocationChangedEvent(this, shopId, updatedShop.getLatitude(), updatedShop.getLongitude()));
+
+        // 매장명이 바뀌면 채팅방 검색 색인 갱신
+        if (!Objects.equals(previousShopName, updatedShop.getShopName())) {
+            eventPublisher.publishEvent(new ChatRoomNameChangedEvent(this, shop.getGroomerId().getUserId().getUserId()));
+        }
 
         return UpdateShopResponseDto.builder()
                 .shopId(updatedShop.getShopId())
@@ -200,37 +229,31 @@ public class ShopServiceImpl implements ShopService {
                 .orElseThrow(() -> NotFoundException.entityNotFound("매장"));
 
         Groomer groomer = shop.getGroomerId();
-        Double starScoreAvg = shopRepository.getAverageStarRatingByGroomerId(groomer.getGroomerId());
-        Integer starCount = reviewRepository.countGroomerReviews(groomer.getGroomerId());
+        GroomerRatingSummary ratingSummary = groomerRatingService.getSummary(groomer.getGroomerId());
 
         List<String> portfolioImages = groomerPortfolioImageRepository.findImageUrlsByGroomerId(groomer.getGroomerId());
 
 
-        List<Long> recommendedReviewIds = (customerId != null) ?
-                recommendRepository.findReviewIdsByCustomerId(customerId) :
-                Collections.emptyList();
+        Set<Long> recommendedReviewIds = (customerId != null) ?
+                new HashSet<>(recommendRepository.findReviewIdsByCustomerId(customerId)) :
+                Collections.emptySet();
+
+        List<Reviews> reviews = reviewRepository.findGroomerReviewsWithCustomer(groomer.getGroomerId());
+        Map<Long, Integer> recommendCounts = reviewBatchLoader.loadRecommendCounts(reviews);
+        Map<Long, List<String>> reviewImageUrls = reviewBatchLoader.loadImageUrls(reviews);
 
-        List<Reviews> reviews = reviewRepository.findGroomerReviews(groomer.getGroomerId());
         List<GetShopDetailResponseDto.ReviewDetailDto> reviewDtos = reviews.stream()
-                .map(review -> {
-                    Integer recommendCount = reviewRepository.countRecommendsByReviewId(review.getReviewId());
-                    List<ReviewsImage> reviewImages = reviewsImageRepository.findReviewImagesByReviewId(review.getReviewId());
-                    List<String> reviewImageUrls = reviewImages.stream()
-                            .map(ReviewsImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return GetShopDetailResponseDto.ReviewDetailDto.builder()
-                            .reviewId(review.getReviewId())
-                            .customerNickname(review.getCustomerId().getUserId().getNickname())
-                            .customerProfile(review.getCustomerId().getUserId().getProfileImage())
-                            .starScore(review.getStarRating().doubleValue())
-                            .content(review.getContent())
-                            .recommendCount(recommendCount)
-                            .reviewsImage(reviewImageUrls)
-                            .createdAt(review.getCreatedAt())
-                            .isRecommended(recommendedReviewIds.contains(review.getReviewId()))
-                            .build();
-                })
+                .map(review -> GetShopDetailResponseDto.ReviewDetailDto.builder()
+                        .reviewId(review.getReviewId())
+                        .customerNickname(review.getCustomerId().getUserId().getNickname())
+                        .customerProfile(review.getCustomerId().getUserId().getProfileImage())
+                        .starScore(review.getStarRating().doubleValue())
+                        .content(review.getContent())
+                        .recommendCount(recommendCounts.get(review.getReviewId()))
+                        .reviewsImage(reviewImageUrls.get(review.getReviewId()))
+                        .createdAt(review.getCreatedAt())
+                        .isRecommended(recommendedReviewIds.contains(review.getReviewId()))
+                        .build())
                 .collect(Collectors.toList());
 
         Boolean isFavorite = favoriteRepository.existsByShopIdAndCustomerId(shopId, customerId);
@@ -240,14 +263,14 @@ public class ShopServiceImpl implements ShopService {
                 .shopId(shop.getShopId())
                 .shopLogo(shop.getImageUrl())
                 .shopName(shop.getShopName())
-                .starScoreAvg(starScoreAvg)
-                .starCount(starCount)
+                .starScoreAvg(ratingSummary.getStarAverage())
+                .starCount(ratingSummary.getReviewCount())
                 .address(shop.getAddress())
                 .businessTime(shop.getBusinessTime())
                 .skills(groomer.getSkill())
                 .latitude(shop.getLatitude())
                 .longitude(shop.getLongitude())
-                .favoriteCount(shopRepository.countFavoritesByShop(shop))
+                .favoriteCount(shopFavoriteCounter.getCount(shop.getShopId()))
                 .isFavorite(isFavorite)
                 .description(shop.getDescription())
                 .groomerPortfolioImages(portfolioImages)
@@ -267,31 +290,25 @@ public class ShopServiceImpl implements ShopService {
                 .orElseThrow(() -> NotFoundException.entityNotFound("매장"));
 
         Groomer groomer = shop.getGroomerId();
-        Double starScoreAvg = shopRepository.getAverageStarRatingByGroomerId(groomer.getGroomerId());
-        Integer starCount = reviewRepository.countGroomerReviews(groomer.getGroomerId());
+        GroomerRatingSummary ratingSummary = groomerRatingService.getSummary(groomer.getGroomerId());
 
         List<String> portfolioImages = groomerPortfolioImageRepository.findImageUrlsByGroomerId(groomer.getGroomerId());
 
-        List<Reviews> reviews = reviewRepository.findGroomerReviews(groomer.getGroomerId());
+        List<Reviews> reviews = reviewRepository.findGroomerReviewsWithCustomer(groomer.getGroomerId());
+        Map<Long, Integer> recommendCounts = reviewBatchLoader.loadRecommendCounts(reviews);
+        Map<Long, List<String>> reviewImageUrls = reviewBatchLoader.loadImageUrls(reviews);
+
         List<GetMyGroomerShopDetailResponseDto.ReviewDetailDto> reviewDtos = reviews.stream()
-                .map(review -> {
-                    Integer recommendCount = reviewRepository.countRecommendsByReviewId(review.getReviewId());
-                    List<ReviewsImage> reviewImages = reviewsImageRepository.findReviewImagesByReviewId(review.getReviewId());
-                    List<String> reviewImageUrls = reviewImages.stream()
-                            .map(ReviewsImage::getImageUrl)
-                            .collect(Collectors.toList());
-
-                    return GetMyGroomerShopDetailResponseDto.ReviewDetailDto.builder()
-                            .reviewId(review.getReviewId())
-                            .customerNickname(review.getCustomerId().getUserId().getNickname())
-                            .customerProfile(review.getCustomerId().getUserId().getProfileImage())
-                            .starScore(review.getStarRating().doubleValue())
-                            .content(review.getContent())
-                            .recommendCount(recommendCount)
-                            .reviewsImage(reviewImageUrls)
-                            .createdAt(review.getCreatedAt())
-                            .build();
-                })
+                .map(review -> GetMyGroomerShopDetailResponseDto.ReviewDetailDto.builder()
+                        .reviewId(review.getReviewId())
+                        .customerNickname(review.getCustomerId().getUserId().getNickname())
+                        .customerProfile(review.getCustomerId().getUserId().getProfileImage())
+                        .starScore(review.getStarRating().doubleValue())
+                        .content(review.getContent())
+                        .recommendCount(recommendCounts.get(review.getReviewId()))
+                        .reviewsImage(reviewImageUrls.get(review.getReviewId()))
+                        .createdAt(review.getCreatedAt())
+                        .build())
                 .collect(Collectors.toList());
 
         return GetMyGroomerShopDetailResponseDto.builder()
@@ -299,14 +316,14 @@ public class ShopServiceImpl implements ShopService {
                 .shopId(shop.getShopId())
                 .shopLogo(shop.getImageUrl())
                 .shopName(shop.getShopName())
-                .starScoreAvg(starScoreAvg)
-                .starCount(starCount)
+                .starScoreAvg(ratingSummary.getStarAverage())
+                .starCount(ratingSummary.getReviewCount())
                 .address(shop.getAddress())
                 .businessTime(shop.getBusinessTime())
                 .skills(groomer.getSkill())
                 .latitude(shop.getLatitude())
                 .longitude(shop.getLongitude())
-                .favoriteCount(shopRepository.countFavoritesByShop(shop))
+                .favoriteCount(shopFavoriteCounter.getCount(shop.getShopId()))
                 .description(shop.getDescription())
                 .groomerPortfolioImages(portfolioImages)
                 .groomerUsername(groomer.getUserId().getNickname())
@@ -335,6 +352,8 @@ public class ShopServiceImpl implements ShopService {
         favoriteRepository.deleteAll(favorites);
 
         shopRepository.delete(shop);
+        eventPublisher.publishEvent(new FavoriteCountChangedEvent(this, shopId, 0, true));
+        eventPublisher.publishEvent(new ShopLocationChangedEvent(this, shopId));
 
         return DeleteShopResponseDto.builder()
                 .shopId(shopId)
@@ -347,33 +366,154 @@ public class ShopServiceImpl implements ShopService {
      */
     @Override
     public GetGroomerShopListResponseDto.ShopListResponse getShopList(Long customerId) {
-        List<Object[]> results = shopRepository.findShopsByCustomerSigunguWithStats(customerId);
+        List<Shop> shops = customerRepository.findSigunguIdByCustomerId(customerId)
+                .map(shopRepository::findShopsBySigunguOrderByRating)
+                .orElse(List.of());
+        List<ShopDto> shopDtos = toShopDtos(shops);
+
+        return GetGroomerShopListResponseDto.ShopListResponse.builder()
+                .shopLists(shopDtos)
+                .build();
+    }
+
+
+    /**
+     * 미용사 찾기 매장 리스트 커서 조회 (별점, 리뷰 수, 매장 ID 순)
+     */
+    @Override
+    public GetGroomerShopListResponseDto.ShopCursorListResponse getShopListByCursor(Long customerId, BigDecimal lastStarScoreAvg,
+                                                                                 Integer lastReviewCount, Long lastShopId, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_SHOP_PAGE_SIZE;
+        if (pageSize <= 0 || pageSize > MAX_SHOP_PAGE_SIZE) {
+            throw BadRequestException.invalidRequest("조회 개수");
+        }
+
+        if (lastShopId != null && (lastStarScoreAvg == null || lastReviewCount == null)) {
+            throw BadRequestException.invalidRequest("커서");
+        }
+
+        Long sigunguId = customerRepository.findSigunguIdByCustomerId(customerId).orElse(null);
+        if (sigunguId == null) {
+            return GetGroomerShopListResponseDto.ShopCursorListResponse.builder()
+                    .shopLists(Collections.emptyList())
+                    .hasNext(false)
+                    .build();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<Shop> results = lastShopId == null
+                ? shopRepository.findShopsBySigunguFirstPage(sigunguId, limit)
+                : shopRepository.findShopsBySigunguAfterCursor(sigunguId,
+                        lastStarScoreAvg.setScale(2, RoundingMode.HALF_UP), lastReviewCount, lastShopId, limit);
+
+        boolean hasNext = results.size() > pageSize;
+        List<ShopDto> shopDtos = toShopDtos(hasNext ? results.subList(0, pageSize) : results);
+
+        return GetGroomerShopListResponseDto.ShopCursorListResponse.builder()
+                .shopLists(shopDtos)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        List<ShopDto> shopDtos = results.stream()
-                .map(result -> {
-                    Shop shop = (Shop) result[0];
-                    Groomer groomer = (Groomer) result[1];
-                    Double avgRating = ((Double) result[2]);
-                    Long reviewCount = ((Long) result[3]);
+    // 매장(미용사 fetch) 조회 결과를 매장 리스트 DTO로 변환 (별점/리뷰 수는 매장 정렬 컬럼)
+    private List<ShopDto> toShopDtos(List<Shop> shops) {
+        Map<Long, Integer> favoriteCounts = shopFavoriteCounter.getCounts(shops.stream()
+                .map(Shop::getShopId)
+                .toList());
+
+        return shops.stream()
+                .map(shop -> {
+                    Groomer groomer = shop.getGroomerId();
 
                     return ShopDto.builder()
                             .groomerId(groomer.getGroomerId())
                             .shopId(shop.getShopId())
                             .shopLogo(shop.getImageUrl())
                             .shopName(shop.getShopName())
-                            .starScoreAvg(avgRating)
-                            .reviewCount(reviewCount.intValue())
+                            .starScoreAvg(shop.getStarScore().doubleValue())
+                            .reviewCount(shop.getReviewCount())
                             .address(shop.getAddress())
                             .businessTime(shop.getBusinessTime())
                             .skills(groomer.getSkill())
                             .latitude(shop.getLatitude())
                             .longitude(shop.getLongitude())
-                            .favoriteCount(shopRepository.countFavoritesByShop(shop))
+                            .favoriteCount(favoriteCounts.get(shop.getShopId()))
                             .build();
                 })
                 .collect(Collectors.toList());
+    }
 
-        return GetGroomerShopListResponseDto.ShopListResponse.builder()
+
+    /**
+     * 내 주변 매장 조회 (거리 + 별점 순)
+     */
+    @Override
+    public GetNearbyShopListResponseDto.NearbyShopListResponse getNearbyShops(BigDecimal latitude, BigDecimal longitude, Double radiusKm, Integer limit) {
+        validateKoreanLocation(latitude, longitude);
+
+        double radius = radiusKm != null ? radiusKm : DEFAULT_NEARBY_RADIUS_KM;
+        if (radius <= 0 || radius > MAX_NEARBY_RADIUS_KM) {
+            throw BadRequestException.invalidRequest("검색 반경");
+        }
+        int size = limit != null ? limit : DEFAULT_NEARBY_LIMIT;
+        if (size <= 0 || size > MAX_NEARBY_LIMIT) {
+            throw BadRequestException.invalidRequest("조회 개수");
+        }
+
+        // 반경 내 가까운 순 후보
+        Map<Long, Double> distances = shopGeoIndex.search(latitude, longitude, radius, NEARBY_CANDIDATE_LIMIT);
+        if (distances.isEmpty()) {
+            return GetNearbyShopListResponseDto.NearbyShopListResponse.builder()
+                    .shopLists(Collections.emptyList())
+                    .build();
+        }
+
+        List<Shop> shops = shopRepository.findAllByShopIdsWithGroomer(new ArrayList<>(distances.keySet()));
+        Map<Long, GroomerRatingSummary> ratingSummaries = groomerRatingService.getSummaries(shops.stream()
+                .map(shop -> shop.getGroomerId().getGroomerId())
+                .toList());
+
+        // 가까울수록, 별점이 높을수록 앞쪽
+        List<Shop> rankedShops = shops.stream()
+                .sorted(Comparator.comparingDouble((Shop shop) -> {
+                            double distanceScore = 1 - (distances.get(shop.getShopId()) / radius);
+                            double ratingScore = ratingSummaries.get(shop.getGroomerId().getGroomerId()).getStarAverage() / 5.0;
+                            return NEARBY_DISTANCE_WEIGHT * distanceScore + NEARBY_RATING_WEIGHT * ratingScore;
+                        })
+                        .reversed()
+                        .thenComparing(Shop::getShopId))
+                .limit(size)
+                .toList();
+
+        Map<Long, Integer> favoriteCounts = shopFavoriteCounter.getCounts(rankedShops.stream()
+                .map(Shop::getShopId)
+                .toList());
+
+        List<GetNearbyShopListResponseDto.NearbyShopDto> shopDtos = rankedShops.stream()
+                .map(shop -> {
+                    Groomer groomer = shop.getGroomerId();
+                    GroomerRatingSummary ratingSummary = ratingSummaries.get(groomer.getGroomerId());
+
+                    return GetNearbyShopListResponseDto.NearbyShopDto.builder()
+                            .groomerId(groomer.getGroomerId())
+                            .shopId(shop.getShopId())
+                            .shopLogo(shop.getImageUrl())
+                            .shopName(shop.getShopName())
+                            .starScoreAvg(ratingSummary.getStarAverage())
+                            .reviewCount(ratingSummary.getReviewCount())
+                            .address(shop.getAddress())
+                            .businessTime(shop.getBusinessTime())
+                            .skills(groomer.getSkill())
+                            .latitude(shop.getLatitude())
+                            .longitude(shop.getLongitude())
+                            .favoriteCount(favoriteCounts.get(shop.getShopId()))
+                            .distanceKm(distances.get(shop.getShopId()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return GetNearbyShopListResponseDto.NearbyShopListResponse.builder()
                 .shopLists(shopDtos)
                 .build();
     }
@@ -397,6 +537,7 @@ public class ShopServiceImpl implements ShopService {
                 .orElseThrow(() -> NotFoundException.entityNotFound("찜"));
 
         favoriteRepository.delete(favorite);
+        eventPublisher.publishEvent(new FavoriteCountChangedEvent(this, shopId, -1, false));
 
         return DeleteFavoriteResponseDto.builder()
                 .shopId(shopId)
@@ -427,6 +568,7 @@ public class ShopServiceImpl implements ShopService {
                 .build();
 
         Favorite savedFavorite = favoriteRepository.save(favorite);
+        eventPublisher.publishEvent(new FavoriteCountChangedEvent(this, shop.getShopId(), 1, false));
 
         return CreateFavoriteResponseDto.builder()
                 .shopId(savedFavorite.getFavoriteId().getShopId().getShopId())
@@ -438,19 +580,23 @@ public class ShopServiceImpl implements ShopService {
         // Favorite 조회
         List<Favorite> favorites = favoriteRepository.findByFavoriteIdCustomerId(customerId);
 
+        // 별점 평균 및 리뷰 개수
+        List<Long> groomerIds = favorites.stream()
+                .map(favorite -> favorite.getFavoriteId().getShopId().getGroomerId().getGroomerId())
+                .toList();
+        Map<Long, GroomerRatingSummary> ratingSummaries = groomerRatingService.getSummaries(groomerIds);
+
+        // 매장 찜 개수
+        Map<Long, Integer> favoriteCounts = shopFavoriteCounter.getCounts(favorites.stream()
+                .map(favorite -> favorite.getFavoriteId().getShopId().getShopId())
+                .toList());
+
         return favorites.stream()
                 .map(favorite -> {
                     Shop shop = favorite.getFavoriteId().getShopId(); // Shop 확인
                     Groomer groomer = shop.getGroomerId(); // Groomer 확인
-
-                    // 별점 평균 및 리뷰 개수 계산
-                    Double starScoreAvg = Optional.ofNullable(reviewRepository.getAverageStarRatingByGroomerId(groomer.getGroomerId()))
-                            .orElse(0.0);
-                    // 리뷰 개수
-                    Integer reviewCount = Optional.ofNullable(reviewRepository.countGroomerReviews(groomer.getGroomerId()))
-                            .orElse(0);
-                    // 매장 찜 개수
-                    Integer favoriteCount = shopRepository.countFavoritesByShop(shop);
+                    GroomerRatingSummary ratingSummary = ratingSummaries.get(groomer.getGroomerId());
+                    Integer favoriteCount = favoriteCounts.get(shop.getShopId());
 
                     return GetFavoriteShopListResponseDto.builder()
                             .groomerId(groomer.getGroomerId())
@@ -460,9 +606,9 @@ public class ShopServiceImpl implements ShopService {
                             .address(shop.getAddress())
                             .businessTime(shop.getBusinessTime())
                             .skill(groomer.getSkill())
-                            .starScoreAvg(starScoreAvg)
+                            .starScoreAvg(ratingSummary.getStarAverage())
                             .favoriteCount(favoriteCount)
-                            .reviewCount(reviewCount)
+                            .reviewCount(ratingSummary.getReviewCount())
                             .build();
                 })
                 .collect(Collectors.toList());
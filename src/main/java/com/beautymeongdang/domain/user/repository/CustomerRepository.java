@@ -55,6 +55,10 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     @Query("SELECT c.customerId FROM Customer c WHERE c.userId = :user AND c.isDeleted = false")
     Optional<Long> findCustomerIdByUserId(@Param("user") User user);
 
+    // 고객 시군구 ID (미용사 찾기 매장 리스트)
+    @Query("SELECT c.sigunguId.sigunguId FROM Customer c WHERE c.customerId = :customerId")
+    Optional<Long> findSigunguIdByCustomerId(@Param("customerId") Long customerId);
+
     // 고객 프로필 물리적 삭제
     @Query("""
     SELECT c
@@ -2,6 +2,8 @@ package com.beautymeongdang.domain.user.service.impl;
 
 import com.beautymeongdang.domain.chat.entity.Chat;
 import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.chat.service.ChatDeletedEvent;
+import com.beautymeongdang.domain.chat.service.ChatRoomCacheEvictEvent;
 import com.beautymeongdang.domain.dog.entity.Dog;
 import com.beautymeongdang.domain.dog.repository.DogRepository;
 import com.beautymeongdang.domain.payment.entity.Payment;
@@ -12,8 +14,9 @@ import com.beautymeongdang.domain.quote.entity.SelectedQuote;
 import com.beautymeongdang.domain.quote.repository.QuoteRepository;
 import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
-import com.beautymeongdang.domain.review.entity.Reviews;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeedEvent;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
 import com.beautymeongdang.domain.user.dto.CustomerProfileResponseDto;
 import com.beautymeongdang.domain.user.dto.GetCustomerAddressResponseDto;
 import com.beautymeongdang.domain.user.dto.UpdateCustomerProfileDto;
@@ -33,6 +36,7 @@ import com.beautymeongdang.infra.s3.FileStore;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -53,12 +57,14 @@ public class CustomerServiceImpl implements CustomerService {
     private final QuoteRepository quoteRepository;
     private final SelectedQuoteRepository selectedQuoteRepository;
     private final ReviewRepository reviewRepository;
+    private final GroomerRatingService groomerRatingService;
     private final PaymentRepository paymentRepository;
     private final ChatRepository chatRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final FileStore fileStore;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 고객 프로필 조회
     @Override
@@ -81,14 +87,24 @@ public class CustomerServiceImpl implements CustomerService {
 
         // 고객 관련 테이블 데이터 논리적 삭제
         dogRepository.findAllByCustomerId(customerId).forEach(Dog::delete); // 반려견 삭제
-        chatRepository.findAllByCustomerId(customerId).forEach(Chat::delete); // 채팅방 삭제
+        List<Chat> chats = chatRepository.findAllByCustomerId(customerId);
+        chats.forEach(Chat::delete); // 채팅방 삭제
+        List<Long> chatIds = chats.stream().map(Chat::getChatId).toList();
+        eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofChats(this, chatIds));
+        eventPublisher.publishEvent(new ChatDeletedEvent(this, chatIds));
         quoteRepository.findAllByCustomerDogs(customerId).forEach(Quote::delete); // 견적서 삭제
         selectedQuoteRepository.findAllByCustomerId(customerId).forEach(SelectedQuote::delete); // 선택된 견적서 삭제
-        reviewRepository.findAllByCustomerId(customerId).forEach(Reviews::delete); // 리뷰 삭제
+        reviewRepository.findAllByCustomerId(customerId).forEach(review -> { // 리뷰 삭제
+            review.delete();
+            groomerRatingService.removeReview(review.getGroomerId().getGroomerId(), review.getStarRating());
+        });
         paymentRepository.findAllBySelectedQuotes(
                 selectedQuoteRepository.findAllByCustomerId(customerId)
         ).forEach(Payment::delete); // 결제 삭제
-        quoteRequestRepository.findAllByCustomerDogs(customerId).forEach(QuoteRequest::delete); // 견적서 요청 삭제
+        List<QuoteRequest> quoteRequests = quoteRequestRepository.findAllByCustomerDogs(customerId);
+        quoteRequests.forEach(QuoteRequest::delete); // 견적서 요청 삭제
+        eventPublisher.publishEvent(new QuoteRequestFeedEvent(this,
+                quoteRequests.stream().map(QuoteRequest::getRequestId).toList()));
 
         // 고객 엔티티 논리적 삭제
         customer.delete();
@@ -148,6 +164,7 @@ public class CustomerServiceImpl implements CustomerService {
 
         // 변경된 회원 정보 저장
         userRepository.save(user);
+        eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofUser(this, user.getUserId()));
 
         // 응답 DTO 생성 및 반환
         return UpdateCustomerProfileDto.builder()
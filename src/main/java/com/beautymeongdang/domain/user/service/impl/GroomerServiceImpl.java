@@ -4,6 +4,9 @@ import com.beautymeongdang.domain.chat.entity.Chat;
 import com.beautymeongdang.domain.chat.entity.ChatMessage;
 import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
 import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.chat.service.ChatDeletedEvent;
+import com.beautymeongdang.domain.chat.service.ChatRoomCacheEvictEvent;
+import com.beautymeongdang.domain.chat.service.ChatRoomNameChangedEvent;
 import com.beautymeongdang.domain.payment.entity.Payment;
 import com.beautymeongdang.domain.payment.repository.PaymentRepository;
 import com.beautymeongdang.domain.quote.entity.Quote;
@@ -14,8 +17,10 @@ import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
 import com.beautymeongdang.domain.review.entity.Reviews;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import com.beautymeongdang.domain.shop.service.ShopLocationChangedEvent;
 import com.beautymeongdang.domain.user.dto.DeleteGroomerProfileResponseDto;
 import com.beautymeongdang.domain.user.dto.UpdateGroomerPortfolioDto;
 import com.beautymeongdang.domain.user.dto.GetGroomerProfileResponseDto;
@@ -35,12 +40,14 @@ import com.beautymeongdang.global.exception.handler.NotFoundException;
 import com.beautymeongdang.infra.s3.FileStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -63,8 +70,10 @@ public class GroomerServiceImpl implements GroomerService {
     private final PaymentRepository paymentRepository;
     private final QuoteRequestRepository quoteRequestRepository;
     private final ReviewRepository reviewRepository;
+    private final GroomerRatingService groomerRatingService;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 미용사 정보 조회
     @Override
@@ -158,6 +167,7 @@ public class GroomerServiceImpl implements GroomerService {
         Optional<Shop> shop = shopRepository.findByGroomerId(groomerId);
         if (shop.isPresent()) {
             shop.get().delete();
+            eventPublisher.publishEvent(new ShopLocationChangedEvent(this, shop.get().getShopId()));
         }
 
         // 채팅방, 채팅 메시지
@@ -167,6 +177,9 @@ public class GroomerServiceImpl implements GroomerService {
             chatMessages.forEach(DeletableBaseTimeEntity::delete);
             chat.delete();
         });
+        List<Long> chatIds = chats.stream().map(Chat::getChatId).toList();
+        eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofChats(this, chatIds));
+        eventPublisher.publishEvent(new ChatDeletedEvent(this, chatIds));
 
         // 견적 시스템
         List<Quote> quotes = quoteRepository.findAllByGroomerId(groomer);
@@ -195,6 +208,7 @@ public class GroomerServiceImpl implements GroomerService {
         // 리뷰
         List<Reviews> reviews = reviewRepository.findAllByGroomerId(groomer);
         reviews.forEach(DeletableBaseTimeEntity::delete);
+        groomerRatingService.recalculate(List.of(groomer.getGroomerId()));
 
         return new DeleteGroomerProfileResponseDto(groomer.getGroomerId());
     }
@@ -239,6 +253,9 @@ public class GroomerServiceImpl implements GroomerService {
 
         }
 
+        // 저장 시 같은 엔티티에 병합되므로 이전 닉네임을 먼저 보관
+        String previousNickname = user.getNickname();
+
         User updateUser = User.builder()
                 .userId(user.getUserId())
                 .roles(user.getRoles())
@@ -253,6 +270,11 @@ public class GroomerServiceImpl implements GroomerService {
                 .build();
 
         User saveUser = userRepository.save(updateUser);
+        eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofUser(this, saveUser.getUserId()));
+        // 닉네임이 바뀌면 채팅방 검색 색인 갱신
+        if (!Objects.equals(previousNickname, saveUser.getNickname())) {
+            eventPublisher.publishEvent(new ChatRoomNameChangedEvent(this, saveUser.getUserId()));
+        }
 
         return UpdateGroomerProfileDto.builder()
                 .groomerId(saveGroomer.getGroomerId())
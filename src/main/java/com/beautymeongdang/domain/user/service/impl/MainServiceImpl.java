@@ -2,12 +2,16 @@ package com.beautymeongdang.domain.user.service.impl;
 
 import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeed;
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
 import com.beautymeongdang.domain.review.entity.Reviews;
 import com.beautymeongdang.domain.review.repository.ReviewsImageRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
 import com.beautymeongdang.domain.shop.entity.Shop;
 import com.beautymeongdang.domain.user.dto.GetMainCustomerResponseDto.*;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
 import com.beautymeongdang.domain.shop.repository.ShopRepository;
+import com.beautymeongdang.domain.shop.service.ShopFavoriteCounter;
 import com.beautymeongdang.domain.user.dto.GetMainGroomerResponseDto;
 import com.beautymeongdang.domain.user.dto.GetMainGroomerTotalRequestResponseDto;
 import com.beautymeongdang.domain.user.service.MainService;
@@ -18,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,8 +32,13 @@ public class MainServiceImpl implements MainService {
     private final ShopRepository shopRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewsImageRepository reviewsImageRepository;
+    private final GroomerRatingService groomerRatingService;
+    private final ShopFavoriteCounter shopFavoriteCounter;
     private final SelectedQuoteRepository selectedQuoteRepository;
     private final QuoteRequestRepository quoteRequestRepository;
+    private final QuoteRequestFeed quoteRequestFeed;
+
+    private static final int MAIN_TOTAL_REQUEST_SIZE = 3;
 
 
     /**
@@ -64,20 +74,26 @@ public class MainServiceImpl implements MainService {
 
         // 우리동네 디자이너
         List<Shop> localGroomers = shopRepository.findShopsByCustomerSigunguOrderByReviewCountAndStarScore(customerId);
+        Map<Long, GroomerRatingSummary> ratingSummaries = groomerRatingService.getSummaries(localGroomers.stream()
+                .map(shop -> shop.getGroomerId().getGroomerId())
+                .toList());
+        Map<Long, Integer> favoriteCounts = shopFavoriteCounter.getCounts(localGroomers.stream()
+                .map(Shop::getShopId)
+                .toList());
+
         List<LocalGroomerDto> localGroomerDtos = localGroomers.stream()
                 .map(shop -> {
                     Long groomerId = shop.getGroomerId().getGroomerId();
-                    Integer reviewCount = reviewRepository.countGroomerReviews(groomerId);
-                    Double starScoreAvg = shopRepository.getAverageStarRatingByGroomerId(groomerId);
-                    Integer favoriteCount = shopRepository.countFavoritesByShop(shop);
+                    GroomerRatingSummary ratingSummary = ratingSummaries.get(groomerId);
+                    Integer favoriteCount = favoriteCounts.get(shop.getShopId());
 
                     return LocalGroomerDto.builder()
                             .groomerId(groomerId)
                             .shopId(shop.getShopId())
                             .shopLogo(shop.getImageUrl())
                             .shopName(shop.getShopName())
-                            .starScoreAvg(starScoreAvg != null ? starScoreAvg : 0.0)
-                            .reviewCount(reviewCount)
+                            .starScoreAvg(ratingSummary.getStarAverage())
+                            .reviewCount(ratingSummary.getReviewCount())
                             .favoriteCount(favoriteCount)
                             .address(shop.getAddress())
                             .businessTime(shop.getBusinessTime())
@@ -111,8 +127,20 @@ public class MainServiceImpl implements MainService {
         Shop shop = shopRepository.findByGroomerId(groomerId)
                 .orElseThrow(() -> NotFoundException.entityNotFound("미용실"));
 
-        List<GetMainGroomerTotalRequestResponseDto> totalRequest =
-                quoteRequestRepository.findTop3LatestRequestsBySigunguId(shop.getSigunguId().getSigunguId(), groomerId);
+        List<GetMainGroomerTotalRequestResponseDto> totalRequest = quoteRequestFeed
+                .getFirstPage(shop.getSigunguId().getSigunguId(), groomerId, MAIN_TOTAL_REQUEST_SIZE).stream()
+                .map(request -> GetMainGroomerTotalRequestResponseDto.builder()
+                        .requestId(request.getRequestId())
+                        .userName(request.getUserName())
+                        .profileImage(request.getUserProfileImage())
+                        .createdAt(request.getCreatedAt())
+                        .beautyDate(request.getBeautyDate())
+                        .commonName(request.getDogBreed())
+                        .dogGender(request.getDogGender())
+                        .dogWeight(request.getDogWeight())
+                        .content(request.getRequestContent())
+                        .build())
+                .toList();
 
         return GetMainGroomerResponseDto.builder()
                 .todayReservation(todayReservation)
@@ -3,6 +3,7 @@ package com.beautymeongdang.domain.user.service.impl;
 import com.beautymeongdang.domain.dog.repository.DogRepository;
 import com.beautymeongdang.domain.quote.repository.SelectedQuoteRepository;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
 import com.beautymeongdang.domain.user.dto.GetCustomerMypageResponseDto;
 import com.beautymeongdang.domain.user.dto.GetGroomerMypageResponseDto;
 import com.beautymeongdang.domain.user.entity.Customer;
@@ -31,6 +32,7 @@ public class MypageServiceImpl implements MypageService {
     private final UserRepository userRepository;
     private final SelectedQuoteRepository selectedQuoteRepository;
     private final ReviewRepository reviewRepository;
+    private final GroomerRatingService groomerRatingService;
     private final CustomerRepository customerRepository;
     private final DogRepository dogRepository;
 
@@ -50,7 +52,7 @@ public class MypageServiceImpl implements MypageService {
         Integer confirmedReservations = selectedQuoteRepository.countConfirmedReservations(groomerId);
 
         // 미용사 리뷰 건수
-        Integer myReviews = reviewRepository.countGroomerReviews(groomerId);
+        Integer myReviews = groomerRatingService.getSummary(groomerId).getReviewCount();
 
         GetGroomerMypageResponseDto.GroomerMypageCountsDto groomerMypageCountsDto = GetGroomerMypageResponseDto.GroomerMypageCountsDto.builder()
                 .completedServices(completedServices)
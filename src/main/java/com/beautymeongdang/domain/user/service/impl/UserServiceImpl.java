@@ -1,5 +1,6 @@
 package com.beautymeongdang.domain.user.service.impl;
 
+import com.beautymeongdang.domain.chat.service.ChatRoomCacheEvictEvent;
 import com.beautymeongdang.domain.user.dto.*;
 import com.beautymeongdang.domain.user.entity.*;
 import com.beautymeongdang.domain.user.repository.*;
@@ -15,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -36,6 +38,7 @@ public class UserServiceImpl implements UserService {
     private final GroomerRepository groomerRepository;
     private final SigunguRepository sigunguRepository;
     private final FileStore fileStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Map<String, Object> registerCustomer(CustomerRegisterRequestDTO requestDto, MultipartFile profileImage) {
@@ -73,6 +76,7 @@ public class UserServiceImpl implements UserService {
             }
             user.completeRegistration();
             userRepository.save(user);
+            eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofUser(this, user.getUserId()));
 
             Sigungu sigungu = sigunguRepository.findById(requestDto.getSigunguId())
                     .orElseThrow(() -> new EntityNotFoundException("Sigungu not found with id: " + requestDto.getSigunguId()));
@@ -135,6 +139,7 @@ public class UserServiceImpl implements UserService {
             }
             user.completeRegistration();
             userRepository.save(user);
+            eventPublisher.publishEvent(ChatRoomCacheEvictEvent.ofUser(this, user.getUserId()));
 
             Groomer groomer = Groomer.builder()
                     .userId(user)
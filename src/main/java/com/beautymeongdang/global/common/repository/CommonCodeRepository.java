@@ -23,4 +23,8 @@ public interface CommonCodeRepository extends JpaRepository<CommonCode, CommonCo
 
     // 반려견 견종 목록 조회
     List<CommonCode> findAllByGroupId(GroupCode groupId);
+
+    // 공통 코드 레지스트리 적재용 전체 조회 (그룹 코드 함께 로딩)
+    @Query("SELECT c FROM CommonCode c JOIN FETCH c.groupId")
+    List<CommonCode> findAllWithGroup();
 }
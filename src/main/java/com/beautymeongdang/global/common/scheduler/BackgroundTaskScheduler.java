@@ -0,0 +1,41 @@
+package com.beautymeongdang.global.common.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 서비스 동작에 필요한 주기 작업(알림 발송/정리, SSE·채팅 접속 갱신, 견적 마감, 찜 수 보정) 실행기
+ * scheduling.enabled(@Scheduled 정리 배치)와 관계없이 모든 서버에서 실행된다.
+ * 스케줄러를 빈으로 등록하면 @Async 기본 실행기를 대신하게 되므로 내부에서만 사용한다.
+ */
+@Component
+public class BackgroundTaskScheduler {
+    private static final int POOL_SIZE = 4;
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    public BackgroundTaskScheduler() {
+        scheduler.setPoolSize(POOL_SIZE);
+        scheduler.setThreadNamePrefix("background-task-");
+        scheduler.initialize();
+    }
+
+    // 이전 실행이 끝난 뒤 delay 후 다시 실행 (@Scheduled fixedDelay와 같음)
+    public void scheduleWithFixedDelay(Runnable task, Duration delay) {
+        scheduler.scheduleWithFixedDelay(task, delay);
+    }
+
+    // cron 표현식에 맞춰 실행
+    public void schedule(Runnable task, String cron) {
+        scheduler.schedule(task, new CronTrigger(cron));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
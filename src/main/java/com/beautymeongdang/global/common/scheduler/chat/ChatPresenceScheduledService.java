@@ -0,0 +1,34 @@
+package com.beautymeongdang.global.common.scheduler.chat;
+
+import com.beautymeongdang.domain.chat.service.ChatPresence;
+import com.beautymeongdang.global.common.scheduler.BackgroundTaskScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceScheduledService {
+    private final ChatPresence chatPresence;
+    private final BackgroundTaskScheduler backgroundTaskScheduler;
+
+    // scheduling.enabled와 관계없이 모든 서버에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerTasks() {
+        backgroundTaskScheduler.scheduleWithFixedDelay(this::refreshPresence, Duration.ofSeconds(10));
+    }
+
+    // 이 서버에 연결된 채팅방 구독의 접속 상태 갱신 (10초, TTL 30초)
+    public void refreshPresence() {
+        try {
+            chatPresence.heartbeat();
+        } catch (Exception e) {
+            log.error("채팅방 접속 상태 갱신 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
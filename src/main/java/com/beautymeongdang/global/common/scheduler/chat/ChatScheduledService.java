@@ -6,6 +6,7 @@ import com.beautymeongdang.domain.chat.entity.ChatMessageImage;
 import com.beautymeongdang.domain.chat.repository.ChatMessageImageRepository;
 import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
 import com.beautymeongdang.domain.chat.repository.ChatRepository;
+import com.beautymeongdang.domain.chat.service.ChatSearchIndex;
 import com.beautymeongdang.infra.s3.FileStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -23,6 +24,7 @@ public class ChatScheduledService {
     private final ChatMessageImageRepository chatMessageImageRepository;
     private final ChatRepository chatRepository;
     private final FileStore fileStore;
+    private final ChatSearchIndex chatSearchIndex;
 
 
     // 채팅 물리적 삭제 스케줄러
@@ -41,6 +43,7 @@ public class ChatScheduledService {
                 chatMessageRepository.delete(chatMessage);
             });
 
+            chatSearchIndex.removeChat(chat.getChatId());
             chatRepository.delete(chat);
         });
     }
@@ -0,0 +1,75 @@
+package com.beautymeongdang.global.common.scheduler.notification;
+
+import com.beautymeongdang.domain.notification.service.NotificationEventPublisher;
+import com.beautymeongdang.domain.notification.service.NotificationOutboxRelay;
+import com.beautymeongdang.domain.notification.service.NotificationStore;
+import com.beautymeongdang.global.common.scheduler.BackgroundTaskScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationScheduledService {
+    private static final int TRIM_BATCH_SIZE = 500;
+
+    private final NotificationStore notificationStore;
+    private final NotificationEventPublisher notificationEventPublisher;
+    private final NotificationOutboxRelay notificationOutboxRelay;
+    private final BackgroundTaskScheduler backgroundTaskScheduler;
+
+    // scheduling.enabled와 관계없이 모든 서버에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerTasks() {
+        backgroundTaskScheduler.schedule(this::trimExpiredNotifications, "0 */10 * * * *");
+        backgroundTaskScheduler.scheduleWithFixedDelay(this::sendSseHeartbeat, Duration.ofSeconds(15));
+        backgroundTaskScheduler.scheduleWithFixedDelay(this::refreshSseConnections, Duration.ofMinutes(5));
+        backgroundTaskScheduler.scheduleWithFixedDelay(this::relayNotificationOutbox, Duration.ofSeconds(5));
+    }
+
+    // 보관 기간(2주)이 지난 알림 정리 스케줄러 (10분마다)
+    public void trimExpiredNotifications() {
+        int trimmed = 0;
+        int batch;
+        do {
+            batch = notificationStore.trimExpired(TRIM_BATCH_SIZE);
+            trimmed += batch;
+        } while (batch == TRIM_BATCH_SIZE);
+
+        if (trimmed > 0) {
+            log.info("만료 알림 정리 완료 - 회원 수: {}", trimmed);
+        }
+    }
+
+    // SSE 하트비트 (15초, 끊어졌거나 유지 시간이 지난 연결 정리)
+    public void sendSseHeartbeat() {
+        try {
+            notificationEventPublisher.heartbeat();
+        } catch (Exception e) {
+            log.error("SSE 하트비트 전송 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    // 이 서버에 연결된 SSE 구독자의 연결 목록 갱신 (5분, TTL 10분)
+    public void refreshSseConnections() {
+        try {
+            notificationEventPublisher.refreshConnections();
+        } catch (Exception e) {
+            log.error("SSE 연결 목록 갱신 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    // 발송 대기 알림 재발송 (5초, 커밋 직후 발송에 실패했거나 누락된 알림)
+    public void relayNotificationOutbox() {
+        try {
+            notificationOutboxRelay.relay();
+        } catch (Exception e) {
+            log.error("발송 대기 알림 처리 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.beautymeongdang.global.common.scheduler.quote;
+
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineProcessor;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue;
+import com.beautymeongdang.global.common.scheduler.BackgroundTaskScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuoteDeadlineScheduledService {
+    private static final int BATCH_SIZE = 100;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    // 큐 처리와 겹치지 않도록 마감 후 이 시간이 지난 항목만 DB 기준으로 보정
+    private static final Duration SWEEP_GRACE = Duration.ofMinutes(10);
+
+    private final QuoteDeadlineQueue quoteDeadlineQueue;
+    private final QuoteDeadlineProcessor quoteDeadlineProcessor;
+    private final BackgroundTaskScheduler backgroundTaskScheduler;
+
+    // scheduling.enabled와 관계없이 모든 서버에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerTasks() {
+        backgroundTaskScheduler.scheduleWithFixedDelay(this::processDueDeadlines, Duration.ofSeconds(1));
+        backgroundTaskScheduler.schedule(this::sweepOverdueDeadlines, "0 20 * * * *");
+    }
+
+    // 마감 시각이 지난 견적 요청/견적서 상태 변경 (요청 마감, 1:1 미결제 마감, 견적서 마감)
+    public void processDueDeadlines() {
+        List<QuoteDeadlineQueue.Deadline> deadlines;
+        do {
+            deadlines = quoteDeadlineQueue.claimDue(BATCH_SIZE);
+            deadlines.forEach(deadline -> {
+                try {
+                    quoteDeadlineProcessor.process(deadline);
+                    quoteDeadlineQueue.complete(deadline);
+                } catch (Exception e) {
+                    log.error("마감 처리 실패, 재등록 - type: {}, targetId: {}, error: {}",
+                            deadline.type(), deadline.targetId(), e.getMessage(), e);
+                    quoteDeadlineQueue.retry(deadline, RETRY_DELAY);
+                }
+            });
+        } while (deadlines.size() == BATCH_SIZE);
+    }
+
+    // 큐에 등록되지 못했거나 유실된 마감 보정 (DB 기준, 매시간)
+    public void sweepOverdueDeadlines() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(SWEEP_GRACE);
+        int processed = 0;
+
+        for (QuoteDeadlineQueue.Type type : QuoteDeadlineQueue.Type.values()) {
+            Long afterId = 0L;
+            List<QuoteDeadlineQueue.Deadline> deadlines;
+            do {
+                deadlines = quoteDeadlineQueue.findOverdue(type, cutoff, afterId, BATCH_SIZE);
+                for (QuoteDeadlineQueue.Deadline deadline : deadlines) {
+                    try {
+                        quoteDeadlineProcessor.process(deadline);
+                        processed++;
+                    } catch (Exception e) {
+                        log.error("마감 보정 실패 - type: {}, targetId: {}, error: {}",
+                                deadline.type(), deadline.targetId(), e.getMessage(), e);
+                    }
+                    afterId = deadline.targetId();
+                }
+            } while (deadlines.size() == BATCH_SIZE);
+        }
+
+        if (processed > 0) {
+            log.info("마감 보정 완료: {}건", processed);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.beautymeongdang.domain.review.entity.ReviewsImage;
 import com.beautymeongdang.domain.review.repository.RecommendRepository;
 import com.beautymeongdang.domain.review.repository.ReviewRepository;
 import com.beautymeongdang.domain.review.repository.ReviewsImageRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
 import com.beautymeongdang.infra.s3.FileStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,6 +23,7 @@ public class ReviewScheduledService {
     private final ReviewRepository reviewRepository;
     private final ReviewsImageRepository reviewsImageRepository;
     private final RecommendRepository recommendRepository;
+    private final GroomerRatingService groomerRatingService;
     private final FileStore fileStore;
 
     // 리뷰 물리적 삭제 스케줄러
@@ -42,6 +44,12 @@ public class ReviewScheduledService {
             reviewRepository.delete(review);
         });
 
+        // 삭제된 리뷰의 미용사 집계 재계산 (누락된 갱신 보정)
+        List<Long> groomerIds = reviews.stream()
+                .map(review -> review.getGroomerId().getGroomerId())
+                .distinct()
+                .toList();
+        groomerRatingService.recalculate(groomerIds);
     }
 
 }
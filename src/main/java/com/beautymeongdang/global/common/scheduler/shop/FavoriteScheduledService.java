@@ -0,0 +1,26 @@
+package com.beautymeongdang.global.common.scheduler.shop;
+
+import com.beautymeongdang.domain.shop.service.ShopFavoriteCounter;
+import com.beautymeongdang.global.common.scheduler.BackgroundTaskScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class FavoriteScheduledService {
+    private final ShopFavoriteCounter shopFavoriteCounter;
+    private final BackgroundTaskScheduler backgroundTaskScheduler;
+
+    // scheduling.enabled와 관계없이 모든 서버에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerTasks() {
+        backgroundTaskScheduler.schedule(this::reconcileFavoriteCounts, "0 */10 * * * *");
+    }
+
+    // 매장 찜 카운터 보정 스케줄러 (10분마다, 묶음마다 최신 커밋 값을 읽도록 트랜잭션 없이 실행)
+    public void reconcileFavoriteCounts() {
+        shopFavoriteCounter.reconcile();
+    }
+}
@@ -0,0 +1,107 @@
+package com.beautymeongdang.global.common.service;
+
+import com.beautymeongdang.global.common.entity.CommonCode;
+import com.beautymeongdang.global.common.entity.CommonCodeId;
+import com.beautymeongdang.global.common.entity.GroupCode;
+import com.beautymeongdang.global.common.repository.CommonCodeRepository;
+import com.beautymeongdang.global.common.repository.GroupCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 공통 코드/그룹 코드를 메모리에 올려두고 조회하는 레지스트리
+ * 코드 테이블은 운영 중 거의 바뀌지 않으므로 요청마다 DB를 조회하지 않는다.
+ * 코드를 변경한 경우 refresh()로 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommonCodeRegistry {
+    private final CommonCodeRepository commonCodeRepository;
+    private final GroupCodeRepository groupCodeRepository;
+
+    private volatile Snapshot snapshot;
+
+    // CodeInitializer(CommandLineRunner) 실행 이후 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    // 코드 테이블 전체를 다시 읽어 교체
+    public synchronized void refresh() {
+        List<GroupCode> groupCodes = groupCodeRepository.findAll();
+        List<CommonCode> commonCodes = commonCodeRepository.findAllWithGroup();
+        this.snapshot = new Snapshot(groupCodes, commonCodes);
+        log.info("공통 코드 적재 완료 - 그룹: {}건, 코드: {}건", groupCodes.size(), commonCodes.size());
+    }
+
+    // (그룹, 코드)로 조회
+    public Optional<CommonCode> find(String groupId, String codeId) {
+        return Optional.ofNullable(current().byId.get(new CommonCodeId(codeId, groupId)));
+    }
+
+    // (그룹, 코드명)으로 조회
+    public Optional<CommonCode> findByName(String groupId, String commonName) {
+        Map<String, CommonCode> byName = current().byName.get(groupId);
+        return byName == null ? Optional.empty() : Optional.ofNullable(byName.get(commonName));
+    }
+
+    // 그룹에 속한 코드 목록 (코드 순)
+    public List<CommonCode> getCodes(String groupId) {
+        return current().byGroup.getOrDefault(groupId, List.of());
+    }
+
+    public Optional<GroupCode> findGroup(String groupId) {
+        return Optional.ofNullable(current().groups.get(groupId));
+    }
+
+    private Snapshot current() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            refresh();
+            current = this.snapshot;
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, GroupCode> groups;
+        private final Map<CommonCodeId, CommonCode> byId;
+        private final Map<String, Map<String, CommonCode>> byName;
+        private final Map<String, List<CommonCode>> byGroup;
+
+        private Snapshot(List<GroupCode> groupCodes, List<CommonCode> commonCodes) {
+            Map<String, GroupCode> groups = new HashMap<>();
+            groupCodes.forEach(groupCode -> groups.put(groupCode.getGroupId(), groupCode));
+
+            Map<CommonCodeId, CommonCode> byId = new HashMap<>();
+            Map<String, Map<String, CommonCode>> byName = new HashMap<>();
+            Map<String, List<CommonCode>> byGroup = new HashMap<>();
+            commonCodes.stream()
+                    .sorted(Comparator.comparing((CommonCode code) -> code.getId().getGroupId())
+                            .thenComparing(code -> code.getId().getCodeId()))
+                    .forEach(code -> {
+                        String groupId = code.getId().getGroupId();
+                        byId.put(code.getId(), code);
+                        byName.computeIfAbsent(groupId, key -> new HashMap<>()).putIfAbsent(code.getCommonName(), code);
+                        byGroup.computeIfAbsent(groupId, key -> new ArrayList<>()).add(code);
+                    });
+
+            Map<String, Map<String, CommonCode>> immutableByName = new HashMap<>();
+            byName.forEach((groupId, codes) -> immutableByName.put(groupId, Map.copyOf(codes)));
+            Map<String, List<CommonCode>> immutableByGroup = new HashMap<>();
+            byGroup.forEach((groupId, codes) -> immutableByGroup.put(groupId, List.copyOf(codes)));
+
+            this.groups = Map.copyOf(groups);
+            this.byId = Map.copyOf(byId);
+            this.byName = Map.copyOf(immutableByName);
+            this.byGroup = Map.copyOf(immutableByGroup);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.beautymeongdang.global.config;
+
+import com.beautymeongdang.domain.chat.service.ChatMessageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막 메시지 컬럼 추가 이전에 생성된 채팅방의 마지막 메시지 정보를 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatLastMessageInitializer implements CommandLineRunner {
+    private final ChatMessageService chatMessageService;
+
+    @Override
+    public void run(String... args) {
+        chatMessageService.fillMissingLastMessages();
+    }
+}
@@ -0,0 +1,22 @@
+package com.beautymeongdang.global.config;
+
+import com.beautymeongdang.domain.chat.service.ChatSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 검색 색인 도입 이전에 생성된 채팅방과 메시지를 색인한다. (색인이 비어 있을 때만)
+ * 한 글자 검색용 컬럼이 비어 있는 기존 토큰도 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndexInitializer implements CommandLineRunner {
+    private final ChatSearchIndex chatSearchIndex;
+
+    @Override
+    public void run(String... args) {
+        chatSearchIndex.buildIfEmpty();
+        chatSearchIndex.backfillCharacters();
+    }
+}
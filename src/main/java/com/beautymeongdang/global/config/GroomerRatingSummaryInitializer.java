@@ -0,0 +1,34 @@
+package com.beautymeongdang.global.config;
+
+import com.beautymeongdang.domain.review.repository.GroomerRatingSummaryRepository;
+import com.beautymeongdang.domain.review.repository.ReviewRepository;
+import com.beautymeongdang.domain.review.service.GroomerRatingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미용사 리뷰 집계 테이블이 비어 있으면 기존 리뷰로 최초 1회 채우고,
+ * 매장 리스트 정렬 컬럼(별점 평균, 리뷰 수)이 집계와 다르면 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroomerRatingSummaryInitializer implements CommandLineRunner {
+    private final GroomerRatingSummaryRepository groomerRatingSummaryRepository;
+    private final ReviewRepository reviewRepository;
+    private final GroomerRatingService groomerRatingService;
+
+    @Override
+    public void run(String... args) {
+        if (groomerRatingSummaryRepository.count() == 0) {
+            groomerRatingService.recalculate(reviewRepository.findReviewedGroomerIds());
+        }
+
+        int synced = groomerRatingService.syncShopRatings();
+        if (synced > 0) {
+            log.info("매장 별점 정렬 컬럼 보정 완료: {}건", synced);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.beautymeongdang.global.config;
+
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 견적 요청/견적서 중 마감 예약 큐에 없는 항목을 채운다.
+ * (등록 실패나 Redis 데이터 유실로 빠진 항목 복구, 이미 등록된 항목과 처리 중 항목은 그대로 둔다)
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteDeadlineInitializer implements CommandLineRunner {
+    private final QuoteDeadlineQueue quoteDeadlineQueue;
+
+    @Override
+    public void run(String... args) {
+        quoteDeadlineQueue.rebuild();
+    }
+}
@@ -1,6 +1,12 @@
 package com.beautymeongdang.global.config;
 
+import com.beautymeongdang.domain.chat.pubsub.ChatActivitySubscriber;
 import com.beautymeongdang.domain.chat.pubsub.RedisSubscriber;
+import com.beautymeongdang.domain.chat.service.ChatUnreadCounter;
+import com.beautymeongdang.domain.notification.pubsub.NotificationPushSubscriber;
+import com.beautymeongdang.domain.notification.service.NotificationEventPublisher;
+import com.beautymeongdang.domain.quote.pubsub.QuoteRequestFeedSubscriber;
+import com.beautymeongdang.domain.quote.service.QuoteRequestFeed;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -62,13 +68,7 @@ public class RedisConfig {
     }
 
 
-    // 채널 토픽 설정
-    @Bean
-    public ChannelTopic channelTopic() {
-        return new ChannelTopic("chatroom");
-    }
-
-    // 메시지 리스너 설정 (RedisSubscriber와 연결)
+    // 메시지 리스너 설정 (RedisSubscriber와 연결, 채팅방 채널은 ChatRoomSubscriptionManager가 구독)
     @Bean
     public MessageListenerAdapter listenerAdapter(RedisSubscriber redisSubscriber) {
         return new MessageListenerAdapter(redisSubscriber, "onMessage");
@@ -78,12 +78,18 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListener(
             RedisConnectionFactory connectionFactory,
-            MessageListenerAdapter listenerAdapter,
-            ChannelTopic channelTopic
+            QuoteRequestFeedSubscriber quoteRequestFeedSubscriber,
+            ChatActivitySubscriber chatActivitySubscriber,
+            NotificationPushSubscriber notificationPushSubscriber
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, channelTopic);
+        // 견적 요청 피드 채널
+        container.addMessageListener(quoteRequestFeedSubscriber, new ChannelTopic(QuoteRequestFeed.CHANNEL));
+        // 채팅 안 읽은 메시지 수/읽음 확인 채널
+        container.addMessageListener(chatActivitySubscriber, new ChannelTopic(ChatUnreadCounter.CHANNEL));
+        // SSE 알림 서버 간 전달 채널
+        container.addMessageListener(notificationPushSubscriber, new ChannelTopic(NotificationEventPublisher.CHANNEL));
         return container;
     }
 
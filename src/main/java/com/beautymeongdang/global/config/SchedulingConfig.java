@@ -0,0 +1,16 @@
+package com.beautymeongdang.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 정리 배치 등록 (scheduling.enabled=true 인 서버에서만)
+ * global/common/scheduler의 기존 정리 배치(탈퇴 회원/반려견/리뷰/결제/견적 삭제 등)는 데이터를 물리 삭제하므로 기본으로 끈다.
+ * 서비스 동작에 필요한 주기 작업은 BackgroundTaskScheduler로 이 설정과 관계없이 실행된다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
@@ -0,0 +1,22 @@
+package com.beautymeongdang.global.config;
+
+import com.beautymeongdang.domain.shop.service.ShopGeoIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 위치 인덱스가 비어 있으면 Shop 테이블로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShopGeoIndexInitializer implements CommandLineRunner {
+    private final ShopGeoIndex shopGeoIndex;
+
+    @Override
+    public void run(String... args) {
+        if (shopGeoIndex.isEmpty()) {
+            shopGeoIndex.rebuild();
+        }
+    }
+}
@@ -10,7 +10,6 @@ import com.beautymeongdang.global.common.entity.UploadedFile;
 import java.io.*;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -54,6 +53,8 @@ public class FileStore {
 
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(multipartFile.getContentType());
+        // 길이를 지정하지 않으면 S3 클라이언트가 전송 전에 파일 전체를 메모리에 올린다
+        objectMetadata.setContentLength(multipartFile.getSize());
 
         try (InputStream inputStream = multipartFile.getInputStream()) {
             amazonS3Client.putObject(bucketName, storeFileName, inputStream, objectMetadata);
@@ -64,6 +65,11 @@ public class FileStore {
         return amazonS3Client.getUrl(bucketName, storeFileName).toString();
     }
 
+    // 저장된 파일 키(경로+파일명)의 URL
+    public String getFileUrl(String storeFileName) {
+        return amazonS3Client.getUrl(bucketName, storeFileName).toString();
+    }
+
     public List<UploadedFile> storeFiles(List<MultipartFile> multipartFiles,String directory) {
 
         validateFileUploadCount(multipartFiles);
@@ -144,46 +150,4 @@ public class FileStore {
         }
     }
 
-
-    // 채팅 이미지 처리
-    public UploadedFile storeBase64File(String base64Image, String directory) {
-        try {
-            // Base64 데이터와 타입 추출
-            String[] parts = base64Image.split(",");
-            String base64Header = parts[0];
-            String base64Data = parts.length > 1 ? parts[1] : parts[0];
-
-            // 이미지 타입 추출 (예: jpeg, png, gif 등)
-            String contentType = "image/png";
-            String extension = "png";
-
-            if (base64Header.contains("image/")) {
-                contentType = base64Header.substring(base64Header.indexOf("image/"), base64Header.indexOf(";base64"));
-                extension = contentType.split("/")[1];
-            }
-
-            byte[] imageBytes = Base64.getDecoder().decode(base64Data);
-
-            String fileName = UUID.randomUUID() + "." + extension;
-            String storeFileName = directory + fileName;
-
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentType(contentType);
-            objectMetadata.setContentLength(imageBytes.length);
-
-            try (InputStream inputStream = new ByteArrayInputStream(imageBytes)) {
-                amazonS3Client.putObject(bucketName, storeFileName, inputStream, objectMetadata);
-            }
-
-            // UploadedFile 생성 및 URL 설정
-            UploadedFile uploadedFile = new UploadedFile(fileName, storeFileName);
-            uploadedFile.setFileUrl(amazonS3Client.getUrl(bucketName, storeFileName).toString());
-
-            return uploadedFile;
-
-        } catch (Exception e) {
-            throw new InternalServerException("이미지 업로드에 실패했습니다: " + e.getMessage());
-        }
-    }
-
 }
\ No newline at end of file
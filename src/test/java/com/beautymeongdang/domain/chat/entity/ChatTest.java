@@ -0,0 +1,29 @@
+package com.beautymeongdang.domain.chat.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatTest {
+
+    @Test
+    @DisplayName("미리보기는 글자 단위로 잘라 이모지를 깨뜨리지 않는다")
+    void toPreviewKeepsSurrogatePairs() {
+        String content = "a".repeat(Chat.LAST_MESSAGE_PREVIEW_LENGTH - 1) + "🐶🐶";
+
+        String preview = Chat.toPreview(content);
+
+        assertThat(preview).isEqualTo("a".repeat(Chat.LAST_MESSAGE_PREVIEW_LENGTH - 1) + "🐶");
+        assertThat(preview.codePointCount(0, preview.length())).isEqualTo(Chat.LAST_MESSAGE_PREVIEW_LENGTH);
+    }
+
+    @Test
+    @DisplayName("최대 글자 수 이하의 내용은 그대로 둔다")
+    void toPreviewKeepsShortContent() {
+        String content = "🐶".repeat(Chat.LAST_MESSAGE_PREVIEW_LENGTH);
+
+        assertThat(Chat.toPreview(content)).isEqualTo(content);
+        assertThat(Chat.toPreview(null)).isNull();
+    }
+}
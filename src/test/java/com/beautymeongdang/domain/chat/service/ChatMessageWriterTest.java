@@ -0,0 +1,181 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.entity.ChatMessage.MessageType;
+import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
+import com.beautymeongdang.domain.chat.service.ChatMessageWriter.PendingMessage;
+import com.beautymeongdang.domain.chat.service.ChatMessageWriter.QueuedMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageWriterTest {
+    private static final String INSERT_MESSAGES = "INSERT INTO chat_message (";
+    private static final Long FAILING_MESSAGE_ID = 2L;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ListOperations<String, String> listOperations;
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ChatMessageWriter chatMessageWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        listOperations = mock(ListOperations.class);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // 작업 스레드는 시작하지 않고 저장/ACK 단계만 호출
+        chatMessageWriter = new ChatMessageWriter(stringRedisTemplate, mock(ChatMessageRepository.class),
+                jdbcTemplate, mock(ChatSearchIndex.class), objectMapper, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 계속 실패하면 한 건씩 저장하고 실패한 메시지만 보관 목록에 남긴다")
+    void persistRowByRowAndDeadLetterFailingMessage() throws Exception {
+        failInsertsContaining(FAILING_MESSAGE_ID);
+
+        List<PendingMessage> done = chatMessageWriter.persist(List.of(message(1L), message(FAILING_MESSAGE_ID), message(3L)));
+
+        // 묶음 3회 + 한 건씩 3회, 보관한 메시지도 처리 완료
+        verify(jdbcTemplate, times(6)).update(startsWith(INSERT_MESSAGES), any(Object[].class));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(done).extracting(PendingMessage::messageId).containsExactly(1L, FAILING_MESSAGE_ID, 3L);
+
+        ArgumentCaptor<String> deadLetter = ArgumentCaptor.forClass(String.class);
+        verify(listOperations).rightPush(eq(ChatMessageWriter.DEAD_LETTER_KEY), deadLetter.capture());
+        JsonNode json = objectMapper.readTree(deadLetter.getValue());
+        assertThat(json.path("message").path("messageId").asLong()).isEqualTo(FAILING_MESSAGE_ID);
+        assertThat(json.path("message").path("content").asText()).isEqualTo("메시지 2");
+        assertThat(json.path("error").asText()).contains("저장 실패");
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 묶음 재시도로 저장하고 보관 목록에 남기지 않는다")
+    void persistRetriesBatchOnTransientFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(jdbcTemplate.update(startsWith(INSERT_MESSAGES), any(Object[].class))).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("일시적 실패");
+            }
+            return 2;
+        });
+
+        List<PendingMessage> done = chatMessageWriter.persist(List.of(message(1L), message(2L)));
+
+        assertThat(done).hasSize(2);
+        verify(jdbcTemplate, times(2)).update(startsWith(INSERT_MESSAGES), any(Object[].class));
+        verify(transactionManager, times(1)).commit(any());
+        verifyNoInteractions(listOperations);
+    }
+
+    @Test
+    @DisplayName("보관 목록 저장까지 실패한 메시지는 처리 완료로 보지 않는다")
+    void persistKeepsMessageWhenDeadLetterFails() {
+        failInsertsContaining(1L);
+        when(listOperations.rightPush(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+
+        List<PendingMessage> done = chatMessageWriter.persist(List.of(message(1L), message(2L)));
+
+        assertThat(done).extracting(PendingMessage::messageId).containsExactly(2L);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("저장 또는 보관된 메시지만 ACK하고, 보관에 실패한 메시지는 스트림에 남겨 다시 가져가게 한다")
+    @SuppressWarnings("unchecked")
+    void processAcksOnlyFinishedMessages() {
+        failInsertsContaining(1L);
+        when(listOperations.rightPush(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+        List<Object[]> scriptCalls = new ArrayList<>();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            scriptCalls.add(invocation.getArguments());
+            return 2L;
+        });
+
+        chatMessageWriter.process(List.of(
+                new QueuedMessage(RecordId.of("1-0"), message(1L)),
+                new QueuedMessage(RecordId.of("2-0"), message(2L)),
+                new QueuedMessage(RecordId.of("3-0"), null)));
+
+        assertThat(scriptCalls).hasSize(1);
+        List<Object> args = Arrays.asList(scriptCalls.get(0));
+        // 저장된 메시지 2와 변환에 실패한 항목만 ACK
+        assertThat(args).contains("2-0", "3-0").doesNotContain("1-0");
+    }
+
+    @Test
+    @DisplayName("다시 가져온 메시지 중 이미 저장된 메시지는 다시 저장하지 않는다")
+    void persistSkipsAlreadySavedMessages() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of(1L));
+        List<Object[]> inserts = new ArrayList<>();
+        when(jdbcTemplate.update(startsWith(INSERT_MESSAGES), any(Object[].class))).thenAnswer(invocation -> {
+            inserts.add(invocation.getArguments());
+            return 1;
+        });
+
+        chatMessageWriter.persist(List.of(message(1L), message(2L)));
+
+        assertThat(inserts).hasSize(1);
+        assertThat(Arrays.asList(inserts.get(0))).contains(2L).doesNotContain(1L);
+    }
+
+    @Test
+    @DisplayName("저장 대기열에 넣지 못하면 바로 저장한다")
+    @SuppressWarnings("unchecked")
+    void enqueueWritesDirectlyWhenRedisFails() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+        when(jdbcTemplate.update(startsWith(INSERT_MESSAGES), any(Object[].class))).thenReturn(1);
+
+        chatMessageWriter.enqueue(message(1L));
+
+        verify(jdbcTemplate).update(startsWith(INSERT_MESSAGES), any(Object[].class));
+        verify(transactionManager).commit(any());
+    }
+
+    // 해당 메시지가 포함된 INSERT는 항상 실패
+    private void failInsertsContaining(Long messageId) {
+        when(jdbcTemplate.update(startsWith(INSERT_MESSAGES), any(Object[].class))).thenAnswer(invocation -> {
+            if (Arrays.asList(invocation.getArguments()).contains(messageId)) {
+                throw new DataIntegrityViolationException("저장 실패");
+            }
+            return 1;
+        });
+    }
+
+    private PendingMessage message(Long messageId) {
+        return new PendingMessage(messageId, 10L, "메시지 " + messageId, true,
+                MessageType.TALK, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,95 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.repository.ChatSearchTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ChatSearchIndex.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chatsearch;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.test.database.replace=none"
+})
+class ChatSearchIndexTest {
+
+    @Autowired
+    private ChatSearchIndex chatSearchIndex;
+
+    @Autowired
+    private ChatSearchTokenRepository chatSearchTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("한 글자 검색어는 단어의 처음, 중간, 마지막 글자와 한 글자 단어를 모두 찾는다")
+    void searchSingleCharacter() {
+        chatSearchIndex.indexDocuments(List.of(
+                new ChatSearchIndex.Document(1L, null, "멍멍 미용실"),
+                new ChatSearchIndex.Document(2L, null, "행복 실"),
+                new ChatSearchIndex.Document(3L, null, "실내 미용"),
+                new ChatSearchIndex.Document(4L, null, "강아지 미용")));
+
+        ChatSearchIndex.SearchResult result = chatSearchIndex.search(List.of(1L, 2L, 3L, 4L), "실");
+
+        assertThat(result.roomChatIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색 범위에 없는 채팅방은 찾지 않는다")
+    void searchOnlyGivenChats() {
+        chatSearchIndex.indexDocuments(List.of(
+                new ChatSearchIndex.Document(1L, null, "미용실"),
+                new ChatSearchIndex.Document(2L, null, "미용실")));
+
+        assertThat(chatSearchIndex.search(List.of(2L), "용").roomChatIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 채팅방은 색인에서 제거한다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void removeDeletedChats() {
+        // 커밋 후 새 트랜잭션에서 제거하므로 색인도 커밋된 상태로 준비
+        chatSearchIndex.indexDocuments(List.of(
+                new ChatSearchIndex.Document(1L, null, "미용실"),
+                new ChatSearchIndex.Document(2L, null, "미용실")));
+
+        try {
+            chatSearchIndex.handleChatDeletedEvent(new ChatDeletedEvent(this, List.of(1L)));
+
+            assertThat(chatSearchTokenRepository.findAll()).allMatch(token -> token.getChatId().equals(2L));
+        } finally {
+            chatSearchTokenRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @DisplayName("글자 컬럼이 비어 있는 기존 토큰을 채운다")
+    void backfillCharacters() {
+        jdbcTemplate.update("INSERT INTO chat_search_token (chat_id, message_id, gram) VALUES (1, NULL, '미용'), (1, NULL, '실')");
+
+        chatSearchIndex.backfillCharacters();
+
+        assertThat(chatSearchIndex.search(List.of(1L), "용").roomChatIds()).containsExactly(1L);
+        assertThat(chatSearchIndex.search(List.of(1L), "실").roomChatIds()).containsExactly(1L);
+        assertThat(chatSearchTokenRepository.findAll())
+                .filteredOn(token -> token.getGram().equals("실"))
+                .allMatch(token -> token.getSecondChar() == null);
+    }
+}
@@ -0,0 +1,177 @@
+package com.beautymeongdang.domain.chat.service;
+
+import com.beautymeongdang.domain.chat.entity.ChatMessage.MessageType;
+import com.beautymeongdang.domain.chat.repository.ChatMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 안 읽은 메시지 수 Lua 스크립트 테스트 (Redis 필요, SPRING_REDIS_HOST/SPRING_REDIS_PORT 또는 localhost:6379에 연결되지 않으면 건너뜀)
+ */
+class ChatUnreadCounterTest {
+    private static final Long USER_ID = 900001L;
+    private static final Long OTHER_USER_ID = 900002L;
+    private static final Long CHAT_ID = 900003L;
+    private static final List<String> KEYS = List.of(
+            "chat:unread:" + USER_ID, "chat:unread:" + OTHER_USER_ID, "chat:unread:last:" + CHAT_ID,
+            "chat:unread:ids:" + USER_ID + ":" + CHAT_ID, "chat:unread:ids:" + OTHER_USER_ID + ":" + CHAT_ID);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private ChatMessageRepository chatMessageRepository;
+    private ObjectProvider<ChatMessageWriter> chatMessageWriterProvider;
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("SPRING_REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("SPRING_REDIS_PORT", "6379"))));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        boolean connected;
+        try {
+            connected = "PONG".equals(connectionFactory.getConnection().ping());
+        } catch (Exception e) {
+            connected = false;
+        }
+        Assumptions.assumeTrue(connected, "Redis에 연결할 수 없어 건너뜀");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate.delete(KEYS);
+        chatMessageRepository = Mockito.mock(ChatMessageRepository.class);
+        chatMessageWriterProvider = Mockito.mock(ObjectProvider.class);
+        chatUnreadCounter = new ChatUnreadCounter(stringRedisTemplate, new ObjectMapper(), chatMessageRepository,
+                chatMessageWriterProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(KEYS);
+    }
+
+    @Test
+    @DisplayName("메시지 전송 커밋 이벤트마다 상대방 안 읽은 수가 1씩 늘어난다")
+    void handleChatMessageSentEventIncrements() {
+        chatUnreadCounter.handleChatMessageSentEvent(new ChatMessageSentEvent(this, USER_ID, CHAT_ID, 1L));
+        chatUnreadCounter.handleChatMessageSentEvent(new ChatMessageSentEvent(this, USER_ID, CHAT_ID, 2L));
+
+        assertThat(chatUnreadCounter.getUnreadCounts(USER_ID)).containsEntry(CHAT_ID, 2L);
+        assertThat(chatUnreadCounter.getUnreadCounts(OTHER_USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 메시지까지 읽으면 DB를 다시 세지 않고 초기화한다")
+    void markReadLatestClears() {
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 2L);
+
+        long unreadCount = chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 2L);
+
+        assertThat(unreadCount).isZero();
+        assertThat(chatUnreadCounter.getUnreadCounts(USER_ID)).doesNotContainKey(CHAT_ID);
+        assertThat(stringRedisTemplate.hasKey("chat:unread:ids:" + USER_ID + ":" + CHAT_ID)).isFalse();
+        Mockito.verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("중간 메시지까지 읽으면 마지막 메시지 ID까지 일반 메시지만 DB에서 다시 센다")
+    void markReadMiddleRecountsUpToLastMessage() {
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 2L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 3L);
+        when(chatMessageRepository.countMessagesBetween(CHAT_ID, 1L, 3L, false, MessageType.TALK)).thenReturn(2L);
+
+        long unreadCount = chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 1L);
+
+        assertThat(unreadCount).isEqualTo(2L);
+        assertThat(chatUnreadCounter.getUnreadCounts(USER_ID)).containsEntry(CHAT_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("다시 세는 동안 커밋된 메시지는 상한 밖이라 DB에서 세지 않고 증가분으로 한 번만 센다")
+    void markReadCountsMessageCommittedDuringRecountOnce() {
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 2L);
+        // 상한(2) 이후 메시지 3은 DB에 있어도 세지 않음
+        when(chatMessageRepository.countMessagesBetween(CHAT_ID, 1L, 2L, false, MessageType.TALK)).thenAnswer(invocation -> {
+            // 다시 세는 중에 메시지 3 커밋 후 증가
+            chatUnreadCounter.increment(USER_ID, CHAT_ID, 3L);
+            return 1L;
+        });
+
+        long unreadCount = chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 1L);
+
+        assertThat(unreadCount).isEqualTo(2L);
+        assertThat(chatUnreadCounter.getUnreadCounts(USER_ID)).containsEntry(CHAT_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("다시 센 뒤에 도착한 증가는 그대로 더해진다")
+    void markReadThenIncrement() {
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 2L);
+        when(chatMessageRepository.countMessagesBetween(CHAT_ID, 1L, 2L, false, MessageType.TALK)).thenReturn(1L);
+
+        chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 3L);
+
+        assertThat(chatUnreadCounter.getUnreadCounts(USER_ID)).containsEntry(CHAT_ID, 2L);
+
+        // 다음 읽음 처리의 상한 이후 증가분에는 이미 읽은 메시지가 남지 않음
+        when(chatMessageRepository.countMessagesBetween(CHAT_ID, 2L, 3L, false, MessageType.TALK)).thenReturn(1L);
+        assertThat(chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 2L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("지연 저장 모드에서 저장 대기 중인 메시지는 대기 목록으로 세고 DB에서는 제외한다")
+    void markReadCountsPendingMessages() {
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 2L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 3L);
+        ChatMessageWriter chatMessageWriter = Mockito.mock(ChatMessageWriter.class);
+        when(chatMessageWriterProvider.getIfAvailable()).thenReturn(chatMessageWriter);
+        // 메시지 3은 아직 저장 대기 중 (본인이 보낸 메시지와 입장 메시지는 세지 않음)
+        when(chatMessageWriter.findPending(CHAT_ID, 1L, 3L)).thenReturn(List.of(
+                new ChatMessageWriter.PendingRef(3L, false, MessageType.TALK)));
+        when(chatMessageRepository.countMessagesBetweenExcluding(CHAT_ID, 1L, 3L, List.of(3L), false, MessageType.TALK))
+                .thenReturn(1L);
+
+        long unreadCount = chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 1L);
+
+        assertThat(unreadCount).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다시 센 수가 0이면 항목을 지운다")
+    void markReadRecountZeroDeletes() {
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 1L);
+        chatUnreadCounter.increment(USER_ID, CHAT_ID, 2L);
+        when(chatMessageRepository.countMessagesBetween(CHAT_ID, 1L, 2L, false, MessageType.TALK)).thenReturn(0L);
+
+        long unreadCount = chatUnreadCounter.markRead(USER_ID, true, OTHER_USER_ID, CHAT_ID, 1L);
+
+        assertThat(unreadCount).isZero();
+        assertThat(stringRedisTemplate.opsForHash().hasKey("chat:unread:" + USER_ID, String.valueOf(CHAT_ID))).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.beautymeongdang.domain.notification.service;
+
+import com.beautymeongdang.domain.notification.entity.NotificationOutbox;
+import com.beautymeongdang.domain.notification.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxRelayTest {
+    private static final int MAX_ATTEMPTS = 10;
+
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private NotificationService notificationService;
+    private NotificationOutboxRelay notificationOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        notificationService = mock(NotificationService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        notificationOutboxRelay = new NotificationOutboxRelay(notificationOutboxRepository, notificationService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("발송한 알림만 삭제하고, 실패한 알림은 재시도 시각을 늦춰 남긴다")
+    void relayDeletesDispatchedAndDelaysFailed() {
+        NotificationOutbox success = outbox(1L);
+        NotificationOutbox failure = outbox(2L);
+        when(notificationOutboxRepository.findDispatchable(any(), any())).thenReturn(List.of(success, failure));
+        doThrow(new IllegalStateException("발송 실패")).when(notificationService)
+                .saveNotification(anyString(), eq(2L), anyString(), anyString(), anyString());
+
+        LocalDateTime before = LocalDateTime.now();
+        notificationOutboxRelay.relay();
+
+        verify(notificationOutboxRepository).deleteAllInBatch(List.of(success));
+        assertThat(success.getAttempts()).isZero();
+        assertThat(failure.getAttempts()).isEqualTo(1);
+        assertThat(failure.getFailed()).isFalse();
+        assertThat(failure.getNextAttemptAt()).isCloseTo(before.plusSeconds(5), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("한 묶음을 모두 처리하면 남은 알림을 이어서 발송한다")
+    void relayContinuesWhileBatchIsFull() {
+        List<NotificationOutbox> fullBatch = IntStream.rangeClosed(1, 100)
+                .mapToObj(userId -> outbox((long) userId))
+                .toList();
+        when(notificationOutboxRepository.findDispatchable(any(), any())).thenReturn(fullBatch, List.of(outbox(101L)));
+
+        notificationOutboxRelay.relay();
+
+        verify(notificationOutboxRepository, times(2)).findDispatchable(any(), any());
+        verify(notificationService, times(101)).saveNotification(anyString(), anyLong(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다시 발송되어도 같은 알림으로 저장되도록 아웃박스 ID로 알림 ID를 정한다")
+    void relayUsesOutboxIdAsNotificationId() {
+        NotificationOutbox outbox = outbox(1L);
+        when(notificationOutboxRepository.findDispatchable(any(), any())).thenReturn(List.of(outbox), List.of(outbox));
+
+        // 삭제 전에 중단된 것처럼 같은 행을 두 번 발송
+        notificationOutboxRelay.relay();
+        notificationOutboxRelay.relay();
+
+        verify(notificationService, times(2)).saveNotification("outbox-1", 1L, "customer", "RESERVATION", "알림 내용 1");
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 5초부터 두 배씩 늘어나 최대 10분이다")
+    void failAttemptBacksOffExponentially() {
+        NotificationOutbox outbox = outbox(1L);
+        long[] expectedSeconds = {5, 10, 20, 40, 80, 160, 320, 600, 600};
+
+        for (long seconds : expectedSeconds) {
+            LocalDateTime before = LocalDateTime.now();
+            outbox.failAttempt(MAX_ATTEMPTS);
+            assertThat(outbox.getNextAttemptAt()).isCloseTo(before.plusSeconds(seconds), within(1, ChronoUnit.SECONDS));
+            assertThat(outbox.getFailed()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 횟수만큼 실패하면 failed로 남긴다")
+    void failAttemptMarksFailedAtMaxAttempts() {
+        NotificationOutbox outbox = outbox(1L);
+
+        IntStream.range(0, MAX_ATTEMPTS - 1).forEach(i -> outbox.failAttempt(MAX_ATTEMPTS));
+        assertThat(outbox.getFailed()).isFalse();
+
+        outbox.failAttempt(MAX_ATTEMPTS);
+        assertThat(outbox.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(outbox.getFailed()).isTrue();
+    }
+
+    private NotificationOutbox outbox(Long userId) {
+        NotificationOutbox outbox = NotificationOutbox.of(userId, "customer", "RESERVATION", "알림 내용 " + userId);
+        ReflectionTestUtils.setField(outbox, "outboxId", userId);
+        return outbox;
+    }
+}
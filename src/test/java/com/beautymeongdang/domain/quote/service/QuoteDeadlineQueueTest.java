@@ -0,0 +1,134 @@
+package com.beautymeongdang.domain.quote.service;
+
+import com.beautymeongdang.domain.quote.repository.QuoteRepository;
+import com.beautymeongdang.domain.quote.repository.QuoteRequestRepository;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue.Deadline;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue.Type;
+import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마감 큐 Lua 스크립트 테스트 (Redis 필요, SPRING_REDIS_HOST/SPRING_REDIS_PORT 또는 localhost:6379에 연결되지 않으면 건너뜀)
+ */
+class QuoteDeadlineQueueTest {
+    private static final String KEY = "quote:deadline";
+    private static final String PROCESSING_KEY = "quote:deadline:processing";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private QuoteDeadlineQueue quoteDeadlineQueue;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("SPRING_REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("SPRING_REDIS_PORT", "6379"))));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        boolean connected;
+        try {
+            connected = "PONG".equals(connectionFactory.getConnection().ping());
+        } catch (Exception e) {
+            connected = false;
+        }
+        Assumptions.assumeTrue(connected, "Redis에 연결할 수 없어 건너뜀");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(KEY, PROCESSING_KEY));
+        quoteDeadlineQueue = new QuoteDeadlineQueue(stringRedisTemplate,
+                Mockito.mock(QuoteRequestRepository.class), Mockito.mock(QuoteRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(KEY, PROCESSING_KEY));
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지난 항목만 가져가고, 가져간 항목은 임대 중에 다시 가져가지 않는다")
+    void claimDueLeasesDueItems() {
+        Deadline due = new Deadline(Type.REQUEST_EXPIRE, 1L);
+        Deadline notDue = new Deadline(Type.QUOTE_EXPIRE, 2L);
+        quoteDeadlineQueue.schedule(due, LocalDateTime.now().minusMinutes(1));
+        quoteDeadlineQueue.schedule(notDue, LocalDateTime.now().plusHours(1));
+
+        assertThat(quoteDeadlineQueue.claimDue(10)).containsExactly(due);
+        assertThat(quoteDeadlineQueue.claimDue(10)).isEmpty();
+        assertThat(stringRedisTemplate.opsForZSet().score(PROCESSING_KEY, "REQUEST_EXPIRE:1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("처리 완료하면 처리 중 목록에서 지운다")
+    void completeRemovesLease() {
+        Deadline deadline = new Deadline(Type.REQUEST_EXPIRE, 1L);
+        quoteDeadlineQueue.schedule(deadline, LocalDateTime.now().minusMinutes(1));
+        quoteDeadlineQueue.claimDue(10);
+
+        quoteDeadlineQueue.complete(deadline);
+
+        assertThat(stringRedisTemplate.opsForZSet().zCard(PROCESSING_KEY)).isZero();
+        assertThat(stringRedisTemplate.opsForZSet().zCard(KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("처리 실패로 재등록한 항목은 재시도 시각이 지나면 다시 가져간다")
+    void retryRequeuesClaimedItem() {
+        Deadline deadline = new Deadline(Type.DIRECT_UNPAID, 3L);
+        quoteDeadlineQueue.schedule(deadline, LocalDateTime.now().minusMinutes(1));
+        quoteDeadlineQueue.claimDue(10);
+
+        quoteDeadlineQueue.retry(deadline, Duration.ZERO);
+
+        assertThat(stringRedisTemplate.opsForZSet().score(PROCESSING_KEY, "DIRECT_UNPAID:3")).isNull();
+        assertThat(quoteDeadlineQueue.claimDue(10)).containsExactly(deadline);
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 처리 중 항목(처리 중 서버 중단)은 다음 가져가기에서 다시 가져간다")
+    void claimDueRequeuesExpiredLease() {
+        stringRedisTemplate.opsForZSet().add(PROCESSING_KEY, "QUOTE_EXPIRE:4", System.currentTimeMillis() - 1000);
+
+        assertThat(quoteDeadlineQueue.claimDue(10)).containsExactly(new Deadline(Type.QUOTE_EXPIRE, 4L));
+    }
+
+    @Test
+    @DisplayName("일괄 등록은 대기 중이거나 처리 중인 항목을 덮어쓰지 않는다")
+    void scheduleAllIfAbsentKeepsExistingItems() {
+        Deadline claimed = new Deadline(Type.REQUEST_EXPIRE, 1L);
+        Deadline retried = new Deadline(Type.REQUEST_EXPIRE, 2L);
+        Deadline fresh = new Deadline(Type.REQUEST_EXPIRE, 3L);
+        quoteDeadlineQueue.schedule(claimed, LocalDateTime.now().minusMinutes(1));
+        quoteDeadlineQueue.claimDue(10);
+        quoteDeadlineQueue.schedule(retried, LocalDateTime.now().plusMinutes(1));
+        Double retryScore = stringRedisTemplate.opsForZSet().score(KEY, "REQUEST_EXPIRE:2");
+
+        long added = quoteDeadlineQueue.scheduleAllIfAbsent(Map.of(
+                claimed, LocalDateTime.now().minusDays(1),
+                retried, LocalDateTime.now().minusDays(1),
+                fresh, LocalDateTime.now().plusDays(1)));
+
+        assertThat(added).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForZSet().score(KEY, "REQUEST_EXPIRE:1")).isNull();
+        assertThat(stringRedisTemplate.opsForZSet().score(KEY, "REQUEST_EXPIRE:2")).isEqualTo(retryScore);
+        assertThat(stringRedisTemplate.opsForZSet().score(KEY, "REQUEST_EXPIRE:3")).isNotNull();
+    }
+}
@@ -0,0 +1,52 @@
+package com.beautymeongdang.domain.review.repository;
+
+import com.beautymeongdang.domain.review.entity.GroomerRatingSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// insertIfAbsent는 MySQL 전용 구문이므로 H2 MySQL 호환 모드에서 확인
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rating;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.test.database.replace=none"
+})
+class GroomerRatingSummaryRepositoryTest {
+
+    @Autowired
+    private GroomerRatingSummaryRepository groomerRatingSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("집계 행이 없으면 빈 집계로 만들고, 이미 있으면 그대로 둔다")
+    void insertIfAbsent() {
+        assertThat(groomerRatingSummaryRepository.insertIfAbsent(1L)).isEqualTo(1);
+        GroomerRatingSummary summary = groomerRatingSummaryRepository.findByIdForUpdate(1L).orElseThrow();
+        assertThat(summary.getReviewCount()).isZero();
+
+        summary.add(new BigDecimal("4.5"), 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(groomerRatingSummaryRepository.insertIfAbsent(1L)).isZero();
+        GroomerRatingSummary current = groomerRatingSummaryRepository.findById(1L).orElseThrow();
+        assertThat(current.getReviewCount()).isEqualTo(3);
+        assertThat(current.getStarSum()).isEqualByComparingTo("13.5");
+        assertThat(current.getStarAverage()).isEqualTo(4.5);
+        assertThat(current.getFiveStarCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,154 @@
+package com.beautymeongdang.domain.shop.repository;
+
+import com.beautymeongdang.domain.shop.entity.Shop;
+import com.beautymeongdang.domain.user.entity.Groomer;
+import com.beautymeongdang.domain.user.entity.User;
+import com.beautymeongdang.global.region.entity.Sido;
+import com.beautymeongdang.global.region.entity.Sigungu;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shop;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.test.database.replace=none"
+})
+class ShopRepositoryTest {
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long sigunguId;
+    private Shop shopA;
+    private Shop shopB;
+    private Shop shopC;
+    private Shop shopD;
+    private Shop shopE;
+
+    @BeforeEach
+    void setUp() {
+        Sido sido = entityManager.persist(Sido.builder().sidoName("서울특별시").build());
+        Sigungu sigungu = entityManager.persist(Sigungu.builder().sidoId(sido).sigunguName("강남구").build());
+        Sigungu otherSigungu = entityManager.persist(Sigungu.builder().sidoId(sido).sigunguName("서초구").build());
+        sigunguId = sigungu.getSigunguId();
+
+        // 별점/리뷰 수가 같은 매장은 매장 ID 내림차순
+        shopA = createShop(sigungu, "A", "4.50", 10);
+        shopB = createShop(sigungu, "B", "4.50", 10);
+        shopC = createShop(sigungu, "C", "4.50", 3);
+        shopD = createShop(sigungu, "D", "3.00", 50);
+        shopE = createShop(sigungu, "E", null, null);
+
+        // 다른 시군구, 삭제된 매장은 제외
+        createShop(otherSigungu, "F", "5.00", 100);
+        Shop deleted = createShop(sigungu, "G", "5.00", 100);
+        deleted.delete();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("시군구 매장 목록은 별점, 리뷰 수, 매장 ID 내림차순으로 정렬된다")
+    void findShopsBySigunguOrderByRating() {
+        List<Shop> shops = shopRepository.findShopsBySigunguOrderByRating(sigunguId);
+
+        assertThat(shops).extracting(Shop::getShopId)
+                .containsExactly(shopB.getShopId(), shopA.getShopId(), shopC.getShopId(),
+                        shopD.getShopId(), shopE.getShopId());
+        assertThat(shops.get(4).getStarScore()).isEqualByComparingTo("0");
+        assertThat(shops.get(4).getReviewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 다음 페이지는 마지막 매장 이후부터 중복/누락 없이 이어진다")
+    void findShopsBySigunguAfterCursor() {
+        List<Shop> firstPage = shopRepository.findShopsBySigunguFirstPage(sigunguId, Limit.of(2));
+        assertThat(firstPage).extracting(Shop::getShopId)
+                .containsExactly(shopB.getShopId(), shopA.getShopId());
+
+        // 별점/리뷰 수가 같은 매장(A) 다음은 매장 ID로 이어짐
+        List<Shop> secondPage = nextPage(firstPage.get(1), 2);
+        assertThat(secondPage).extracting(Shop::getShopId)
+                .containsExactly(shopC.getShopId(), shopD.getShopId());
+
+        List<Shop> lastPage = nextPage(secondPage.get(1), 2);
+        assertThat(lastPage).extracting(Shop::getShopId)
+                .containsExactly(shopE.getShopId());
+
+        assertThat(nextPage(lastPage.get(0), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 미용사를 함께 조회한다")
+    void findShopsBySigunguFirstPageFetchesGroomer() {
+        List<Shop> shops = shopRepository.findShopsBySigunguFirstPage(sigunguId, Limit.of(1));
+
+        assertThat(shops).hasSize(1);
+        assertThat(entityManager.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil()
+                .isLoaded(shops.get(0), "groomerId")).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답의 별점으로 만든 커서도 같은 별점 매장 사이에서 정확히 이어진다")
+    void findShopsBySigunguAfterResponseCursor() {
+        Sigungu sigungu = entityManager.find(Sigungu.class, sigunguId);
+        // 13 / 3 = 4.333... 은 4.33으로 저장
+        Shop first = createShop(sigungu, "H", "4.33", 3);
+        Shop second = createShop(sigungu, "I", "4.33", 3);
+        entityManager.clear();
+
+        // 클라이언트는 응답의 별점(double)을 그대로 커서로 보냄
+        BigDecimal cursorScore = BigDecimal.valueOf(shopRepository.findById(second.getShopId()).orElseThrow()
+                .getStarScore().doubleValue());
+
+        List<Shop> next = shopRepository.findShopsBySigunguAfterCursor(sigunguId, cursorScore, 3, second.getShopId(), Limit.of(1));
+        assertThat(next).extracting(Shop::getShopId).containsExactly(first.getShopId());
+    }
+
+    private List<Shop> nextPage(Shop last, int size) {
+        return shopRepository.findShopsBySigunguAfterCursor(sigunguId,
+                last.getStarScore(), last.getReviewCount(), last.getShopId(), Limit.of(size));
+    }
+
+    private Shop createShop(Sigungu sigungu, String name, String starScore, Integer reviewCount) {
+        User user = entityManager.persist(User.builder()
+                .userName("미용사" + name)
+                .email(name + "@test.com")
+                .nickname("미용사" + name)
+                .providerId("provider" + name)
+                .build());
+        Groomer groomer = entityManager.persist(Groomer.builder().userId(user).skill("전체 미용").build());
+        Shop shop = entityManager.persist(Shop.builder()
+                .groomerId(groomer)
+                .sigunguId(sigungu)
+                .shopName("매장" + name)
+                .build());
+        entityManager.flush();
+
+        // 정렬 컬럼은 리뷰 집계가 바뀔 때만 갱신 (기본값 0)
+        if (starScore != null) {
+            shopRepository.updateRating(groomer.getGroomerId(), new BigDecimal(starScore), reviewCount);
+        }
+        return shop;
+    }
+}
@@ -0,0 +1,92 @@
+package com.beautymeongdang.global.common.scheduler.quote;
+
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineProcessor;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue.Deadline;
+import com.beautymeongdang.domain.quote.service.QuoteDeadlineQueue.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+// 일부 마감만 실패하도록 인자별로 스텁
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QuoteDeadlineScheduledServiceTest {
+
+    @Mock
+    private QuoteDeadlineQueue quoteDeadlineQueue;
+
+    @Mock
+    private QuoteDeadlineProcessor quoteDeadlineProcessor;
+
+    @InjectMocks
+    private QuoteDeadlineScheduledService quoteDeadlineScheduledService;
+
+    @Test
+    @DisplayName("처리에 성공한 마감은 완료하고, 실패한 마감은 완료하지 않고 재등록한다")
+    void processDueDeadlinesCompletesOrRetries() {
+        Deadline success = new Deadline(Type.REQUEST_EXPIRE, 1L);
+        Deadline failure = new Deadline(Type.QUOTE_EXPIRE, 2L);
+        when(quoteDeadlineQueue.claimDue(anyInt())).thenReturn(List.of(success, failure));
+        doThrow(new IllegalStateException("처리 실패")).when(quoteDeadlineProcessor).process(failure);
+
+        quoteDeadlineScheduledService.processDueDeadlines();
+
+        verify(quoteDeadlineQueue).complete(success);
+        verify(quoteDeadlineQueue, never()).complete(failure);
+        verify(quoteDeadlineQueue).retry(eq(failure), any(Duration.class));
+        verify(quoteDeadlineQueue, never()).retry(eq(success), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("가져온 마감이 한 묶음을 채우면 남은 마감을 이어서 가져온다")
+    void processDueDeadlinesClaimsUntilShortBatch() {
+        List<Deadline> fullBatch = deadlines(Type.REQUEST_EXPIRE, 1, 100);
+        when(quoteDeadlineQueue.claimDue(anyInt())).thenReturn(fullBatch, List.of());
+
+        quoteDeadlineScheduledService.processDueDeadlines();
+
+        verify(quoteDeadlineQueue, times(2)).claimDue(anyInt());
+        verify(quoteDeadlineProcessor, times(100)).process(any());
+        verify(quoteDeadlineQueue, times(100)).complete(any());
+    }
+
+    @Test
+    @DisplayName("DB 보정은 마지막 ID 이후로 이어서 조회하고, 실패한 항목이 있어도 나머지를 처리한다")
+    void sweepOverdueDeadlinesPagesByLastId() {
+        List<Deadline> firstPage = deadlines(Type.REQUEST_EXPIRE, 1, 100);
+        Deadline quote = new Deadline(Type.QUOTE_EXPIRE, 7L);
+        when(quoteDeadlineQueue.findOverdue(any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(quoteDeadlineQueue.findOverdue(eq(Type.REQUEST_EXPIRE), any(), eq(0L), anyInt())).thenReturn(firstPage);
+        when(quoteDeadlineQueue.findOverdue(eq(Type.QUOTE_EXPIRE), any(), eq(0L), anyInt())).thenReturn(List.of(quote));
+        doThrow(new IllegalStateException("처리 실패")).when(quoteDeadlineProcessor).process(firstPage.get(4));
+
+        quoteDeadlineScheduledService.sweepOverdueDeadlines();
+
+        verify(quoteDeadlineQueue).findOverdue(eq(Type.REQUEST_EXPIRE), any(), eq(100L), anyInt());
+        verify(quoteDeadlineQueue).findOverdue(eq(Type.DIRECT_UNPAID), any(), eq(0L), anyInt());
+        verify(quoteDeadlineQueue, never()).findOverdue(eq(Type.QUOTE_EXPIRE), any(), eq(7L), anyInt());
+        verify(quoteDeadlineProcessor, times(101)).process(any());
+        // 보정은 큐를 거치지 않음
+        verify(quoteDeadlineQueue, never()).complete(any());
+        verify(quoteDeadlineQueue, never()).retry(any(), any());
+    }
+
+    private List<Deadline> deadlines(Type type, long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(targetId -> new Deadline(type, targetId))
+                .toList();
+    }
+}